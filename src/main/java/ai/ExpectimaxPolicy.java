@@ -0,0 +1,322 @@
+package ai;
+
+import model.Game;
+import model.GameState;
+import model.Occupancy;
+import model.Piece;
+import model.YutResult;
+import simulation.Move;
+import simulation.MovePolicy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * 실제 윷 확률(64가지 중 빽도 1, 도 16, 개 24, 걸 16, 윷 4, 모 3)로 기대값을 계산하는 컴퓨터 플레이어.
+ *
+ * 결정 노드는 현재 플레이어가 (남은 결과, 말) 을 고르는 곳이고, 우연 노드는 윷을 던지는 곳입니다.
+ * 윷/모가 나오면 같은 플레이어가 한 번 더 던지고, 잡으면 보너스 던지기가 이어집니다.
+ * 상대가 여럿이면 모두 한 편으로 보고(paranoid) 두 편 게임으로 바꿔 알파-베타와
+ * Star1/Star2 가지치기를 적용합니다. 시간 예산 안에서 깊이를 하나씩 늘려 가며 찾고,
+ * 시간이 다 되면 마지막으로 끝까지 본 깊이의 최선 수를 돌려줍니다.
+ *
+ * 결정 노드의 값은 (위치 해시, 남은 결과, 누구 편에서 본 값인지) 를 키로 {@link TranspositionTable} 에 남겨
+ * 수순만 다르고 같은 위치에 다시 오면 이어 쓰고, 깊이를 늘릴 때는 지난 최선 수를 먼저 봅니다.
+ *
+ * {@link Tablebase} 를 주면 표에 든 종반 위치는 휴리스틱 대신 정확한 승률로 평가합니다.
+ */
+public final class ExpectimaxPolicy implements MovePolicy {
+    public static final long DEFAULT_BUDGET_MILLIS = 150;
+    public static final int DEFAULT_MAX_DEPTH = 8;
+
+    /** 평가값 범위: 이기면 +WIN, 지면 -WIN, 그 사이는 휴리스틱 */
+    static final double WIN = 1_000;
+    private static final double DISTANCE_WEIGHT = 4;
+    /** 탐색 중 윷/모 연속 던지기를 펼치는 횟수 (그 뒤의 윷/모는 마지막 던지기로 취급) */
+    private static final int MAX_EXTRA_THROWS = 2;
+    /** 확률이 큰 결과부터 펼쳐야 Star1 가지치기가 일찍 일어남 */
+    private static final YutResult[] THROWS = {
+            YutResult.GAE, YutResult.DO, YutResult.GEOL, YutResult.YUT, YutResult.MO, YutResult.BACKDO };
+    /** 치환표 칸 수 (칸당 16바이트) */
+    private static final int TABLE_ENTRIES = 1 << 18;
+    /** 같은 위치라도 어느 플레이어 편에서 본 값인지 구분하는 키 */
+    private static final long PERSPECTIVE = 0x5EED_0F_A11_0DDL;
+
+    private final int maxDepth;
+    private final long budgetNanos;
+    private final TranspositionTable table = new TranspositionTable(TABLE_ENTRIES);
+    private final Tablebase tablebase;   // null 가능
+
+    public ExpectimaxPolicy() {
+        this(DEFAULT_MAX_DEPTH, DEFAULT_BUDGET_MILLIS);
+    }
+
+    /**
+     * @param maxDepth     최대 탐색 깊이 (결정 노드 수)
+     * @param budgetMillis 한 수를 고르는 데 쓸 시간
+     */
+    public ExpectimaxPolicy(int maxDepth, long budgetMillis) {
+        this(maxDepth, budgetMillis, null);
+    }
+
+    /**
+     * @param tablebase 종반 승률표 (null 이면 휴리스틱만 씀)
+     */
+    public ExpectimaxPolicy(int maxDepth, long budgetMillis, Tablebase tablebase) {
+        if (maxDepth < 1) throw new IllegalArgumentException("탐색 깊이는 1 이상이어야 합니다: " + maxDepth);
+        this.maxDepth = maxDepth;
+        this.budgetNanos = budgetMillis * 1_000_000L;
+        this.tablebase = tablebase;
+    }
+
+    @Override
+    public Move choose(Game game, List<YutResult> pending, RandomGenerator rand) {
+        GameState root = GameState.of(game);
+        table.newSearch();
+        Search search = new Search(root, System.nanoTime() + budgetNanos, table, tablebase);
+        Child best = search.run(Pending.of(pending), maxDepth);
+        List<Piece> pieces = game.getCurrentPlayer().getPieces();
+        return new Move(best.result, pieces.get(best.piece % root.getPiecesPerPlayer()));
+    }
+
+    /** 시간 예산이 끝났음을 알리는 신호 (스택 추적 없음) */
+    private static final class Timeout extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        Timeout() {
+            super(null, null, false, false);
+        }
+    }
+
+    private static final Timeout TIMEOUT = new Timeout();
+
+    /** 결정 노드에서 고를 수 있는 수 하나와 그 결과 상태 */
+    private static final class Child {
+        final YutResult result;
+        final int piece;
+        final int pendingLeft;
+        final GameState next;
+        final double order;
+
+        Child(YutResult result, int piece, int pendingLeft, GameState next, double order) {
+            this.result = result;
+            this.piece = piece;
+            this.pendingLeft = pendingLeft;
+            this.next = next;
+            this.order = order;
+        }
+    }
+
+    /** 한 번의 choose 호출 동안만 쓰는 탐색 상태 */
+    private static final class Search {
+        private final GameState root;
+        private final int me;
+        private final long deadline;
+        private final TranspositionTable table;
+        private final Tablebase tablebase;
+        private final long perspective;
+        private long nodes;
+
+        Search(GameState root, long deadline, TranspositionTable table, Tablebase tablebase) {
+            this.root = root;
+            this.me = root.getTurn();
+            this.deadline = deadline;
+            this.table = table;
+            this.tablebase = tablebase;
+            this.perspective = PERSPECTIVE * (me + 1);
+        }
+
+        Child run(int pending, int maxDepth) {
+            List<Child> moves = children(root, pending, true);
+            Child best = moves.get(0);   // 깊이 1도 못 끝내면 정적 평가 1등
+            for (int depth = 1; depth <= maxDepth; depth++) {
+                try {
+                    Child found = null;
+                    double alpha = -WIN;
+                    for (Child c : moves) {
+                        double v = afterMove(c, me, depth - 1, alpha, WIN);
+                        if (found == null || v > alpha) {
+                            alpha = v;
+                            found = c;
+                        }
+                    }
+                    best = found;
+                    if (alpha >= WIN) break;   // 이기는 길을 찾음
+                } catch (Timeout t) {
+                    break;
+                }
+            }
+            return best;
+        }
+
+        // ───────────── 결정 노드 ─────────────
+
+        private double decide(GameState s, int pending, int depth, double alpha, double beta, boolean probe) {
+            if (depth == 0) return evaluate(s);
+            tick();
+            int player = s.getTurn();
+            boolean max = player == me;
+
+            // 1) 치환표: 충분히 깊게 본 값이면 그대로, 아니면 그때의 최선 수만 먼저 보도록
+            long key = s.zobrist() ^ Pending.zobrist(pending) ^ perspective;
+            long entry = table.probe(key);
+            int hint = TranspositionTable.NO_MOVE;
+            if (entry != TranspositionTable.MISS) {
+                hint = TranspositionTable.move(entry);
+                if (TranspositionTable.depth(entry) >= depth) {
+                    double v = TranspositionTable.score(entry);
+                    int bound = TranspositionTable.bound(entry);
+                    if (bound == TranspositionTable.EXACT
+                            || (bound == TranspositionTable.LOWER && v >= beta)
+                            || (bound == TranspositionTable.UPPER && v <= alpha)) return v;
+                }
+            }
+            List<Child> moves = children(s, pending, max);
+            if (hint != TranspositionTable.NO_MOVE) promote(moves, hint, s.getPiecesPerPlayer());
+
+            // 2) 알파-베타
+            double alphaIn = alpha, betaIn = beta;
+            double best = max ? -WIN : WIN;
+            Child bestMove = null;
+            for (Child c : moves) {
+                double v = afterMove(c, player, depth - 1, alpha, beta);
+                if (max ? v > best : v < best) {
+                    best = v;
+                    bestMove = c;
+                }
+                if (probe) return best;   // Star2 탐침: 첫 수만 보면 max 는 하한, min 은 상한 (표에는 남기지 않음)
+                if (max) {
+                    if (best >= beta) break;
+                    if (best > alpha) alpha = best;
+                } else {
+                    if (best <= alpha) break;
+                    if (best < beta) beta = best;
+                }
+            }
+
+            // 3) 잘렸으면 한쪽 경계, 끝까지 봤으면 정확한 값
+            int bound = best >= betaIn ? TranspositionTable.LOWER
+                    : best <= alphaIn ? TranspositionTable.UPPER : TranspositionTable.EXACT;
+            int move = bestMove == null ? TranspositionTable.NO_MOVE : encode(bestMove, s.getPiecesPerPlayer());
+            table.store(key, best, depth, bound, move);
+            return best;
+        }
+
+        private static int encode(Child c, int perPlayer) {
+            return c.result.ordinal() * Occupancy.MAX_PIECES + c.piece % perPlayer;
+        }
+
+        /** 치환표가 알려 준 수를 맨 앞으로 */
+        private static void promote(List<Child> moves, int move, int perPlayer) {
+            for (int i = 1; i < moves.size(); i++) {
+                if (encode(moves.get(i), perPlayer) == move) {
+                    moves.add(0, moves.remove(i));
+                    return;
+                }
+            }
+        }
+
+        private double afterMove(Child c, int player, int depth, double alpha, double beta) {
+            GameState next = c.next;
+            if (next.isWin(player)) return player == me ? WIN : -WIN;
+            if (next.hasBonusThrow()) return chance(next, c.pendingLeft, depth, MAX_EXTRA_THROWS, alpha, beta);
+            if (c.pendingLeft == 0) return chance(next.nextTurn(), 0, depth, MAX_EXTRA_THROWS, alpha, beta);
+            return decide(next, c.pendingLeft, depth, alpha, beta, false);
+        }
+
+        // ───────────── 우연 노드 ─────────────
+
+        private double chance(GameState s, int pending, int depth, int extraLeft, double alpha, double beta) {
+            if (depth == 0) return evaluate(s);
+            boolean max = s.getTurn() == me;
+            double[] lo = new double[THROWS.length];
+            double[] hi = new double[THROWS.length];
+            double accLo = 0, accHi = 0;
+
+            // 1) Star2: 결정 노드로 바로 이어지는 결과는 첫 수만 탐침해서 경계를 좁힘
+            for (int i = 0; i < THROWS.length; i++) {
+                YutResult r = THROWS[i];
+                double p = r.probability();
+                lo[i] = -WIN;
+                hi[i] = WIN;
+                if (!(r.grantsExtraThrow() && extraLeft > 0)) {
+                    double v = decide(s, Pending.plus(pending, r), depth, -WIN, WIN, true);
+                    if (max) lo[i] = v;
+                    else hi[i] = v;
+                }
+                accLo += p * lo[i];
+                accHi += p * hi[i];
+            }
+            if (accLo >= beta) return accLo;
+            if (accHi <= alpha) return accHi;
+
+            // 2) Star1: 결과를 하나씩 정확히 계산하며 남은 결과는 경계값으로 두고 가지치기
+            for (int i = 0; i < THROWS.length; i++) {
+                YutResult r = THROWS[i];
+                double p = r.probability();
+                double childAlpha = Math.max(lo[i], (alpha - (accHi - p * hi[i])) / p);
+                double childBeta = Math.min(hi[i], (beta - (accLo - p * lo[i])) / p);
+                int next = Pending.plus(pending, r);
+                double v = r.grantsExtraThrow() && extraLeft > 0
+                        ? chance(s, next, depth, extraLeft - 1, childAlpha, childBeta)
+                        : decide(s, next, depth, childAlpha, childBeta, false);
+                accLo += p * (v - lo[i]);
+                accHi += p * (v - hi[i]);
+                if (accHi <= alpha) return accHi;
+                if (accLo >= beta) return accLo;
+            }
+            return accLo;
+        }
+
+        // ───────────── 수 생성과 평가 ─────────────
+
+        /**
+         * 남은 결과 × 말 조합. 같은 칸의 말(업)과 집에 있는 말은 결과가 같으므로 하나만 남기고,
+         * 정적 평가 순으로 정렬해 좋은 수를 먼저 봅니다.
+         */
+        private List<Child> children(GameState s, int pending, boolean max) {
+            int player = s.getTurn();
+            int per = s.getPiecesPerPlayer();
+            List<Child> list = new ArrayList<>();
+            for (YutResult r : YutResult.values()) {
+                if (Pending.count(pending, r) == 0) continue;
+                int left = Pending.minus(pending, r);
+                long seenLow = 0, seenHigh = 0;
+                for (int i = player * per; i < (player + 1) * per; i++) {
+                    int pos = s.position(i);
+                    if (pos == GameState.FINISHED) continue;
+                    if (pos < 64 ? (seenLow & (1L << pos)) != 0 : (seenHigh & (1L << (pos - 64))) != 0) continue;
+                    if (pos < 64) seenLow |= 1L << pos;
+                    else seenHigh |= 1L << (pos - 64);
+
+                    GameState next = GameState.apply(s, i, r);
+                    list.add(new Child(r, i, left, next, evaluate(next) + (next.hasBonusThrow() == max ? 1 : -1)));
+                }
+            }
+            if (max) list.sort((a, b) -> Double.compare(b.order, a.order));
+            else list.sort((a, b) -> Double.compare(a.order, b.order));
+            return list;
+        }
+
+        /** 내 남은 거리와 가장 앞선 상대의 남은 거리 차이 (종반표에 있으면 승률을 같은 범위로 옮긴 값) */
+        private double evaluate(GameState s) {
+            if (tablebase != null && tablebase.covers(s)) {
+                double p = tablebase.probe(s);   // 차례 중간이어도 차례 시작 값으로 근사
+                if (s.getTurn() != me) p = 1 - p;
+                return (2 * p - 1) * (WIN - 1);
+            }
+            int mine = s.distanceToGoalOf(me);
+            int rival = Integer.MAX_VALUE;
+            for (int p = 0; p < s.getPlayerCount(); p++) {
+                if (p != me) rival = Math.min(rival, s.distanceToGoalOf(p));
+            }
+            double h = (rival - mine) * DISTANCE_WEIGHT;
+            return Math.max(-WIN + 1, Math.min(WIN - 1, h));
+        }
+
+        private void tick() {
+            if ((++nodes & 1023) == 0 && System.nanoTime() > deadline) throw TIMEOUT;
+        }
+    }
+}
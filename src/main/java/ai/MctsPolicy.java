@@ -0,0 +1,355 @@
+package ai;
+
+import model.Game;
+import model.GameState;
+import model.Piece;
+import model.ThrowStream;
+import model.YutResult;
+import simulation.Move;
+import simulation.MovePolicy;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
+
+/**
+ * 몬테카를로 트리 탐색(UCT) 컴퓨터 플레이어.
+ *
+ * 여러 스레드가 트리 하나를 함께 키우며(tree-parallel), 내려가는 동안 가상 패배(virtual loss)를
+ * 걸어 다른 스레드가 같은 길로 몰리지 않게 합니다. 정해진 시간이 지나면 모든 스레드가 멈추고
+ * 가장 많이 방문한 수를 고릅니다.
+ *
+ * 한 차례에 나온 결과들은 어떤 순서로든 쓸 수 있으므로 결정 노드는 (상태, 남은 결과 묶음) 이고,
+ * 차례가 바뀌거나 잡아서 보너스를 던질 때는 던진 결과 묶음별로 자식이 갈라집니다(우연 노드).
+ * 고른 수 아래의 부분 트리는 다음 호출 때 같은 상태를 찾아 그대로 이어 씁니다.
+ *
+ * 재사용할 부분 트리는 게임마다 따로 두고 상태가 같은지 확인한 뒤에만 쓰므로,
+ * 여러 게임에서 같은 인스턴스를 동시에 써도 서로의 트리를 지우지 않습니다.
+ */
+public final class MctsPolicy implements MovePolicy {
+    public static final long DEFAULT_BUDGET_MILLIS = 150;
+
+    /** UCT 탐험 계수 (보상은 0 또는 1) */
+    private static final double EXPLORATION = 1.0;
+    /** 내려가는 동안 간선마다 미리 더해 두는 방문 수 (보상 0) */
+    private static final int VIRTUAL_LOSS = 3;
+    /** 롤아웃 최대 수. 넘기면 남은 거리가 가장 짧은 플레이어를 승자로 봄 */
+    private static final int MAX_PLAYOUT_MOVES = 400;
+    /** 재사용할 노드를 찾을 때 살펴볼 최대 노드 수 */
+    private static final int REUSE_SCAN_LIMIT = 4096;
+
+    private final int threads;
+    private final long budgetNanos;
+    /** 게임별로 지난번에 고른 수 (끝난 게임은 GC 가 거둠) */
+    private final Map<Game, Edge> retained = Collections.synchronizedMap(new WeakHashMap<>());
+    private volatile ExecutorService workers;
+    private volatile SearchStats lastStats = new SearchStats(0, 0, 0, 0);
+
+    public MctsPolicy() {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_BUDGET_MILLIS);
+    }
+
+    /**
+     * @param threads      함께 탐색할 스레드 수 (호출한 스레드 포함)
+     * @param budgetMillis 한 수를 고르는 데 쓸 시간
+     */
+    public MctsPolicy(int threads, long budgetMillis) {
+        if (threads < 1) throw new IllegalArgumentException("스레드 수는 1 이상이어야 합니다: " + threads);
+        this.threads = threads;
+        this.budgetNanos = budgetMillis * 1_000_000L;
+    }
+
+    /** 탐색 한 번의 결과 (튜닝용) */
+    public record SearchStats(long iterations, long elapsedNanos, int reusedVisits, int threads) {
+        public double iterationsPerSecond() {
+            return elapsedNanos == 0 ? 0 : iterations * 1e9 / elapsedNanos;
+        }
+    }
+
+    /** 가장 최근 choose 호출의 반복 횟수와 속도 */
+    public SearchStats getLastStats() {
+        return lastStats;
+    }
+
+    @Override
+    public Move choose(Game game, List<YutResult> pending, RandomGenerator rand) {
+        long start = System.nanoTime();
+        long deadline = start + budgetNanos;
+        GameState state = GameState.of(game);
+        int packed = Pending.of(pending);
+
+        Node root = reuse(game, state, packed);
+        int reused = root != null ? root.visits.get() : 0;
+        if (root == null) root = new Node(state, packed);
+        if (root.expand().length == 1) {
+            // 고를 게 없으면 탐색하지 않고 트리만 넘겨 둠
+            retained.put(game, root.edges[0]);
+            lastStats = new SearchStats(0, System.nanoTime() - start, reused, threads);
+            return toMove(game, state, root.edges[0]);
+        }
+
+        AtomicLong iterations = new AtomicLong();
+        Node tree = root;
+        List<Future<?>> helpers = new ArrayList<>();
+        for (int i = 1; i < threads; i++) {
+            helpers.add(pool().submit(() -> search(tree, deadline, iterations)));
+        }
+        search(tree, deadline, iterations);
+        for (Future<?> f : helpers) {
+            try {
+                f.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+
+        Edge best = root.mostVisited();
+        retained.put(game, best);
+        lastStats = new SearchStats(iterations.get(), System.nanoTime() - start, reused, threads);
+
+        return toMove(game, state, best);
+    }
+
+    private static Move toMove(Game game, GameState state, Edge edge) {
+        List<Piece> pieces = game.getCurrentPlayer().getPieces();
+        return new Move(edge.result, pieces.get(edge.piece % state.getPiecesPerPlayer()));
+    }
+
+    private ExecutorService pool() {
+        ExecutorService pool = workers;
+        if (pool == null) {
+            synchronized (this) {
+                pool = workers;
+                if (pool == null) {
+                    pool = Executors.newFixedThreadPool(threads - 1, r -> {
+                        Thread t = new Thread(r, "mcts-worker");
+                        t.setDaemon(true);
+                        return t;
+                    });
+                    workers = pool;
+                }
+            }
+        }
+        return pool;
+    }
+
+    /** 지난번에 고른 수 아래에서 지금 상태와 같은 노드를 찾음 (없으면 null) */
+    private Node reuse(Game game, GameState state, int pending) {
+        Edge last = retained.remove(game);
+        if (last == null) return null;
+        ArrayDeque<Node> queue = new ArrayDeque<>(last.children.values());
+        int scanned = 0;
+        while (!queue.isEmpty() && scanned++ < REUSE_SCAN_LIMIT) {
+            Node n = queue.poll();
+            if (n.pending == pending && n.state.equals(state)) return n;
+            Edge[] edges = n.edges;
+            if (edges == null) continue;
+            for (Edge e : edges) queue.addAll(e.children.values());
+        }
+        return null;
+    }
+
+    // ───────────── 탐색 ─────────────
+
+    private static void search(Node root, long deadline, AtomicLong iterations) {
+        ThrowStream rand = new ThrowStream(ThreadLocalRandom.current());
+        List<Edge> path = new ArrayList<>();
+        long done = 0;
+        while (System.nanoTime() < deadline) {
+            iterate(root, path, rand);
+            done++;
+        }
+        iterations.addAndGet(done);
+    }
+
+    /** 선택 → 확장 → 롤아웃 → 역전파 한 번 */
+    private static void iterate(Node root, List<Edge> path, ThrowStream rand) {
+        path.clear();
+        Node node = root;
+        int winner;
+        while (true) {
+            node.visits.addAndGet(VIRTUAL_LOSS);
+            Edge edge = node.select();
+            int before = edge.visits.getAndAdd(VIRTUAL_LOSS);
+            path.add(edge);
+
+            if (edge.winning) {
+                winner = edge.player;
+                break;
+            }
+            int pending = edge.roll ? Pending.merge(edge.pendingLeft, Pending.roll(rand)) : edge.pendingLeft;
+            if (before == 0) {
+                // 처음 가 보는 수: 여기서부터 무작위로 끝까지 둬 봄
+                winner = playout(edge.after, pending, rand);
+                break;
+            }
+            node = edge.child(pending);
+        }
+
+        // 가상 패배를 걷어내고 실제 결과 반영
+        for (Edge e : path) {
+            e.visits.addAndGet(1 - VIRTUAL_LOSS);
+            e.parent.visits.addAndGet(1 - VIRTUAL_LOSS);
+            if (e.player == winner) e.wins.incrementAndGet();
+        }
+    }
+
+    /** 남은 결과와 말을 무작위로 골라 끝까지 두고 승자를 돌려줌 ({@link WinEstimator} 도 씀) */
+    static int playout(GameState s, int pending, ThrowStream rand) {
+        int per = s.getPiecesPerPlayer();
+        for (int move = 0; move < MAX_PLAYOUT_MOVES; move++) {
+            if (pending == 0) pending = Pending.roll(rand);
+            int player = s.getTurn();
+            YutResult r = pick(pending, rand);
+
+            // 아직 완주하지 않은 말 중 하나
+            int remaining = per - s.finishedCount(player);
+            int nth = rand.nextInt(remaining);
+            int piece = player * per;
+            while (true) {
+                if (!s.isFinished(piece) && nth-- == 0) break;
+                piece++;
+            }
+
+            GameState next = GameState.apply(s, piece, r);
+            pending = Pending.minus(pending, r);
+            if (next.isWin(player)) return player;
+            if (next.hasBonusThrow()) pending = Pending.merge(pending, Pending.roll(rand));
+            else if (pending == 0) next = next.nextTurn();
+            s = next;
+        }
+        return leader(s);
+    }
+
+    private static YutResult pick(int pending, ThrowStream rand) {
+        int total = 0;
+        for (YutResult r : YutResult.values()) total += Pending.count(pending, r);
+        int nth = rand.nextInt(total);
+        for (YutResult r : YutResult.values()) {
+            nth -= Pending.count(pending, r);
+            if (nth < 0) return r;
+        }
+        throw new IllegalStateException("빈 결과 묶음");
+    }
+
+    private static int leader(GameState s) {
+        int best = 0;
+        for (int p = 1; p < s.getPlayerCount(); p++) {
+            if (s.distanceToGoalOf(p) < s.distanceToGoalOf(best)) best = p;
+        }
+        return best;
+    }
+
+    // ───────────── 트리 ─────────────
+
+    /** 결정 노드: 이 상태에서 state.getTurn() 플레이어가 pending 중 하나를 고름 */
+    private static final class Node {
+        final GameState state;
+        final int pending;
+        final AtomicInteger visits = new AtomicInteger();
+        volatile Edge[] edges;
+
+        Node(GameState state, int pending) {
+            this.state = state;
+            this.pending = pending;
+        }
+
+        Edge select() {
+            Edge[] list = edges;
+            if (list == null) list = expand();
+            double logN = Math.log(Math.max(1, visits.get()));
+            Edge best = null;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (Edge e : list) {
+                int n = e.visits.get();
+                if (n == 0) return e;   // 안 가 본 수부터
+                double score = (double) e.wins.get() / n + EXPLORATION * Math.sqrt(logN / n);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = e;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * 남은 결과 × 말 조합. 같은 칸의 말(업)과 집에 있는 말은 결과가 같으므로 하나만 남깁니다.
+         */
+        private synchronized Edge[] expand() {
+            if (edges != null) return edges;
+            int player = state.getTurn();
+            int per = state.getPiecesPerPlayer();
+            List<Edge> list = new ArrayList<>();
+            for (YutResult r : YutResult.values()) {
+                if (Pending.count(pending, r) == 0) continue;
+                long seenLow = 0, seenHigh = 0;
+                for (int i = player * per; i < (player + 1) * per; i++) {
+                    int pos = state.position(i);
+                    if (pos == GameState.FINISHED) continue;
+                    if (pos < 64 ? (seenLow & (1L << pos)) != 0 : (seenHigh & (1L << (pos - 64))) != 0) continue;
+                    if (pos < 64) seenLow |= 1L << pos;
+                    else seenHigh |= 1L << (pos - 64);
+                    list.add(new Edge(this, r, i, GameState.apply(state, i, r), Pending.minus(pending, r)));
+                }
+            }
+            edges = list.toArray(new Edge[0]);
+            return edges;
+        }
+
+        Edge mostVisited() {
+            Edge[] list = edges;
+            if (list == null) list = expand();
+            Edge best = list[0];
+            for (Edge e : list) {
+                if (e.visits.get() > best.visits.get()) best = e;
+            }
+            return best;
+        }
+    }
+
+    /** 결정 노드에서 고른 수 하나. 보상은 수를 둔 플레이어 기준 승리 횟수 */
+    private static final class Edge {
+        final Node parent;
+        final YutResult result;
+        final int piece;
+        final int player;
+        final boolean winning;      // 이 수로 바로 이김
+        final boolean roll;         // 이 수 다음에 던지기가 있음 (보너스 또는 차례 넘김)
+        final GameState after;      // 다음 결정 노드들의 공통 상태
+        final int pendingLeft;      // 던지기 전 남은 결과
+        final AtomicInteger visits = new AtomicInteger();
+        final AtomicInteger wins = new AtomicInteger();
+        /** 다음 결정 노드, 다음 남은 결과 묶음별 (던지기가 없으면 하나뿐) */
+        final ConcurrentHashMap<Integer, Node> children = new ConcurrentHashMap<>();
+
+        Edge(Node parent, YutResult result, int piece, GameState next, int pendingLeft) {
+            this.parent = parent;
+            this.result = result;
+            this.piece = piece;
+            this.player = parent.state.getTurn();
+            this.winning = next.isWin(player);
+            this.roll = next.hasBonusThrow() || pendingLeft == 0;
+            // 보너스는 자식으로 갈라질 때 던지므로 다음 상태에서는 지움 (GameState.of 와 맞춰 재사용)
+            this.after = next.hasBonusThrow() ? next.bonusThrown() : pendingLeft == 0 ? next.nextTurn() : next;
+            this.pendingLeft = pendingLeft;
+        }
+
+        Node child(int pending) {
+            return children.computeIfAbsent(pending, p -> new Node(after, p));
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package ai;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 힙 밖(direct {@link ByteBuffer})에 두는 위치 해시 → long 값 저장소.
+ *
+ * 칸은 16바이트 (키, 값) 이고 선형 탐사(open addressing)로 찾습니다. 빈 칸을 차지할 때만 키를 CAS 로 쓰고,
+ * 값은 8바이트 volatile 쓰기 한 번이라 읽는 쪽은 잠금 없이 키 → 값 순서로 읽기만 합니다.
+ * 지우기는 없고(탐색 캐시/종반 데이터베이스 용도), 탐사가 {@link #MAX_PROBES} 칸을 넘기면 저장을 포기합니다.
+ *
+ * 버퍼 하나는 int 로 색인하므로 1GB 조각으로 나눠 잡으며, 전체 크기는 GB 단위까지 쓸 수 있습니다.
+ * 값 0 은 "없음" 으로 쓰므로 저장할 수 없고, 키 0 은 내부에서 다른 키로 바꿔 저장합니다.
+ */
+public final class OffHeapStore {
+    /** 찾는 키가 없음 */
+    public static final long MISS = 0;
+    /** 한 키를 찾을 때 살펴보는 최대 칸 수 */
+    public static final int MAX_PROBES = 64;
+
+    private static final int SLOT_BYTES = 16;
+    private static final int SEGMENT_SHIFT = 26;                   // 조각 하나 = 2^26 칸 = 1GB
+    private static final long ZERO_KEY = 0x8000_0000_0000_0001L;   // 키 0 대신 저장하는 값
+    private static final VarHandle LONGS =
+            MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private final ByteBuffer[] segments;
+    private final long mask;            // 칸 번호 마스크 (칸 수 - 1)
+    private final int segmentMask;      // 조각 안 칸 번호 마스크
+
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder collisions = new LongAdder();   // 첫 칸이 아닌 곳까지 간 탐사 수
+    private final LongAdder occupied = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * @param bytes 쓸 메모리 (2의 거듭제곱 칸 수로 내림, 최소 1024칸)
+     */
+    public OffHeapStore(long bytes) {
+        long slots = Math.max(1024, Long.highestOneBit(bytes / SLOT_BYTES));
+        this.mask = slots - 1;
+        long perSegment = Math.min(slots, 1L << SEGMENT_SHIFT);
+        this.segmentMask = (int) (perSegment - 1);
+        this.segments = new ByteBuffer[(int) (slots / perSegment)];
+        for (int i = 0; i < segments.length; i++) {
+            // VarHandle 의 원자 연산은 8바이트 정렬된 주소에서만 동작
+            segments[i] = ByteBuffer.allocateDirect((int) (perSegment * SLOT_BYTES) + 8).alignedSlice(8);
+        }
+    }
+
+    public long capacity() {
+        return mask + 1;
+    }
+
+    /** key 의 값, 없으면 {@link #MISS} */
+    public long get(long key) {
+        key = storedKey(key);
+        lookups.increment();
+        long slot = index(key);
+        for (int probe = 0; probe < MAX_PROBES; probe++, slot = (slot + 1) & mask) {
+            long k = keyAt(slot);
+            if (k == 0) break;
+            if (k == key) {
+                if (probe > 0) collisions.increment();
+                long v = valueAt(slot);
+                if (v != MISS) hits.increment();   // 키만 먼저 쓰인 순간이면 아직 없음
+                return v;
+            }
+        }
+        return MISS;
+    }
+
+    /**
+     * key 의 값을 씁니다. 이미 있으면 덮어씁니다.
+     * @return 저장했으면 true, 탐사 한도 안에 빈 칸이 없으면 false
+     */
+    public boolean put(long key, long value) {
+        if (value == MISS) throw new IllegalArgumentException("값 0 은 저장할 수 없습니다.");
+        key = storedKey(key);
+        long slot = index(key);
+        for (int probe = 0; probe < MAX_PROBES; probe++, slot = (slot + 1) & mask) {
+            long k = keyAt(slot);
+            if (k == 0) {
+                if (claim(slot, key)) {
+                    occupied.increment();
+                    k = key;
+                } else {
+                    k = keyAt(slot);   // 다른 스레드가 먼저 차지함: 같은 키일 수도 있음
+                }
+            }
+            if (k == key) {
+                if (probe > 0) collisions.increment();
+                setValue(slot, value);
+                return true;
+            }
+        }
+        rejected.increment();
+        return false;
+    }
+
+    /** 실수 값을 읽음 (없으면 NaN) */
+    public double getDouble(long key) {
+        long v = get(key);
+        return v == MISS ? Double.NaN : Double.longBitsToDouble(~v);
+    }
+
+    /** 실수 값을 씀 (0.0 도 저장할 수 있도록 비트를 뒤집어 둠) */
+    public boolean putDouble(long key, double value) {
+        return put(key, ~Double.doubleToRawLongBits(value));
+    }
+
+    /** 모든 칸을 비움. 다른 스레드가 쓰지 않을 때만 호출 */
+    public void clear() {
+        for (ByteBuffer segment : segments) {
+            for (int i = 0; i < segment.capacity(); i += 8) segment.putLong(i, 0);
+        }
+        lookups.reset();
+        hits.reset();
+        collisions.reset();
+        occupied.reset();
+        rejected.reset();
+    }
+
+    public Stats stats() {
+        return new Stats(lookups.sum(), hits.sum(), collisions.sum(), occupied.sum(), rejected.sum(), capacity());
+    }
+
+    /** 조회/적중/충돌/점유 통계 */
+    public record Stats(long lookups, long hits, long collisions, long occupied, long rejected, long capacity) {
+        public double hitRate() {
+            return lookups == 0 ? 0 : (double) hits / lookups;
+        }
+
+        public double occupancy() {
+            return (double) occupied / capacity;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("조회 %,d (적중 %.1f%%), 충돌 %,d, 점유 %,d/%,d (%.1f%%), 포기 %,d",
+                    lookups, hitRate() * 100, collisions, occupied, capacity, occupancy() * 100, rejected);
+        }
+    }
+
+    // ───────────── 칸 접근 ─────────────
+
+    private static long storedKey(long key) {
+        return key == 0 ? ZERO_KEY : key;
+    }
+
+    // SplitMix64 섞기: 임의의 키도 칸에 고르게 퍼지도록
+    private long index(long key) {
+        long z = key;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return (z ^ (z >>> 31)) & mask;
+    }
+
+    private ByteBuffer segment(long slot) {
+        return segments[(int) (slot >>> SEGMENT_SHIFT)];
+    }
+
+    private int offset(long slot) {
+        return (int) (slot & segmentMask) * SLOT_BYTES;
+    }
+
+    private long keyAt(long slot) {
+        return (long) LONGS.getAcquire(segment(slot), offset(slot));
+    }
+
+    private long valueAt(long slot) {
+        return (long) LONGS.getAcquire(segment(slot), offset(slot) + 8);
+    }
+
+    private boolean claim(long slot, long key) {
+        return LONGS.compareAndSet(segment(slot), offset(slot), 0L, key);
+    }
+
+    private void setValue(long slot, long value) {
+        LONGS.setRelease(segment(slot), offset(slot) + 8, value);
+    }
+}
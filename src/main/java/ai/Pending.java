@@ -0,0 +1,59 @@
+package ai;
+
+import model.ThrowStream;
+import model.YutResult;
+import model.Zobrist;
+
+import java.util.List;
+
+/**
+ * 남은 윷 결과 묶음을 결과별 3비트 개수로 int 하나에 담음 (최대 7개씩).
+ * 결과를 쓰는 순서는 자유이므로 묶음은 순서 없는 개수만 기억합니다.
+ */
+final class Pending {
+    private Pending() {}
+
+    static int of(List<YutResult> results) {
+        int packed = 0;
+        for (YutResult r : results) packed = plus(packed, r);
+        return packed;
+    }
+
+    static int count(int packed, YutResult r) {
+        return (packed >>> (3 * r.ordinal())) & 7;
+    }
+
+    static int plus(int packed, YutResult r) {
+        return count(packed, r) == 7 ? packed : packed + (1 << (3 * r.ordinal()));
+    }
+
+    static int minus(int packed, YutResult r) {
+        return packed - (1 << (3 * r.ordinal()));
+    }
+
+    /** 묶음의 {@link Zobrist} 키 */
+    static long zobrist(int packed) {
+        long h = 0;
+        for (YutResult r : YutResult.values()) h ^= Zobrist.pending(r, count(packed, r));
+        return h;
+    }
+
+    /** 두 묶음을 합침 (결과별 7개에서 멈춤) */
+    static int merge(int a, int b) {
+        for (YutResult r : YutResult.values()) {
+            for (int n = count(b, r); n > 0; n--) a = plus(a, r);
+        }
+        return a;
+    }
+
+    /** 윷/모가 아닌 결과가 나올 때까지 던진 한 차례분 ({@link model.Game#rollAllYuts} 와 같은 규칙) */
+    static int roll(ThrowStream rand) {
+        int packed = 0;
+        YutResult r;
+        do {
+            r = rand.nextThrow();
+            packed = plus(packed, r);
+        } while (r.grantsExtraThrow());
+        return packed;
+    }
+}
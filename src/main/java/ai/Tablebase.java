@@ -0,0 +1,452 @@
+package ai;
+
+import model.GameState;
+import model.RoutingTable;
+import model.YutResult;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.DoubleAccumulator;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * 2인 게임 종반(두 플레이어 모두 남은 말이 두 개 이하) 의 정확한 승률표.
+ *
+ * 위치는 (둘 차례인 쪽의 남은 말 위치 쌍, 상대의 남은 말 위치 쌍) 이고, 값은 차례를 시작하기 전
+ * (아직 던지지 않은 상태) 둘 차례인 쪽이 이길 확률입니다. 한 차례 안에서는 나온 결과를 어떤 순서로 어느 말에
+ * 쓸지 모두 따져 승률이 가장 높은 쪽을 고르고, 윷/모와 잡기 보너스 던지기는 실제 확률({@link YutResult#probability()})로
+ * 펼칩니다. 빽도는 집에서 가장 적은 던지기로 그 칸에 오는 길을 따라 되돌아간다고 봅니다({@link GameState#arrange}).
+ *
+ * 잡기와 빽도 때문에 위치 그래프에 순환이 있으므로, 완주에 가까운 위치부터 거꾸로 값을 채우는 일을
+ * 값이 더 바뀌지 않을 때까지 반복합니다(재귀 분석). 값은 float 로 메모리 매핑 파일에 바로 쓰고
+ * 한 바퀴마다 파일에 반영하므로, 중간에 끊겨도 같은 파일로 다시 실행하면 이어서 계산합니다.
+ *
+ * 찾기는 위치 쌍 번호 계산 후 배열 한 번 읽기이며, 여러 스레드에서 동시에 불러도 됩니다.
+ */
+public final class Tablebase {
+    /** 한 차례에 펼치는 윷/모 연속 던지기 수 (그다음 윷/모는 다시 던지지 않는 것으로 봄, 해당 확률 약 0.13%) */
+    static final int MAX_EXTRA_THROWS = 3;
+    /** 한 바퀴 동안 가장 크게 바뀐 값이 이보다 작으면 끝 */
+    public static final double TOLERANCE = 1e-6;
+    /** 표 파일을 두는 기본 폴더 */
+    public static final Path DIRECTORY = Path.of("tablebase");
+
+    private static final int MAGIC = 0x59555442;   // "YUTB"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 64;
+    // 머리 배치 (바이트 위치)
+    private static final int H_MAGIC = 0, H_VERSION = 4, H_SIGNATURE = 8, H_NODES = 16, H_PAIRS = 20,
+            H_SWEEPS = 24, H_COMPLETE = 28, H_DELTA = 32;
+
+    private static final YutResult[] RESULTS = YutResult.values();
+
+    /** 한 차례에 나올 수 있는 결과 묶음과 그 확률 */
+    private static final TurnOutcomes ROLLS = TurnOutcomes.upTo(MAX_EXTRA_THROWS);
+
+    private final RoutingTable routes;
+    private final long signature;
+    private final int nodes;          // 보드 노드 수 (위치 번호 0..nodes-1)
+    private final int home;           // 집 위치 번호 (= nodes)
+    private final int finished;       // 완주 위치 번호 (= nodes + 1)
+    private final int pairs;          // 한 플레이어의 남은 말 위치 쌍 개수
+    private final MappedByteBuffer map;
+    private final FloatBuffer values; // [둘 차례 쪽 쌍 × pairs + 상대 쌍]
+
+    // 쌍 번호 → 두 위치 (작은 쪽, 큰 쪽)
+    private final int[] low, high;
+    // [(쌍 × 2 + 말) × 6 + 결과] → 움직인 뒤 내 쌍 (-1 = 같은 수라 볼 필요 없음), 잡을 수 있는 도착 칸 (-1 = 없음)
+    private final int[] moveTo, landAt;
+    // probe(s, pending) 용 평가기 (스레드마다 하나, 다 만든 표의 값은 바뀌지 않으므로 메모를 계속 씀)
+    private final ThreadLocal<Evaluator> probes = ThreadLocal.withInitial(() -> new Evaluator(10));
+
+    private Tablebase(RoutingTable routes, MappedByteBuffer map) {
+        this.routes = routes;
+        this.signature = signature(routes);
+        this.nodes = routes.size();
+        this.home = nodes;
+        this.finished = nodes + 1;
+        int codes = nodes + 2;
+        this.pairs = codes * (codes + 1) / 2 - 1;   // (완주, 완주) 는 이미 이긴 위치라 뺌
+        this.map = map;
+        map.order(ByteOrder.nativeOrder());
+        this.values = map.slice(HEADER_BYTES, map.capacity() - HEADER_BYTES).order(ByteOrder.nativeOrder()).asFloatBuffer();
+
+        this.low = new int[pairs + 1];
+        this.high = new int[pairs + 1];
+        for (int p = 0; p <= pairs; p++) {
+            int[] ab = unpair(p);
+            low[p] = ab[0];
+            high[p] = ab[1];
+        }
+        this.moveTo = new int[pairs * 2 * RESULTS.length];
+        this.landAt = new int[moveTo.length];
+        buildMoves();
+    }
+
+    /**
+     * 내 말 두 개의 이동은 상대 말과 상관없이 정해지므로 (잡기만 빼고) 쌍마다 한 번 {@link GameState#apply} 로 구해 둡니다.
+     * 생성 중에는 상태 객체를 만들지 않고 이 표만 따라갑니다.
+     */
+    private void buildMoves() {
+        for (int p = 0; p < pairs; p++) {
+            int[] positions = { toPosition(low[p]), toPosition(high[p]), GameState.FINISHED, GameState.FINISHED };
+            GameState s = GameState.arrange(routes, 2, positions, 0);
+            for (int piece = 0; piece < 2; piece++) {
+                for (YutResult r : RESULTS) {
+                    int m = (p * 2 + piece) * RESULTS.length + r.ordinal();
+                    moveTo[m] = -1;
+                    landAt[m] = -1;
+                    int pos = s.position(piece);
+                    if (pos == GameState.FINISHED) continue;
+                    if (piece == 1 && pos == s.position(0)) continue;   // 업이거나 둘 다 집: 같은 수
+                    GameState next = GameState.apply(s, piece, r);
+                    moveTo[m] = pairOf(next, 0);
+                    int dest = next.position(piece);
+                    if (dest == GameState.HOME || dest == GameState.FINISHED || dest == pos) continue;
+                    // 도착 칸에 상대 말을 두고 다시 움직여 봄: 출발점 빽도처럼 잡지 않는 이동도 있음
+                    positions[2] = dest;
+                    if (GameState.apply(GameState.arrange(routes, 2, positions, 0), piece, r).hasBonusThrow()) landAt[m] = dest;
+                    positions[2] = GameState.FINISHED;
+                }
+            }
+        }
+    }
+
+    /**
+     * 다 만든 표 파일을 읽기 전용으로 엽니다.
+     * @throws IOException 파일이 없거나, 다른 보드의 표이거나, 아직 다 만들지 않은 경우
+     */
+    public static Tablebase open(Path file, RoutingTable routes) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (ch.size() != fileBytes(routes)) throw new IOException("승률표 파일 크기가 맞지 않습니다: " + file);
+            Tablebase tb = new Tablebase(routes, ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size()));
+            tb.checkHeader();
+            if (tb.map.getInt(H_COMPLETE) != 1) throw new IOException("아직 다 만들지 않은 표입니다: " + file);
+            return tb;
+        }
+    }
+
+    /**
+     * 표를 만들어 file 에 씁니다. 같은 보드로 만들다 만 파일이 있으면 이어서 계산합니다.
+     * @param threads  계산 스레드 수 (0 = 코어 수)
+     * @param progress 한 바퀴마다 (바퀴 수, 최대 변화량) 을 알림 (null 가능)
+     */
+    public static Tablebase generate(Path file, RoutingTable routes, int threads, Progress progress) throws IOException {
+        long bytes = fileBytes(routes);
+
+        boolean resume = Files.exists(file) && Files.size(file) == bytes;
+        Tablebase tb;
+        // 이어 만들지 않으면 크기가 다른 옛 파일을 비워야 다 만든 뒤 open 의 크기 검사를 통과함
+        OpenOption[] options = resume
+                ? new OpenOption[]{ StandardOpenOption.READ, StandardOpenOption.WRITE }
+                : new OpenOption[]{ StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE };
+        try (FileChannel ch = FileChannel.open(file, options)) {
+            tb = new Tablebase(routes, ch.map(FileChannel.MapMode.READ_WRITE, 0, bytes));
+        }
+        if (resume) {
+            tb.checkHeader();
+        } else {
+            tb.writeHeader();
+            for (int i = 0; i < tb.values.capacity(); i++) tb.values.put(i, 0.5f);
+            tb.map.force();
+        }
+        if (tb.map.getInt(H_COMPLETE) == 1) return tb;
+
+        ForkJoinPool pool = threads > 0 ? new ForkJoinPool(threads) : ForkJoinPool.commonPool();
+        try {
+            tb.solve(pool, progress);
+        } finally {
+            if (pool != ForkJoinPool.commonPool()) pool.shutdown();
+        }
+        return tb;
+    }
+
+    private static long fileBytes(RoutingTable routes) {
+        int codes = routes.size() + 2;
+        long pairs = codes * (codes + 1) / 2 - 1;
+        return HEADER_BYTES + 4 * pairs * pairs;
+    }
+
+    /** 보드 이름별 기본 파일 위치 (tablebase/&lt;이름&gt;.ytb) */
+    public static Path defaultPath(String boardName) {
+        return DIRECTORY.resolve(boardName + ".ytb");
+    }
+
+    /** 기본 폴더(tablebase/) 에서 routes 보드의 다 만든 표를 찾아 엽니다. 없으면 null */
+    public static Tablebase find(RoutingTable routes) {
+        if (!Files.isDirectory(DIRECTORY)) return null;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(DIRECTORY, "*.ytb")) {
+            for (Path file : files) {
+                try {
+                    return open(file, routes);
+                } catch (IOException e) {
+                    // 다른 보드의 표이거나 만들다 만 표: 다음 파일
+                }
+            }
+        } catch (IOException e) {
+            return null;
+        }
+        return null;
+    }
+
+    /** 생성 진행 알림 */
+    @FunctionalInterface
+    public interface Progress {
+        void sweep(int sweeps, double maxDelta);
+    }
+
+    // ───────────── 찾기 ─────────────
+
+    /** s 가 이 표의 보드에서 2인, 양쪽 모두 남은 말 두 개 이하인 위치인지 */
+    public boolean covers(GameState s) {
+        return s.getPlayerCount() == 2 && sameBoard(s.getRoutingTable())
+                && remaining(s, 0) <= 2 && remaining(s, 1) <= 2;
+    }
+
+    /** 차례 시작 전 둘 차례인 플레이어({@link GameState#getTurn()}) 가 이길 확률, 표 밖이면 NaN */
+    public double probe(GameState s) {
+        if (!covers(s)) return Double.NaN;
+        int mover = s.getTurn();
+        if (s.isWin(mover)) return 1;
+        if (s.isWin(1 - mover)) return 0;
+        return values.get(pairOf(s, mover) * pairs + pairOf(s, 1 - mover));
+    }
+
+    /** 이미 던진 결과 pending 이 남아 있을 때 둘 차례인 플레이어가 (최선으로 써서) 이길 확률, 표 밖이면 NaN */
+    public double probe(GameState s, List<YutResult> pending) {
+        if (!covers(s)) return Double.NaN;
+        int packed = Pending.of(pending);
+        if (packed == 0) return probe(s);
+        int mover = s.getTurn();
+        if (s.isWin(mover)) return 1;
+        if (s.isWin(1 - mover)) return 0;
+        return probes.get().afterThrow(pairOf(s, mover) * pairs + pairOf(s, 1 - mover), packed);
+    }
+
+    /**
+     * {@link #probe(GameState, List)} 와 같되, throwOwed 면 윷/모나 잡기로 얻은 던지기가 아직 남은 것으로 보고
+     * 그 던지기(와 이어지는 윷/모)의 결과를 pending 에 더해 펼칩니다.
+     */
+    public double probe(GameState s, List<YutResult> pending, boolean throwOwed) {
+        if (!throwOwed) return probe(s, pending);
+        if (!covers(s)) return Double.NaN;
+        int packed = Pending.of(pending);
+        if (packed == 0) return probe(s);
+        int mover = s.getTurn();
+        if (s.isWin(mover)) return 1;
+        if (s.isWin(1 - mover)) return 0;
+        return probes.get().afterRoll(pairOf(s, mover) * pairs + pairOf(s, 1 - mover), packed);
+    }
+
+    private boolean sameBoard(RoutingTable other) {
+        return other == routes || (other.size() == nodes && signature(other) == signature);
+    }
+
+    private static int remaining(GameState s, int player) {
+        return s.getPiecesPerPlayer() - s.finishedCount(player);
+    }
+
+    // 남은 말 위치 두 개 (하나뿐이면 완주 위치를 채움) → 쌍 번호
+    private int pairOf(GameState s, int player) {
+        int per = s.getPiecesPerPlayer();
+        int a = finished, b = finished;
+        for (int i = player * per; i < (player + 1) * per; i++) {
+            int pos = s.position(i);
+            if (pos == GameState.FINISHED) continue;
+            int code = pos == GameState.HOME ? home : pos;
+            if (a == finished) a = code;
+            else b = code;
+        }
+        return pair(a, b);
+    }
+
+    private static int pair(int a, int b) {
+        if (a > b) {
+            int t = a;
+            a = b;
+            b = t;
+        }
+        return b * (b + 1) / 2 + a;
+    }
+
+    // 쌍 번호 → 위치 두 개 (작은 쪽, 큰 쪽)
+    private static int[] unpair(int index) {
+        int b = (int) ((Math.sqrt(8.0 * index + 1) - 1) / 2);
+        while (b * (b + 1) / 2 > index) b--;
+        while ((b + 1) * (b + 2) / 2 <= index) b++;
+        return new int[]{index - b * (b + 1) / 2, b};
+    }
+
+    private int toPosition(int code) {
+        return code == home ? GameState.HOME : code == finished ? GameState.FINISHED : code;
+    }
+
+    // ───────────── 생성 ─────────────
+
+    private void solve(ForkJoinPool pool, Progress progress) {
+        int[] order = solveOrder();
+        int sweeps = map.getInt(H_SWEEPS);
+        while (true) {
+            DoubleAccumulator maxDelta = new DoubleAccumulator(Math::max, 0);
+            // 조각마다 평가기 하나 (메모 재사용), 조각 안에서는 순서대로 제자리 갱신
+            int chunk = 1024;
+            IntConsumer sweepChunk = c -> {
+                Evaluator ev = new Evaluator(18);
+                double local = 0;
+                for (int k = c * chunk; k < Math.min(order.length, (c + 1) * chunk); k++) {
+                    int index = order[k];
+                    float v = (float) ev.turnValue(index);
+                    local = Math.max(local, Math.abs(v - values.get(index)));
+                    values.put(index, v);
+                }
+                maxDelta.accumulate(local);
+            };
+            int chunks = (order.length + chunk - 1) / chunk;
+            pool.submit(() -> IntStream.range(0, chunks).parallel().forEach(sweepChunk)).join();
+
+            sweeps++;
+            double delta = maxDelta.get();
+            boolean done = delta < TOLERANCE;
+            map.putInt(H_SWEEPS, sweeps);
+            map.putFloat(H_DELTA, (float) delta);
+            if (done) map.putInt(H_COMPLETE, 1);
+            map.force();   // 여기까지 끊겨도 다시 이어서 계산
+            if (progress != null) progress.sweep(sweeps, delta);
+            if (done) return;
+        }
+    }
+
+    /** 양쪽 남은 거리 합이 작은 위치부터 (완주에 가까운 쪽의 값이 먼저 정해지도록) */
+    private int[] solveOrder() {
+        int[] distance = new int[pairs];
+        for (int p = 0; p < pairs; p++) distance[p] = distance(low[p]) + distance(high[p]);
+        return IntStream.range(0, pairs * pairs).boxed()
+                .sorted(Comparator.comparingInt(i -> distance[i / pairs] + distance[i % pairs]))
+                .mapToInt(Integer::intValue).toArray();
+    }
+
+    private int distance(int code) {
+        if (code == finished) return 0;
+        if (code == home) return routes.distanceToGoal(routes.destination(routes.getStartId(), 1)) + 1;
+        return routes.distanceToGoal(code);
+    }
+
+    /**
+     * 한 차례 안의 선택을 푸는 평가기. (위치, 남은 결과) 값을 기억해 두고
+     * 같은 차례 안에서 다른 순서로 같은 곳에 오면 다시 계산하지 않습니다. (스레드마다 하나)
+     */
+    private final class Evaluator {
+        private final long[] memoKeys;      // 직접 사상 캐시: 겹치면 덮어씀
+        private final double[] memoValues;
+
+        Evaluator(int memoBits) {
+            memoKeys = new long[1 << memoBits];
+            memoValues = new double[1 << memoBits];
+            Arrays.fill(memoKeys, -1);
+        }
+
+        /** 아직 던지지 않은 차례 시작 값 */
+        double turnValue(int index) {
+            double v = 0;
+            for (int i = 0; i < ROLLS.size(); i++) v += ROLLS.probability(i) * afterThrow(index, ROLLS.packed(i));
+            return v;
+        }
+
+        /** 남은 결과 pending 을 가장 좋게 쓸 때의 승률 */
+        double afterThrow(int index, int pending) {
+            long key = (long) index << 20 | pending;
+            int slot = (int) (key ^ key >>> 21) & (memoKeys.length - 1);
+            if (memoKeys[slot] == key) return memoValues[slot];
+
+            int mine = index / pairs;
+            int theirs = index % pairs;
+            double best = 0;
+            for (YutResult r : RESULTS) {
+                if (Pending.count(pending, r) == 0) continue;
+                int left = Pending.minus(pending, r);
+                for (int piece = 0; piece < 2 && best < 1; piece++) {
+                    int m = (mine * 2 + piece) * RESULTS.length + r.ordinal();
+                    if (moveTo[m] < 0) continue;
+                    best = Math.max(best, afterMove(moveTo[m], theirs, landAt[m], left));
+                }
+            }
+            memoKeys[slot] = key;
+            memoValues[slot] = best;
+            return best;
+        }
+
+        /** 남은 결과 pending 에 한 차례분을 더 던져 더한 뒤의 승률 (잡기 보너스, 윷/모 뒤) */
+        double afterRoll(int index, int pending) {
+            double v = 0;
+            for (int i = 0; i < ROLLS.size(); i++) v += ROLLS.probability(i) * afterThrow(index, Pending.merge(pending, ROLLS.packed(i)));
+            return v;
+        }
+
+        private double afterMove(int mine, int theirs, int land, int left) {
+            if (mine == pairs) return 1;   // (완주, 완주)
+            boolean captured = land >= 0 && (low[theirs] == land || high[theirs] == land);
+            if (captured) {
+                theirs = pair(low[theirs] == land ? home : low[theirs], high[theirs] == land ? home : high[theirs]);
+            }
+            int index = mine * pairs + theirs;
+            if (captured) return afterRoll(index, left);
+            if (left != 0) return afterThrow(index, left);
+            return 1 - values.get(theirs * pairs + mine);   // 상대 차례
+        }
+    }
+
+    // ───────────── 파일 머리 ─────────────
+
+    private void writeHeader() {
+        map.putInt(H_MAGIC, MAGIC);
+        map.putInt(H_VERSION, VERSION);
+        map.putLong(H_SIGNATURE, signature);
+        map.putInt(H_NODES, nodes);
+        map.putInt(H_PAIRS, pairs);
+        map.putInt(H_SWEEPS, 0);
+        map.putInt(H_COMPLETE, 0);
+        map.putFloat(H_DELTA, Float.NaN);
+    }
+
+    private void checkHeader() throws IOException {
+        if (map.getInt(H_MAGIC) != MAGIC || map.getInt(H_VERSION) != VERSION) throw new IOException("승률표 파일이 아닙니다.");
+        if (map.getLong(H_SIGNATURE) != signature || map.getInt(H_PAIRS) != pairs) {
+            throw new IOException("다른 보드의 승률표입니다.");
+        }
+    }
+
+    /** 지금까지 계산한 바퀴 수 */
+    public int getSweeps() {
+        return map.getInt(H_SWEEPS);
+    }
+
+    /** 표에 든 위치 수 */
+    public long size() {
+        return (long) pairs * pairs;
+    }
+
+    /** 보드 모양을 구분하는 값 (모든 칸 × 칸 수의 도착 칸으로 계산) */
+    private static long signature(RoutingTable routes) {
+        long h = routes.size();
+        for (int id = 0; id < routes.size(); id++) {
+            if (routes.node(id) == null) continue;
+            for (int steps = 1; steps <= RoutingTable.MAX_STEPS; steps++) {
+                h = h * 31 + routes.destination(id, steps);
+            }
+        }
+        return h;
+    }
+}
@@ -0,0 +1,120 @@
+package ai;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 탐색 결과를 위치 해시로 기억해 두는 고정 크기 표 (잠금 없음).
+ *
+ * 칸 하나는 long 두 개 (키 ^ 값, 값) 입니다. 여러 스레드가 같은 칸을 동시에 쓰다 두 long 이 서로 다른
+ * 기록에서 오면 키 검사가 실패하므로, 찢어진 항목은 읽히지 않고 그냥 없는 것으로 처리됩니다.
+ * 해시 하나는 두 칸짜리 묶음 중 하나에 들어가며, 같은 키 → 빈 칸 → 지난 탐색의 칸 → 더 얕은 칸 순으로 덮어씁니다.
+ *
+ * 값 배치: 점수(float) 32비트, 깊이 8비트, 경계 2비트, 최선 수 8비트, 세대 8비트, 사용 표시 1비트.
+ */
+public final class TranspositionTable {
+    /** 표에 없음 */
+    public static final long MISS = 0;
+
+    /** 점수가 정확한 값 */
+    public static final int EXACT = 0;
+    /** 점수가 하한 (beta 를 넘겨 잘림) */
+    public static final int LOWER = 1;
+    /** 점수가 상한 (alpha 를 넘지 못함) */
+    public static final int UPPER = 2;
+    /** 최선 수를 기록하지 않음 */
+    public static final int NO_MOVE = 0xFF;
+
+    private static final int DEPTH_SHIFT = 32;
+    private static final int BOUND_SHIFT = 40;
+    private static final int MOVE_SHIFT = 42;
+    private static final int AGE_SHIFT = 50;
+    private static final long USED = 1L << 63;
+
+    private final AtomicLongArray slots;   // [2i] = 키 ^ 값, [2i + 1] = 값
+    private final int mask;                // 묶음 번호 마스크 (묶음 = 칸 두 개)
+    private volatile int age;
+
+    /**
+     * @param entries 최소 칸 수 (2의 거듭제곱으로 올림)
+     */
+    public TranspositionTable(int entries) {
+        if (entries < 2) throw new IllegalArgumentException("칸 수는 2 이상이어야 합니다: " + entries);
+        int size = Integer.highestOneBit(entries - 1) << 1;
+        this.slots = new AtomicLongArray(size * 2);
+        this.mask = size / 2 - 1;
+    }
+
+    /** 새 탐색을 시작할 때 호출: 이전 탐색에서 남은 칸을 먼저 덮어쓰게 됨 */
+    public void newSearch() {
+        age = (age + 1) & 0xFF;
+    }
+
+    public int capacity() {
+        return slots.length() / 2;
+    }
+
+    /** key 의 항목, 없으면 {@link #MISS} */
+    public long probe(long key) {
+        int base = bucket(key);
+        for (int i = base; i < base + 2; i++) {
+            long data = slots.get(2 * i + 1);
+            if (data != MISS && (slots.get(2 * i) ^ data) == key) return data;
+        }
+        return MISS;
+    }
+
+    /**
+     * @param move 다음에 먼저 볼 수 (0~254), 없으면 {@link #NO_MOVE}
+     */
+    public void store(long key, double score, int depth, int bound, int move) {
+        long data = USED
+                | ((long) age << AGE_SHIFT)
+                | ((long) (move & 0xFF) << MOVE_SHIFT)
+                | ((long) bound << BOUND_SHIFT)
+                | ((long) Math.min(depth, 0xFF) << DEPTH_SHIFT)
+                | (Float.floatToRawIntBits((float) score) & 0xFFFF_FFFFL);
+
+        int base = bucket(key);
+        int victim = base;
+        int victimRank = Integer.MAX_VALUE;
+        for (int i = base; i < base + 2; i++) {
+            long old = slots.get(2 * i + 1);
+            if (old == MISS || (slots.get(2 * i) ^ old) == key) {
+                victim = i;
+                break;
+            }
+            // 지난 탐색의 칸을 먼저, 같은 세대면 얕은 칸을 먼저 버림
+            int rank = (age(old) == age ? 0x100 : 0) + depth(old);
+            if (rank < victimRank) {
+                victimRank = rank;
+                victim = i;
+            }
+        }
+        slots.set(2 * victim, key ^ data);
+        slots.set(2 * victim + 1, data);
+    }
+
+    private int bucket(long key) {
+        return ((int) key & mask) * 2;   // Zobrist 키는 이미 골고루 섞여 있음
+    }
+
+    public static double score(long data) {
+        return Float.intBitsToFloat((int) data);
+    }
+
+    public static int depth(long data) {
+        return (int) (data >>> DEPTH_SHIFT) & 0xFF;
+    }
+
+    public static int bound(long data) {
+        return (int) (data >>> BOUND_SHIFT) & 0x3;
+    }
+
+    public static int move(long data) {
+        return (int) (data >>> MOVE_SHIFT) & 0xFF;
+    }
+
+    private static int age(long data) {
+        return (int) (data >>> AGE_SHIFT) & 0xFF;
+    }
+}
@@ -0,0 +1,125 @@
+package ai;
+
+import model.ThrowModel;
+import model.YutResult;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 차례 던지기(윷/모가 나오면 계속)에서 나올 수 있는 결과 묶음과 정확한 확률.
+ *
+ * 결과를 쓰는 순서는 자유이므로 순서만 다른 던지기는 한 묶음으로 합칩니다. 연속 던지기는 maxExtraThrows 번에서 끊고,
+ * 끊긴 줄기의 확률은 마지막 결과(윷/모)까지 담은 묶음에 남깁니다 ({@link #truncated()}).
+ * 탐색은 던지기를 하나씩 흉내 내는 대신 이 묶음들을 확률이 큰 순서대로 찬스 노드의 가지로 돌면 됩니다.
+ *
+ * 기본 확률 모형은 깊이별로 한 번만 만들어 {@link #upTo(int)} 가 공유합니다.
+ */
+public final class TurnOutcomes {
+    /** 묶음 안 결과별 개수 한도(7)를 넘지 않는 가장 깊은 연속 던지기 */
+    public static final int MAX_EXTRA_THROWS = 6;
+
+    private static final YutResult[] RESULTS = YutResult.values();
+    private static final TurnOutcomes[] STANDARD = new TurnOutcomes[MAX_EXTRA_THROWS + 1];
+
+    static {
+        for (int depth = 0; depth <= MAX_EXTRA_THROWS; depth++) STANDARD[depth] = new TurnOutcomes(ThrowModel.STANDARD, depth);
+    }
+
+    private final int maxExtraThrows;
+    private final int[] packed;             // 묶음 ({@link Pending} 형식), 확률이 큰 순서
+    private final double[] probabilities;
+    private final double truncated;
+
+    /** 기본 확률 모형으로 연속 던지기를 maxExtraThrows 번까지 펼친 분포 (미리 만들어 둔 것) */
+    public static TurnOutcomes upTo(int maxExtraThrows) {
+        checkDepth(maxExtraThrows);
+        return STANDARD[maxExtraThrows];
+    }
+
+    /** 다른 확률 모형의 분포 (호출할 때마다 새로 만들므로 호출하는 쪽에서 보관) */
+    public static TurnOutcomes of(ThrowModel model, int maxExtraThrows) {
+        checkDepth(maxExtraThrows);
+        return model == ThrowModel.STANDARD ? STANDARD[maxExtraThrows] : new TurnOutcomes(model, maxExtraThrows);
+    }
+
+    private static void checkDepth(int maxExtraThrows) {
+        if (maxExtraThrows < 0 || maxExtraThrows > MAX_EXTRA_THROWS) {
+            throw new IllegalArgumentException("연속 던지기 깊이는 0~" + MAX_EXTRA_THROWS + "입니다: " + maxExtraThrows);
+        }
+    }
+
+    private TurnOutcomes(ThrowModel model, int maxExtraThrows) {
+        this.maxExtraThrows = maxExtraThrows;
+        Map<Integer, Double> outcomes = new LinkedHashMap<>();
+        double[] cut = new double[1];
+        enumerate(model, 0, 1.0, 0, outcomes, cut);
+
+        List<Map.Entry<Integer, Double>> sorted = new ArrayList<>(outcomes.entrySet());
+        sorted.removeIf(e -> e.getValue() == 0);   // 나올 수 없는 결과가 있는 모형
+        sorted.sort((a, b) -> Double.compare(b.getValue(), a.getValue()));
+        packed = new int[sorted.size()];
+        probabilities = new double[sorted.size()];
+        for (int i = 0; i < packed.length; i++) {
+            packed[i] = sorted.get(i).getKey();
+            probabilities[i] = sorted.get(i).getValue();
+        }
+        truncated = cut[0];
+    }
+
+    private void enumerate(ThrowModel model, int pending, double p, int extra, Map<Integer, Double> outcomes, double[] cut) {
+        for (YutResult r : RESULTS) {
+            int next = Pending.plus(pending, r);
+            double q = p * model.probability(r);
+            if (r.grantsExtraThrow()) {
+                if (extra < maxExtraThrows) {
+                    enumerate(model, next, q, extra + 1, outcomes, cut);
+                    continue;
+                }
+                cut[0] += q;
+            }
+            outcomes.merge(next, q, Double::sum);
+        }
+    }
+
+    /** 서로 다른 묶음 수 */
+    public int size() {
+        return packed.length;
+    }
+
+    /** i 번째 묶음이 나올 확률 (i 가 클수록 작거나 같음) */
+    public double probability(int i) {
+        return probabilities[i];
+    }
+
+    /** i 번째 묶음에 든 result 의 개수 */
+    public int count(int i, YutResult result) {
+        return Pending.count(packed[i], result);
+    }
+
+    /** i 번째 묶음 (빽도 → 모 순서) */
+    public List<YutResult> results(int i) {
+        List<YutResult> results = new ArrayList<>();
+        for (YutResult r : RESULTS) {
+            for (int n = count(i, r); n > 0; n--) results.add(r);
+        }
+        return results;
+    }
+
+    /** i 번째 묶음 ({@link Pending} 형식) */
+    int packed(int i) {
+        return packed[i];
+    }
+
+    /** 연속 던지기 깊이 */
+    public int getMaxExtraThrows() {
+        return maxExtraThrows;
+    }
+
+    /** 깊이에서 끊겨 마지막이 윷/모인 채로 끝난 줄기의 확률 합 */
+    public double truncated() {
+        return truncated;
+    }
+}
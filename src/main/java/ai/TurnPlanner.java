@@ -0,0 +1,217 @@
+package ai;
+
+import model.Game;
+import model.GameState;
+import model.Piece;
+import model.YutResult;
+import simulation.Move;
+import simulation.MovePolicy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * 한 차례에 나온 결과 여러 개(윷/모 연속)를 어떤 순서로 어느 말에 쓸지 모두 따져 가장 좋은 계획을 찾습니다.
+ *
+ * 중간 상태는 (위치 해시, 남은 결과 묶음) 으로 기억하므로 순서만 다르고 같은 곳에 오는 수순은 한 번만 계산합니다.
+ * 잡아서 생기는 보너스 던지기는 한 번까지 실제 확률로 펼쳐 기대값을 내고, 그 안에서 또 잡으면
+ * 보너스 던지기 값을 평균 전진 칸 수로 어림합니다. 차례가 끝난 위치는 남은 거리 차이로 평가하고,
+ * {@link Tablebase} 가 있으면 표에 든 종반 위치는 정확한 승률로 평가합니다.
+ *
+ * 힌트로 쓸 때는 {@link #plan(Game, List)} 의 수순을, 컴퓨터 플레이어로 쓸 때는 그 첫 수를 씁니다.
+ */
+public final class TurnPlanner implements MovePolicy {
+    /** 평가값 범위: 이기면 WIN, 그 밖에는 (가장 앞선 상대의 남은 거리 - 내 남은 거리) */
+    public static final double WIN = 1_000;
+    /** 펼치지 않는 보너스 던지기의 값 (한 번 던질 때 평균 전진 칸 수 어림) */
+    private static final double BONUS_THROW_STEPS = 2.5;
+    /** 보너스 던지기를 펼칠 때 윷/모 연속 던지기를 펼치는 횟수 */
+    private static final int MAX_EXTRA_THROWS = 0;
+    /** 보너스를 펼친 뒤의 상태를 펼치기 전 상태와 구분하는 키 */
+    private static final long EXPANDED = 0x7A3D_91C4_E0B2_5F18L;
+
+    private static final TurnOutcomes BONUS_ROLLS = TurnOutcomes.upTo(MAX_EXTRA_THROWS);
+
+    /** 계획의 한 걸음: 결과와 말 번호 ({@link GameState} 의 말 번호) */
+    public record Step(YutResult result, int piece) {}
+
+    /**
+     * 가장 좋은 계획. 잡으면 그 뒤는 보너스 던지기에 따라 달라지므로 수순은 잡는 수까지만 담습니다.
+     * @param value 계획대로 둘 때의 기대 평가값
+     */
+    public record Plan(List<Step> steps, double value) {}
+
+    private final Tablebase tablebase;   // null 가능
+
+    public TurnPlanner() {
+        this(null);
+    }
+
+    /**
+     * @param tablebase 종반 승률표 (null 이면 거리 평가만 씀)
+     */
+    public TurnPlanner(Tablebase tablebase) {
+        this.tablebase = tablebase;
+    }
+
+    @Override
+    public Move choose(Game game, List<YutResult> pending, RandomGenerator rand) {
+        GameState s = GameState.of(game);
+        Step first = plan(s, pending).steps().get(0);
+        List<Piece> pieces = game.getCurrentPlayer().getPieces();
+        return new Move(first.result(), pieces.get(first.piece() % s.getPiecesPerPlayer()));
+    }
+
+    /** 현재 플레이어가 pending 을 쓰는 가장 좋은 계획 */
+    public Plan plan(Game game, List<YutResult> pending) {
+        return plan(GameState.of(game), pending);
+    }
+
+    /** s 의 둘 차례 플레이어가 pending 을 쓰는 가장 좋은 계획 */
+    public Plan plan(GameState s, List<YutResult> pending) {
+        if (pending.isEmpty()) throw new IllegalArgumentException("쓸 결과가 없습니다.");
+        Search search = new Search(s.getTurn(), tablebase);
+        int packed = Pending.of(pending);
+        double value = search.best(s, packed, true, search.rival(s));
+
+        // 기억해 둔 최선 수를 따라가며 수순을 꺼냄
+        List<Step> steps = new ArrayList<>();
+        GameState cur = s;
+        int left = packed;
+        while (true) {
+            int code = search.bestMove(Search.key(cur, left, true));
+            YutResult r = YutResult.values()[code >>> 16];
+            int piece = code & 0xFFFF;
+            steps.add(new Step(r, piece));
+            cur = GameState.apply(cur, piece, r);
+            left = Pending.minus(left, r);
+            if (left == 0 || cur.hasBonusThrow() || cur.isWin(search.me)) break;
+        }
+        return new Plan(List.copyOf(steps), value);
+    }
+
+    /** plan 한 번 동안만 쓰는 탐색 상태 */
+    private static final class Search {
+        final int me;
+        final Tablebase tablebase;
+        // 기억 표: 선형 탐사, 키 0 은 빈 칸 (위치 해시가 0 일 확률은 무시)
+        long[] keys = new long[1 << 12];
+        double[] values = new double[keys.length];
+        int[] moves = new int[keys.length];     // (결과 순서 << 16 | 말 번호)
+        int size;
+
+        Search(int me, Tablebase tablebase) {
+            this.me = me;
+            this.tablebase = tablebase;
+        }
+
+        static long key(GameState s, int pending, boolean expand) {
+            return s.zobrist() ^ Pending.zobrist(pending) ^ (expand ? 0 : EXPANDED);
+        }
+
+        /**
+         * pending 을 가장 좋게 쓸 때의 값. expand 면 잡기 보너스를 펼침.
+         * rival 은 가장 앞선 상대의 남은 거리 (내 차례 동안은 잡을 때만 바뀌므로 넘겨받음)
+         */
+        double best(GameState s, int pending, boolean expand, int rival) {
+            long key = key(s, pending, expand);
+            int slot = find(key);
+            if (keys[slot] == key) return values[slot];
+
+            int per = s.getPiecesPerPlayer();
+            double best = Double.NEGATIVE_INFINITY;
+            int bestMove = 0;
+            for (YutResult r : YutResult.values()) {
+                if (Pending.count(pending, r) == 0) continue;
+                int left = Pending.minus(pending, r);
+                long seenLow = 0, seenHigh = 0;   // 같은 칸(업, 집)의 말은 같은 수
+                for (int i = me * per; i < (me + 1) * per; i++) {
+                    int pos = s.position(i);
+                    if (pos == GameState.FINISHED) continue;
+                    if (pos < 64 ? (seenLow & (1L << pos)) != 0 : (seenHigh & (1L << (pos - 64))) != 0) continue;
+                    if (pos < 64) seenLow |= 1L << pos;
+                    else seenHigh |= 1L << (pos - 64);
+
+                    double v = after(GameState.apply(s, i, r), left, expand, rival);
+                    if (v > best) {
+                        best = v;
+                        bestMove = r.ordinal() << 16 | i;
+                    }
+                }
+            }
+            put(key, best, bestMove);
+            return best;
+        }
+
+        int bestMove(long key) {
+            return moves[find(key)];
+        }
+
+        private int find(long key) {
+            int mask = keys.length - 1;
+            int slot = (int) (key ^ key >>> 32) & mask;
+            while (keys[slot] != 0 && keys[slot] != key) slot = (slot + 1) & mask;
+            return slot;
+        }
+
+        private void put(long key, double value, int move) {
+            if (2 * (size + 1) > keys.length) grow();
+            int slot = find(key);
+            if (keys[slot] != key) size++;
+            keys[slot] = key;
+            values[slot] = value;
+            moves[slot] = move;
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            double[] oldValues = values;
+            int[] oldMoves = moves;
+            keys = new long[oldKeys.length * 2];
+            values = new double[keys.length];
+            moves = new int[keys.length];
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] == 0) continue;
+                int slot = find(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+                moves[slot] = oldMoves[i];
+            }
+        }
+
+        private double after(GameState next, int left, boolean expand, int rival) {
+            if (next.isWin(me)) return WIN;
+            if (next.hasBonusThrow()) {
+                rival = rival(next);
+                if (expand) {
+                    double v = 0;
+                    for (int i = 0; i < BONUS_ROLLS.size(); i++) {
+                        v += BONUS_ROLLS.probability(i) * best(next, Pending.merge(left, BONUS_ROLLS.packed(i)), false, rival);
+                    }
+                    return v;
+                }
+                double v = left == 0 ? evaluate(next, rival) : best(next, left, false, rival);
+                return Math.min(WIN, v + BONUS_THROW_STEPS);
+            }
+            return left == 0 ? evaluate(next, rival) : best(next, left, expand, rival);
+        }
+
+        /** 차례가 끝난 위치의 값 */
+        private double evaluate(GameState s, int rival) {
+            if (tablebase != null && tablebase.covers(s)) {
+                double p = 1 - tablebase.probe(s.nextTurn());   // 상대 차례 시작 → 내 승률
+                return (2 * p - 1) * (WIN - 1);
+            }
+            return rival - s.distanceToGoalOf(me);
+        }
+
+        int rival(GameState s) {
+            int rival = Integer.MAX_VALUE;
+            for (int p = 0; p < s.getPlayerCount(); p++) {
+                if (p != me) rival = Math.min(rival, s.distanceToGoalOf(p));
+            }
+            return rival;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package ai;
+
+import model.GameState;
+import model.ThrowStream;
+import model.YutResult;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 화면에 보여 줄 플레이어별 승률을 백그라운드 스레드 하나에서 계산합니다.
+ *
+ * {@link Tablebase} 에 든 위치면 정확한 값을 한 번에 알리고, 아니면 무작위 롤아웃을 돌리며
+ * 첫 값은 {@link #FIRST_UPDATE_MILLIS} 안에, 그 뒤로는 알림 간격을 두 배씩 늘려 가며 다듬은 값을 알립니다.
+ * 새 위치로 {@link #estimate} 를 부르면 돌던 계산은 취소되므로 호출하는 쪽(FX 스레드)은 기다리지 않습니다.
+ */
+public final class WinEstimator implements AutoCloseable {
+    /** 첫 추정값을 알리기까지의 시간 */
+    public static final long FIRST_UPDATE_MILLIS = 50;
+    /** 롤아웃을 이만큼 돌렸으면 멈춤 */
+    public static final long MAX_SAMPLES = 200_000;
+    /** 한 위치에 쓰는 최대 시간 */
+    public static final long MAX_MILLIS = 5_000;
+
+    /** 추정 결과: 플레이어별 승률, 롤아웃 수 (정확한 값이면 0) */
+    public record Estimate(double[] winRates, long samples, boolean exact) {}
+
+    /** 추정값을 받는 쪽. 계산 스레드에서 불리고 취소 직후 한 번 더 불릴 수 있으므로, 받는 쪽에서 최신 위치인지 확인 */
+    @FunctionalInterface
+    public interface Listener {
+        void update(Estimate estimate);
+    }
+
+    private final Tablebase tablebase;   // null 가능
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "win-estimator");
+        t.setDaemon(true);
+        return t;
+    });
+    private Future<?> running;
+
+    /**
+     * @param tablebase 종반 승률표 (null 이면 롤아웃만 씀)
+     */
+    public WinEstimator(Tablebase tablebase) {
+        this.tablebase = tablebase;
+    }
+
+    /**
+     * 돌던 계산을 취소하고 state 의 승률 계산을 시작합니다.
+     * @param pending 둘 차례인 플레이어가 이미 던져 두고 아직 쓰지 않은 결과 (이번 차례에 더 던지지 않음)
+     */
+    public void estimate(GameState state, List<YutResult> pending, Listener listener) {
+        estimate(state, pending, false, listener);
+    }
+
+    /**
+     * @param throwOwed 윷/모나 잡기로 얻은 던지기가 아직 남았는지 (true 면 그 던지기의 결과를 pending 에 더해 계산)
+     */
+    public synchronized void estimate(GameState state, List<YutResult> pending, boolean throwOwed, Listener listener) {
+        cancel();
+        int packed = Pending.of(pending);
+        running = worker.submit(() -> run(state, packed, pending, throwOwed, listener));
+    }
+
+    /** 돌던 계산을 멈춤 (이미 보낸 알림은 되돌리지 않음) */
+    public synchronized void cancel() {
+        if (running != null) running.cancel(true);
+        running = null;
+    }
+
+    @Override
+    public void close() {
+        cancel();
+        worker.shutdownNow();
+    }
+
+    private void run(GameState state, int packed, List<YutResult> pending, boolean throwOwed, Listener listener) {
+        int players = state.getPlayerCount();
+        int mover = state.getTurn();
+
+        // 1) 표에 있으면 정확한 값
+        if (tablebase != null && tablebase.covers(state)) {
+            double p = tablebase.probe(state, pending, throwOwed);
+            double[] rates = new double[players];
+            rates[mover] = p;
+            rates[1 - mover] = 1 - p;
+            listener.update(new Estimate(rates, 0, true));
+            return;
+        }
+
+        // 2) 롤아웃: 알림 간격을 두 배씩 늘림
+        long[] wins = new long[players];
+        ThrowStream rand = new ThrowStream(new SplittableRandom());
+        long start = System.nanoTime();
+        long interval = FIRST_UPDATE_MILLIS * 1_000_000L;
+        long nextUpdate = start + interval;
+        long samples = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            int owed = throwOwed ? Pending.merge(packed, Pending.roll(rand)) : packed;
+            wins[MctsPolicy.playout(state, owed, rand)]++;
+            samples++;
+
+            long now = System.nanoTime();
+            boolean last = samples >= MAX_SAMPLES || now - start >= MAX_MILLIS * 1_000_000L;
+            if (now >= nextUpdate || last) {
+                listener.update(new Estimate(rates(wins, samples), samples, false));
+                interval *= 2;
+                nextUpdate = now + interval;
+            }
+            if (last) return;
+        }
+    }
+
+    private static double[] rates(long[] wins, long samples) {
+        double[] rates = new double[wins.length];
+        for (int p = 0; p < wins.length; p++) rates[p] = (double) wins[p] / samples;
+        return rates;
+    }
+}
@@ -0,0 +1,83 @@
+package app;
+
+import model.Game;
+import model.GameScale;
+import model.Piece;
+import model.Player;
+import model.ThrowStream;
+import model.YutResult;
+import simulation.BoardKind;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 인원과 말 개수를 늘려 가며 한 수의 비용을 재는 진입점 ({@link GameScale#LARGE}).
+ * 한 수 = 윷 던지기 + 무작위 말 고르기 + 적용(잡기, 업, 완주 판정). 게임 객체 하나를 {@link Game#reset()} 으로 재사용합니다.
+ * 예) ./gradlew benchmark --args="--board octagon --millis 2000"
+ */
+public class MainBenchmark {
+    private static final int[][] SIZES = { {2, 4}, {4, 5}, {8, 16}, {16, 16}, {16, 32} };
+
+    public static void main(String[] args) {
+        BoardKind board = BoardKind.SQUARE;
+        long millis = 1_000;
+        long seed = 1;
+
+        for (int i = 0; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : "";
+            switch (args[i]) {
+                case "--board":  board = BoardKind.parse(value); i++; break;
+                case "--millis": millis = Long.parseLong(value); i++; break;
+                case "--seed":   seed = Long.parseLong(value); i++; break;
+                default:
+                    System.err.println("알 수 없는 옵션: " + args[i]);
+                    System.err.println("사용법: --board square|...|dodecagon|4-12 --millis 크기별_측정_시간 --seed S");
+                    System.exit(2);
+            }
+        }
+
+        System.out.printf("%s 판, 크기마다 %,dms%n", board.getLabel(), millis);
+        System.out.println("  인원 × 말      수 (회)    ns/수     판/초");
+        for (int[] size : SIZES) {
+            Game game = new Game(size[0], size[1], board.create(), GameScale.LARGE);
+            ThrowStream throwsStream = new ThrowStream(new SplittableRandom(seed));
+            run(game, throwsStream, millis / 2);              // 데우기
+            long start = System.nanoTime();
+            long[] counts = run(game, throwsStream, millis);
+            double elapsed = System.nanoTime() - start;
+            System.out.printf("  %3d × %-3d %,12d %8.1f %9.1f%n",
+                    size[0], size[1], counts[0], elapsed / counts[0], counts[1] / (elapsed / 1e9));
+        }
+    }
+
+    // millis 동안 게임을 끝까지 반복, {수, 끝난 판} 반환
+    private static long[] run(Game game, ThrowStream rand, long millis) {
+        long deadline = System.nanoTime() + millis * 1_000_000;
+        long moves = 0, games = 0;
+        while (System.nanoTime() < deadline) {
+            game.reset();
+            while (true) {
+                Player player = game.getCurrentPlayer();
+                YutResult result = rand.nextThrow();
+                game.applyYutResult(result, pick(player.getPieces(), rand));
+                moves++;
+                if (player.allPiecesFinished()) break;
+                if (!result.grantsExtraThrow()) game.nextTurn();
+            }
+            games++;
+        }
+        return new long[] { moves, games };
+    }
+
+    // 무작위 위치부터 훑어 처음 만나는 완주하지 않은 말
+    private static Piece pick(List<Piece> pieces, ThrowStream rand) {
+        int n = pieces.size();
+        int from = rand.nextInt(n);
+        for (int i = 0; i < n; i++) {
+            Piece p = pieces.get((from + i) % n);
+            if (!p.isFinished()) return p;
+        }
+        throw new IllegalStateException("움직일 말이 없습니다.");
+    }
+}
@@ -0,0 +1,95 @@
+package app;
+
+import model.GameScale;
+import server.GameServer;
+import server.ServerStats;
+import simulation.BoardKind;
+import simulation.GreedyPolicy;
+import simulation.MovePolicy;
+import simulation.RandomPolicy;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * LAN 대회용 게임 서버 진입점. 접속한 플레이어의 게임과 함께, --bots 로 컴퓨터끼리 두는 판을 그 수만큼 계속 유지해
+ * 한 대에서 몇 판까지 버티는지 잽니다. 주기마다 동시 판 수, 초당 수, 수 지연 분위, 판당 메모리를 출력합니다.
+ * 예) ./gradlew serve --args="--port 7777 --bots 10000 --think 50"
+ */
+public class MainServer {
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int port = 7777;
+        int threads = 0;
+        int bots = 0;
+        BoardKind board = BoardKind.SQUARE;
+        int players = 2;
+        int pieces = 4;
+        long think = 50;
+        String policyName = "greedy";
+        long reportSeconds = 5;
+
+        for (int i = 0; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : "";
+            switch (args[i]) {
+                case "--port":    port = Integer.parseInt(value); i++; break;
+                case "--threads": threads = Integer.parseInt(value); i++; break;
+                case "--bots":    bots = Integer.parseInt(value); i++; break;
+                case "--board":   board = BoardKind.parse(value); i++; break;
+                case "--players": players = Integer.parseInt(value); i++; break;
+                case "--pieces":  pieces = Integer.parseInt(value); i++; break;
+                case "--think":   think = Long.parseLong(value); i++; break;
+                case "--policy":  policyName = value; i++; break;
+                case "--report":  reportSeconds = Long.parseLong(value); i++; break;
+                default:
+                    System.err.println("알 수 없는 옵션: " + args[i]);
+                    System.err.println("사용법: --port P --threads T --bots N --board square|...|dodecagon|4-12 "
+                            + "--players P --pieces K --think ms --policy greedy|random --report 초");
+                    System.exit(2);
+            }
+        }
+        GameScale.STANDARD.check(players, pieces);
+        MovePolicy policy = policyName.equalsIgnoreCase("random") ? new RandomPolicy() : new GreedyPolicy();
+
+        long baseline = usedHeapAfterGc();
+        GameServer server = new GameServer(threads);
+        server.listen(port);
+        System.out.printf("포트 %d 에서 대기 중, 컴퓨터 판 %,d개 유지 (%s 판, %d명 × 말 %d개, 생각 %dms)%n",
+                server.getPort(), bots, board.getLabel(), players, pieces, think);
+
+        for (int i = 0; i < bots; i++) keepBotGame(server, board, players, pieces, policy, think);
+
+        ServerStats stats = server.getStats();
+        long lastMoves = 0, lastTime = System.nanoTime();
+        System.out.println("  진행 중   최대      끝난 판     수/초   지연 p50   p99      판당 메모리");
+        while (true) {
+            Thread.sleep(reportSeconds * 1000);
+            long now = System.nanoTime(), moves = stats.getMoves();
+            int live = stats.getLiveGames();
+            long perGame = live == 0 ? 0 : (usedHeapAfterGc() - baseline) / live;
+            System.out.printf("  %,7d %,7d %,12d %,9.0f %8s %8s %,10d B%n",
+                    live, stats.getPeakGames(), stats.getFinished(),
+                    (moves - lastMoves) / ((now - lastTime) / 1e9),
+                    micros(stats.latencyPercentileNanos(0.5)), micros(stats.latencyPercentileNanos(0.99)), perGame);
+            lastMoves = moves;
+            lastTime = now;
+        }
+    }
+
+    // 끝나면 같은 설정으로 새 판을 열어 동시 판 수를 유지
+    private static void keepBotGame(GameServer server, BoardKind board, int players, int pieces,
+                                    MovePolicy policy, long think) {
+        CompletableFuture<?> done = server.hostBotGame(board, players, pieces, policy, think).finished();
+        done.whenCompleteAsync((winner, failure) -> keepBotGame(server, board, players, pieces, policy, think));
+    }
+
+    // 판당 메모리 추정용: GC 직후의 사용 중인 힙
+    private static long usedHeapAfterGc() {
+        Runtime rt = Runtime.getRuntime();
+        System.gc();
+        return rt.totalMemory() - rt.freeMemory();
+    }
+
+    private static String micros(long nanos) {
+        return nanos < 1_000_000 ? "≤" + nanos / 1_000 + "µs" : "≤" + nanos / 1_000_000 + "ms";
+    }
+}
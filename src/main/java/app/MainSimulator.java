@@ -0,0 +1,117 @@
+package app;
+
+import ai.ExpectimaxPolicy;
+import ai.MctsPolicy;
+import ai.Tablebase;
+import ai.TurnPlanner;
+import model.GameScale;
+import model.ThrowModel;
+import simulation.BatchSimulator;
+import simulation.BoardKind;
+import simulation.GreedyPolicy;
+import simulation.MovePolicy;
+import simulation.RandomPolicy;
+import simulation.SimulationConfig;
+import simulation.SimulationStats;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 화면 없이 여러 판을 돌려 규칙 균형과 엔진 처리량을 재는 진입점.
+ * 예) ./gradlew simulate --args="--board hexagon --players 4 --pieces 5 --games 100000 --policy greedy,random"
+ */
+public class MainSimulator {
+    public static void main(String[] args) {
+        BoardKind board = BoardKind.SQUARE;
+        int players = 2;
+        int pieces = 4;
+        long games = 10_000;
+        String policyNames = "random";
+        long seed = System.nanoTime();
+        int maxTurns = SimulationConfig.DEFAULT_MAX_TURNS;
+        int threads = 0;
+        ThrowModel throwModel = ThrowModel.STANDARD;
+        GameScale scale = GameScale.STANDARD;
+
+        for (int i = 0; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : "";
+            switch (args[i]) {
+                case "--board":     board = BoardKind.parse(value); i++; break;
+                case "--players":   players = Integer.parseInt(value); i++; break;
+                case "--pieces":    pieces = Integer.parseInt(value); i++; break;
+                case "--games":     games = Long.parseLong(value); i++; break;
+                case "--policy":    policyNames = value; i++; break;
+                case "--seed":      seed = Long.parseLong(value); i++; break;
+                case "--max-turns": maxTurns = Integer.parseInt(value); i++; break;
+                case "--threads":   threads = Integer.parseInt(value); i++; break;
+                case "--throws":    throwModel = ThrowModel.parse(value); i++; break;
+                case "--scale":     scale = GameScale.parse(value); i++; break;
+                default:
+                    System.err.println("알 수 없는 옵션: " + args[i]);
+                    System.err.println("사용법: --board square|pentagon|...|dodecagon|4-12 --players 2-4 --pieces 2-5 --games N"
+                            + " --policy random,greedy --seed S --max-turns T --threads N"
+                            + " --throws standard|sticks:P[:marked]|w0,w1,w2,w3,w4,w5 --scale standard|large");
+                    System.exit(2);
+            }
+        }
+
+        SimulationConfig config = new SimulationConfig(board, players, pieces, games,
+                parsePolicies(policyNames, board), seed, maxTurns, threads, throwModel, scale);
+        System.out.printf("%s 판, %d명 × 말 %d개, %,d판 (전략 %s, 던지기 %s, seed %d)%n",
+                board.getLabel(), players, pieces, games, policyNames, throwModel.getName(), seed);
+
+        SimulationStats stats = new BatchSimulator(config).run();
+        print(stats, config);
+    }
+
+    private static List<MovePolicy> parsePolicies(String names, BoardKind board) {
+        List<MovePolicy> policies = new ArrayList<>();
+        for (String name : names.split(",")) {
+            switch (name.trim()) {
+                case "random": policies.add(new RandomPolicy()); break;
+                case "greedy": policies.add(new GreedyPolicy()); break;
+                case "expectimax":
+                    policies.add(new ExpectimaxPolicy(ExpectimaxPolicy.DEFAULT_MAX_DEPTH,
+                            ExpectimaxPolicy.DEFAULT_BUDGET_MILLIS, Tablebase.find(board.create().getRoutingTable())));
+                    break;
+                case "mcts": policies.add(new MctsPolicy()); break;
+                case "plan": policies.add(new TurnPlanner(Tablebase.find(board.create().getRoutingTable()))); break;
+                default: throw new IllegalArgumentException("알 수 없는 전략: " + name);
+            }
+        }
+        return policies;
+    }
+
+    private static void print(SimulationStats stats, SimulationConfig config) {
+        System.out.printf("소요 %.2f초, 초당 %,.0f판%n", stats.getElapsedNanos() / 1e9, stats.gamesPerSecond());
+
+        System.out.println("\n[자리별 승률]");
+        for (int seat = 0; seat < stats.getPlayers(); seat++) {
+            System.out.printf("  %d번 자리: %6.2f%% (%,d승)%n", seat + 1, stats.winRate(seat) * 100, stats.getWins(seat));
+        }
+        if (stats.getDraws() > 0) {
+            System.out.printf("  %d턴 초과 무승부: %,d판%n", config.maxTurns(), stats.getDraws());
+        }
+
+        System.out.println("\n[게임 길이 (턴)]");
+        System.out.printf("  최소 %d / 평균 %.1f / 중앙 %d / 90%% %d / 99%% %d / 최대 %d%n",
+                stats.minTurns(), stats.meanTurns(), stats.percentileTurns(0.5),
+                stats.percentileTurns(0.9), stats.percentileTurns(0.99), stats.maxTurns());
+
+        // 5턴 단위 막대 그래프
+        int bucket = 5;
+        long peak = 1;
+        for (int t = 0; t <= stats.maxTurns(); t += bucket) peak = Math.max(peak, bucketCount(stats, t, bucket));
+        for (int t = stats.minTurns() / bucket * bucket; t <= stats.maxTurns(); t += bucket) {
+            long count = bucketCount(stats, t, bucket);
+            System.out.printf("  %4d-%-4d %8d %s%n", t, t + bucket - 1, count, "#".repeat((int) (40 * count / peak)));
+        }
+    }
+
+    private static long bucketCount(SimulationStats stats, int from, int size) {
+        long count = 0;
+        for (int t = from; t < from + size && t <= stats.maxTurns(); t++) count += stats.gamesWithTurns(t);
+        return count;
+    }
+}
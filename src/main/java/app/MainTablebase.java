@@ -0,0 +1,44 @@
+package app;
+
+import ai.Tablebase;
+import model.RoutingTable;
+import simulation.BoardKind;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 2인 종반 승률표를 만드는 진입점. 끊겼다가 같은 파일로 다시 실행하면 이어서 계산합니다.
+ * 예) ./gradlew tablebase --args="--board hexagon --out tablebase/hexagon.ytb"
+ */
+public class MainTablebase {
+    public static void main(String[] args) throws IOException {
+        BoardKind board = BoardKind.SQUARE;
+        Path out = null;
+        int threads = 0;
+
+        for (int i = 0; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : "";
+            switch (args[i]) {
+                case "--board":   board = BoardKind.parse(value); i++; break;
+                case "--out":     out = Path.of(value); i++; break;
+                case "--threads": threads = Integer.parseInt(value); i++; break;
+                default:
+                    System.err.println("알 수 없는 옵션: " + args[i]);
+                    System.err.println("사용법: --board square|pentagon|hexagon --out 파일 --threads N");
+                    System.exit(2);
+            }
+        }
+        if (out == null) out = Tablebase.defaultPath(board.name().toLowerCase());
+        if (out.getParent() != null) Files.createDirectories(out.getParent());
+
+        RoutingTable routes = board.create().getRoutingTable();
+        System.out.printf("%s 판 종반 승률표 → %s%n", board.getLabel(), out);
+        long start = System.nanoTime();
+        Tablebase tb = Tablebase.generate(out, routes, threads,
+                (sweeps, delta) -> System.out.printf("  %d바퀴: 최대 변화 %.2e (%.1f초)%n",
+                        sweeps, delta, (System.nanoTime() - start) / 1e9));
+        System.out.printf("완료: 위치 %,d개, %d바퀴, 파일 %,d바이트%n", tb.size(), tb.getSweeps(), Files.size(out));
+    }
+}
@@ -17,18 +17,31 @@ import javafx.stage.Stage;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.util.Duration;
+import ai.ExpectimaxPolicy;
+import ai.Tablebase;
+import ai.TurnPlanner;
+import ai.WinEstimator;
 import model.*;
+import model.turn.DecisionProvider;
+import model.turn.TurnEngine;
+import model.turn.TurnPhase;
+import simulation.MovePolicy;
+import simulation.PolicyProvider;
 import view.javafx.BoardPane;
 import view.javafx.FXDialog;
 
 import java.io.IOException;
 import java.net.URL;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ForkJoinPool;
 
 public class FXGameController implements Initializable {
 
     @FXML private Label turnLabel;
     @FXML private Label statusLabel;
+    @FXML private Label winRateLabel;
     @FXML private Button throwButton;
     @FXML private TextArea logArea;
     @FXML private BoardPane boardPane;
@@ -36,35 +49,50 @@ public class FXGameController implements Initializable {
     @FXML private ImageView staticYutView;
     @FXML private HBox yutBox;
 
-    enum State {ROLLING, SELECTING_PIECE, APPLYING_MOVE, IDLE}
-    private State state = State.IDLE;
-
     private Game game;
-    private final List<YutResult> yutResults = new ArrayList<>();
-    private YutResult currentYut;
-    private List<Piece> candidates;
     private final Random random = new Random();
     private Image defaultYutThrowImage;
 
+    // 턴 진행은 엔진이 맡고, 이 컨트롤러는 사람의 입력을 넘기고 단계마다 화면을 그림
+    private TurnEngine engine;
+    private CompletableFuture<YutResult> rollRequest;   // 던지기 버튼을 기다리는 중
+    private CompletableFuture<Piece> pieceRequest;      // 말 클릭을 기다리는 중
+
+    // 컴퓨터가 맡은 플레이어와 컴퓨터의 수 선택 전략
+    private final Set<Player> computerPlayers = new HashSet<>();
+    private final MovePolicy computer = new ExpectimaxPolicy();
+
+    // 승률 표시: 위치가 바뀔 때마다 새로 계산 (FX 스레드에서만 바꾸는 번호로 지난 위치의 알림을 버림)
+    private WinEstimator estimator;
+    private int estimateToken;
+    // 결과가 여러 개일 때 쓰는 순서 추천
+    private TurnPlanner planner = new TurnPlanner();
+
     public void setGame(Game game) {
         this.game = game;
     }
-    
-    private int stepsOf(YutResult r) {
-        return switch (r) {
-            case DO      -> 1;
-            case GAE     -> 2;
-            case GEOL    -> 3;
-            case YUT     -> 4;
-            case MO      -> 5;
-            case BACKDO  -> -1;
-        };
+
+    /**
+     * 뒤쪽 count 명의 플레이어를 컴퓨터가 맡습니다. (initGame 전에 호출)
+     */
+    public void setComputerPlayers(int count) {
+        computerPlayers.clear();
+        List<Player> players = game.getPlayers();
+        for (int i = Math.max(0, players.size() - count); i < players.size(); i++) {
+            computerPlayers.add(players.get(i));
+        }
     }
 
+    private boolean isComputerTurn() {
+        return computerPlayers.contains(game.getCurrentPlayer());
+    }
+    
     @Override
     public void initialize(URL location, ResourceBundle resources) {
         // 1) 기존 초기화
         boardPane.setOnPieceClick(this::onPieceClicked);
+        boardPane.setMovePreviewProvider(p -> pieceRequest != null && engine.getCandidates().contains(p)
+                ? game.previewMove(engine.getSelectedResult(), p) : null);
         throwButton.setOnAction(e -> onRoll());
 
         // 2) 오른쪽에 고정될 윷 이미지 세팅
@@ -79,200 +107,159 @@ public class FXGameController implements Initializable {
     }
 
     public void initGame() {
-        yutResults.clear();
         logArea.clear();
 
-        boardPane.drawBoard(game.getBoard(), game.getPieces(), game.getPlayers());
-        updateTurnLabel();
-        updateStatusLabel();
-        Platform.runLater(() -> {
-            boardPane.redraw();
-            boardPane.highlightCurrentPlayer(game.getCurrentPlayer());
+        // 모델 이벤트(윷 결과, 이동, 잡기, 완주)를 로그 창에 출력
+        game.getEventBus().subscribe(e -> {
+            if (Platform.isFxApplicationThread()) log(e.message());
+            else Platform.runLater(() -> log(e.message()));
         });
 
-        throwButton.setDisable(false);
+        boardPane.drawBoard(game.getBoard(), game.getPieces(), game.getPlayers());
+        Tablebase tablebase = Tablebase.find(game.getBoard().getRoutingTable());
+        if (estimator != null) estimator.close();
+        estimator = new WinEstimator(tablebase);
+        planner = new TurnPlanner(tablebase);
+        throwButton.setDisable(true);
         throwButton.setOnAction(e -> onRoll());
+
+        // 사람은 버튼/대화상자/클릭으로, 컴퓨터는 백그라운드 탐색으로 답함
+        List<DecisionProvider> providers = new ArrayList<>();
+        DecisionProvider human = new HumanProvider();
+        DecisionProvider bot = new PolicyProvider(computer, random, ForkJoinPool.commonPool());
+        for (Player p : game.getPlayers()) providers.add(computerPlayers.contains(p) ? bot : human);
+
+        // 엔진은 항상 FX 스레드에서 (다음 펄스에) 이어 가므로 대화상자와 애니메이션을 바로 쓸 수 있음
+        engine = new TurnEngine(game, providers);
+        engine.setExecutor(Platform::runLater);
+        engine.addObserver(this::onPhase);
+        Platform.runLater(() -> engine.play().exceptionally(ex -> {
+            ex.printStackTrace();
+            return null;
+        }));
     }
 
     @FXML
     public void onRoll() {
+        CompletableFuture<YutResult> request = rollRequest;
+        if (request == null) return;   // 컴퓨터 차례이거나 던질 때가 아니면 버튼 무시
         throwButton.setDisable(true);
-        yutResults.clear();
-        updateYutDisplay();
-
-        boolean randomMode = FXDialog.askRandomMode();
-
-        if (randomMode) {
-            // 랜덤 모드: 즉시 결과 생성 + 애니메이션 → 콜백
-            YutResult r = YutResult.throwYut(random);
-            playYutAnimation(r, () -> handleSingleThrow(r));
-        } else {
-            // 지정 모드: 다이얼로그로 결과 선택 → 애니메이션 → 콜백
-            YutResult r = FXDialog.askManualThrow();
-            if (r == null) return;
-            playYutAnimation(r, () -> handleSingleThrow(r));
+        YutResult r = throwOnce();
+        if (r == null) {               // 지정 모드에서 취소: 다시 던질 수 있게
+            throwButton.setDisable(false);
+            return;
         }
+        rollRequest = null;
+        request.complete(r);
     }
 
 
     @FXML
     public void onPieceClicked(Piece p) {
-        if (state != State.SELECTING_PIECE) return;
-        if (!candidates.contains(p)) return;
-
-        state = State.APPLYING_MOVE;
-
-        // **①** 클릭 전 위치(oldPos) 저장 (null이면 대기장)
-        BoardNode oldPos = p.getPosition();
-        int steps = stepsOf(currentYut);
-
-        // **②** 애니메이션만 실행 (모델 적용은 끝난 뒤 onFinished 에서)
-        boardPane.animateAlongPath(p, oldPos, steps, () -> {
-            boolean captured = game.applyYutResult(currentYut, p);
-            log(game.getCurrentPlayer().getName() + " 이동: " + currentYut);
-            boardPane.redraw();
-            handleAfterMove(captured);
-        });
+        CompletableFuture<Piece> request = pieceRequest;
+        if (request == null) return;
+        if (!engine.getCandidates().contains(p)) return;
+        pieceRequest = null;
+        request.complete(p);
     }
 
-
-
     /**
-     * 말 이동 애니메이션이 끝난 뒤 호출됩니다.
-     * • 방금 적용한 currentYut을 yutResults에서 제거
-     * • 캡처 보너스나 남은 윷 결과가 있으면 다음 결과 선택
-     * • 승리 판정 및 턴 전환
+     * 엔진의 단계가 바뀔 때마다 화면을 그립니다.
+     * 윷 던지기와 말 이동은 애니메이션이 끝날 때까지 엔진을 멈춰 두고, 모델 적용은 엔진이 끝난 뒤에 합니다.
      */
-    private void handleAfterMove(boolean captured) {
-        // ▶ 애니메이션 → PauseTransition 콜백이 끝난 다음 프레임
-        Platform.runLater(() -> {
-            // (1) 방금 적용한 currentYut 제거
-            if (currentYut != null) {
-                yutResults.remove(currentYut);
-                currentYut = null;          // 강조 초기화
-                updateYutDisplay();
-            }
-
-            // (2) 먼저 승리 체크
-            if (game.isCurrentPlayerWin()) {
-                boolean again = FXDialog.confirmRestart(game.getCurrentPlayer().getName());
-                Stage stage = (Stage) throwButton.getScene().getWindow();
-
-                if (again) {
-                    try {
-                        FXMLLoader loader = new FXMLLoader(
-                                getClass().getResource("/fxml/StartPane.fxml")
-                        );
-                        Parent startRoot = loader.load();
-                        FXStartController startCtrl = loader.getController();
-                        startCtrl.setPrimaryStage(stage);
-                        Scene startScene = new Scene(startRoot, 600, 400);
-                        stage.setScene(startScene);
-                    } catch (IOException ex) {
-                        ex.printStackTrace();
-                    }
-                } else {
-                    Platform.exit();
+    private CompletionStage<Void> onPhase(TurnEngine engine, TurnPhase phase) {
+        updateYutDisplay();
+        switch (phase) {
+            case THROWING:
+                boardPane.redraw();
+                if (engine.getThrowsThisTurn() == 0) {
+                    // 새 차례
+                    updateTurnLabel();
+                    updateStatusLabel();
+                    boardPane.highlightCurrentPlayer(game.getCurrentPlayer());
                 }
-                return;
-            }
-
-            // (2) 캡처 보너스가 있으면 보너스 던지기 체인으로 분기
-            if (captured) {
-                // 여기서 바로 askRandomMode 하면 에러 → runLater 안으로 들어왔으니 안전
-                bonusThrowChain(new ArrayList<>());
-                return;
-            }
-
-            // (3) 남은 윷 결과가 있으면 결과 선택 단계
-            if (!yutResults.isEmpty()) {
-                selectAndPromptNextYut();
-                return;
+                refreshWinRates();
+                return null;
+            case THROWN: {
+                CompletableFuture<Void> done = new CompletableFuture<>();
+                playYutAnimation(engine.getLastThrow(), () -> done.complete(null));
+                return done;
             }
-
-            if (game.isCurrentPlayerWin()) {
-                // 다이얼로그로 묻기
-                boolean again = FXDialog.confirmRestart(game.getCurrentPlayer().getName());
-
-                // 현재 Window(Stage) 참조
-                Stage stage = (Stage) throwButton.getScene().getWindow();
-
-                if (again) {
-                    // 1) StartPane.fxml 로드
-                    try {
-                        FXMLLoader loader = new FXMLLoader(
-                            getClass().getResource("/fxml/StartPane.fxml")
-                        );
-                        Parent startRoot = loader.load();
-
-                        // 2) 컨트롤러에 Stage 주입
-                        FXStartController startCtrl = loader.getController();
-                        startCtrl.setPrimaryStage(stage);
-
-                        // 3) 씬 교체
-                        Scene startScene = new Scene(startRoot, 600, 400);
-                        stage.setScene(startScene);
-
-                    } catch (IOException ex) {
-                        ex.printStackTrace();
-                        // 혹은 에러 표시
-                    }
-                } else {
-                    // “아니요” → 애플리케이션 종료
-                    Platform.exit();
-                }
-                return;
+            case CHOOSING_RESULT:
+                boardPane.redraw();
+                updateStatusLabel();
+                refreshWinRates();
+                return null;
+            case MOVING: {
+                // 엔진이 할 이동을 그 경로대로 애니메이션 (판 적용은 끝난 뒤 엔진이 같은 이동 객체로)
+                log(game.getCurrentPlayer().getName() + " 이동: " + engine.getSelectedResult());
+                CompletableFuture<Void> done = new CompletableFuture<>();
+                boardPane.animateAlongPath(engine.getMove(), () -> done.complete(null));
+                return done;
             }
-
-            // ④ 턴 종료
-            game.nextTurn();
-            updateTurnLabel();
-            updateStatusLabel();
-            boardPane.highlightCurrentPlayer(game.getCurrentPlayer());
-            throwButton.setDisable(false);
-            state = State.IDLE;
-        
-        });
+            case GAME_OVER:
+                boardPane.redraw();
+                estimator.close();
+                winRateLabel.setText("");
+                if (engine.getWinner() != null) askRestart(engine.getWinner().getName());
+                return null;
+            default:
+                return null;
+        }
     }
 
     /**
-     * 캡처 보너스 던지기 로직. grantsExtraThrow 때마다
-     * 지정/랜덤을 새로 물어보도록 변경.
+     * 사람 플레이어: 차례의 첫 던지기는 버튼을, 윷/모나 잡기로 얻은 던지기는 대화상자를(매번 지정/랜덤을 물음),
+     * 결과 선택은 대화상자를, 말 선택은 판 클릭을 기다립니다.
      */
-    private void bonusThrowChain(List<YutResult> collected) {
-        // ★ 여기서도 mode를 매번 물어봄
-        boolean nextRandom = FXDialog.askRandomMode();
-        YutResult br = nextRandom
-            ? YutResult.throwYut(random)
-            : FXDialog.askManualThrow();
-
-        if (br == null) {
-            // 수동 모드에서 취소한 경우, 지금까지 모은 것들만 남기고 다음 단계
-            yutResults.addAll(collected);
-            updateYutDisplay();
-            selectAndPromptNextYut();
-            return;
+    private final class HumanProvider implements DecisionProvider {
+        @Override
+        public CompletableFuture<YutResult> throwYut(TurnEngine engine) {
+            if (engine.getThrowsThisTurn() > 0) return CompletableFuture.completedFuture(throwOnce());
+            rollRequest = new CompletableFuture<>();
+            throwButton.setDisable(false);
+            return rollRequest;
         }
 
-        playYutAnimation(br, () -> {
-            Platform.runLater(() -> {
-                collected.add(br);
-                log("보너스 던진 결과: " + br);
-                if (br.grantsExtraThrow()) {
-                    // recursive call without passing a flag
-                    bonusThrowChain(collected);
-                } else {
-                    yutResults.addAll(collected);
-                    updateYutDisplay();
-                    selectAndPromptNextYut();
-                }
-            });
-        });
+        @Override
+        public CompletableFuture<YutResult> chooseResult(TurnEngine engine, List<YutResult> pending) {
+            showPlanHint();
+            return CompletableFuture.completedFuture(FXDialog.selectYutResult(new ArrayList<>(pending)));
+        }
+
+        @Override
+        public CompletableFuture<Piece> choosePiece(TurnEngine engine, YutResult result) {
+            pieceRequest = new CompletableFuture<>();
+            return pieceRequest;
+        }
     }
 
-    private void promptPieceSelection() {
-        candidates = game.getCurrentPlayer().getUnfinishedPieces();
-        state = State.SELECTING_PIECE;
+    /** 지정/랜덤을 물어 한 번 던진 결과 (지정 모드에서 취소하면 null) */
+    private YutResult throwOnce() {
+        return FXDialog.askRandomMode() ? game.getThrowModel().sample(random) : FXDialog.askManualThrow();
+    }
+
+    /** 승자를 알리고 다시 할지 물어 시작 화면으로 돌아가거나 종료 */
+    private void askRestart(String winnerName) {
+        boolean again = FXDialog.confirmRestart(winnerName);
+        Stage stage = (Stage) throwButton.getScene().getWindow();
+
+        if (again) {
+            try {
+                FXMLLoader loader = new FXMLLoader(
+                        getClass().getResource("/fxml/StartPane.fxml")
+                );
+                Parent startRoot = loader.load();
+                FXStartController startCtrl = loader.getController();
+                startCtrl.setPrimaryStage(stage);
+                Scene startScene = new Scene(startRoot, 600, 400);
+                stage.setScene(startScene);
+            } catch (IOException ex) {
+                ex.printStackTrace();
+            }
+        } else {
+            Platform.exit();
+        }
     }
 
     private void updateTurnLabel() {
@@ -285,53 +272,60 @@ public class FXGameController implements Initializable {
         statusLabel.setText("완주: " + f + " / 남은 말: " + r);
     }
 
-    private void log(String msg) {
-        logArea.appendText(msg + "\n");
-        logArea.positionCaret(logArea.getLength());
-    }
-    
     /**
-     * 단일 윷 결과 처리, grantsExtraThrow() 일 때마다
-     * 던지기 모드를 새로 선택하도록 변경.
+     * 지금 위치의 승률 계산을 다시 시작합니다. 상태는 FX 스레드에서 복사해 넘기고,
+     * 계산 스레드의 알림은 그사이 위치가 바뀌지 않았을 때만 표시합니다.
+     * 던지는 단계면 윷/모나 잡기로 얻은 던지기가 남은 것이므로 그 결과까지 더해 계산합니다.
      */
-    private void handleSingleThrow(YutResult r) {
-        log("던진 결과: " + r);
-        yutResults.add(r);
-        updateYutDisplay();
+    private void refreshWinRates() {
+        int token = ++estimateToken;
+        boolean throwOwed = engine.getPhase() == TurnPhase.THROWING;
+        estimator.estimate(GameState.of(game), new ArrayList<>(engine.getPending()), throwOwed,
+                e -> Platform.runLater(() -> {
+                    if (token == estimateToken) showWinRates(e);
+                }));
+    }
 
-        if (r.grantsExtraThrow()) {
-            // 매번 모드 선택
-            boolean randomMode = FXDialog.askRandomMode();
-            if (randomMode) {
-                YutResult next = YutResult.throwYut(random);
-                playYutAnimation(next, () -> handleSingleThrow(next));
-            } else {
-                YutResult next = FXDialog.askManualThrow();
-                if (next != null) {
-                    playYutAnimation(next, () -> handleSingleThrow(next));
-                } else {
-                    selectAndPromptNextYut();
-                }
-            }
-        } else {
-            selectAndPromptNextYut();
+    private void showWinRates(WinEstimator.Estimate e) {
+        StringBuilder sb = new StringBuilder("승률");
+        List<Player> players = game.getPlayers();
+        for (int i = 0; i < players.size(); i++) {
+            sb.append(String.format(" %s %.0f%%", players.get(i).getName(), e.winRates()[i] * 100));
         }
+        sb.append(e.exact() ? " (정확)" : String.format(" (표본 %,d)", e.samples()));
+        winRateLabel.setText(sb.toString());
     }
 
+    private void log(String msg) {
+        logArea.appendText(msg + "\n");
+        logArea.positionCaret(logArea.getLength());
+    }
 
-    private void selectAndPromptNextYut() {
-        // 반드시 runLater 바깥: 이미 안전한 타이밍임
-        if (yutResults.size() > 1) {
-            currentYut = FXDialog.selectYutResult(yutResults);
-        } else {
-            currentYut = yutResults.get(0);
-        }
-        updateYutDisplay();   // 이 시점에만 currentYut 강조
-        promptPieceSelection();
+    /** 남은 결과를 쓰는 추천 순서를 백그라운드에서 찾아 로그에 표시 */
+    private void showPlanHint() {
+        GameState state = GameState.of(game);
+        List<YutResult> pending = new ArrayList<>(engine.getPending());
+        List<Piece> pieces = game.getCurrentPlayer().getPieces();
+        CompletableFuture.supplyAsync(() -> planner.plan(state, pending))
+                .thenAccept(plan -> {
+                    StringBuilder sb = new StringBuilder("추천 순서:");
+                    for (TurnPlanner.Step step : plan.steps()) {
+                        Piece p = pieces.get(step.piece() % state.getPiecesPerPlayer());
+                        sb.append(' ').append(step.result()).append(" → ").append(p).append(',');
+                    }
+                    sb.setLength(sb.length() - 1);
+                    Platform.runLater(() -> log(sb.toString()));
+                })
+                .exceptionally(ex -> {
+                    ex.printStackTrace();
+                    return null;
+                });
     }
 
-    
+    // 남은 결과를 표시하고 지금 쓰는 결과만 강조
     private void updateYutDisplay() {
+        List<YutResult> yutResults = engine.getPending();
+        YutResult currentYut = engine.getSelectedResult();
         yutBox.getChildren().clear();
         for (int i = 0; i < yutResults.size(); i++) {
             YutResult r = yutResults.get(i);
@@ -8,10 +8,9 @@ import javafx.scene.layout.Pane;
 import javafx.stage.Stage;
 import javafx.scene.Scene;
 import model.Board;
+import model.BoardGenerator;
 import model.Game;
-import model.PentagonBoard;
-import model.SquareBoard;
-import model.HexagonBoard;
+import model.PolygonBoard;
 
 import java.net.URL;
 import java.util.ResourceBundle;
@@ -20,6 +19,7 @@ public class FXStartController implements Initializable {
     @FXML private ComboBox<Integer> playerCountBox;
     @FXML private ComboBox<Integer> pieceCountBox;
     @FXML private ComboBox<String>  boardTypeBox;
+    @FXML private ComboBox<Integer> computerCountBox;
 
     private Stage primaryStage;
 
@@ -39,12 +39,7 @@ public class FXStartController implements Initializable {
             int numPieces  = pieceCountBox.getValue();
             String type    = boardTypeBox.getValue();
 
-            Board board;
-            switch (type) {
-                case "오각형": board = new PentagonBoard(); break;
-                case "육각형": board = new HexagonBoard(); break;
-                default:       board = new SquareBoard();
-            }
+            Board board = PolygonBoard.regular(BoardGenerator.sidesOf(type));
 
             Game game = new Game(numPlayers, numPieces, board);
 
@@ -57,6 +52,8 @@ public class FXStartController implements Initializable {
             // 2) 컨트롤러와 모델 연결
             FXGameController gameCtrl = loader.getController();
             gameCtrl.setGame(game);
+            Integer computers = computerCountBox.getValue();
+            gameCtrl.setComputerPlayers(computers == null ? 0 : computers);
 
             // 3) 씬 교체
             Scene gameScene = new Scene(gameRoot, 1000, 1000);
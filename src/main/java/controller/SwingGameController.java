@@ -1,17 +1,28 @@
 package controller;
 
+import ai.ExpectimaxPolicy;
 import model.Game;
 import model.Piece;
+import model.Player;
 import model.YutResult;
-import view.javafx.FXDialog;
+import model.turn.DecisionProvider;
+import model.turn.TurnEngine;
+import model.turn.TurnPhase;
+import simulation.MovePolicy;
+import simulation.PolicyProvider;
 import view.swing.DialogUtils;
 import view.swing.GameFrame;
 import view.swing.GamePanel;
 
 import javax.swing.*;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * GameController는 뷰로부터 입력을 받아 모델(Game)을 호출하고,
@@ -26,13 +37,15 @@ public class SwingGameController {
     private final JLabel statusLabel;
     private final Random rand = new Random();
 
-    private List<YutResult> pendingResults;
+    // 턴 진행은 엔진이 맡고, 이 컨트롤러는 사람의 입력을 넘기고 단계마다 화면을 갱신
+    private TurnEngine engine;
+    private CompletableFuture<YutResult> rollRequest;   // 던지기 버튼을 기다리는 중
+    private CompletableFuture<Piece> pieceRequest;      // 말 클릭을 기다리는 중
 
-    // 지금 클릭으로 골라야 할 윷 결과
-    private YutResult currentResult;
-
-    // 지금 말 선택 대기 모드인지 표시
-    private boolean awaitingPieceSelection = false;
+    // 컴퓨터가 맡은 플레이어와 컴퓨터의 수 선택 전략
+    private final Set<Player> computerPlayers = new HashSet<>();
+    private final MovePolicy computer = new ExpectimaxPolicy();
+    private static final int COMPUTER_DELAY_MS = 600;
 
     public SwingGameController(
             Game game,
@@ -52,6 +65,9 @@ public class SwingGameController {
         // 클릭으로 말을 선택했을 때 onPieceClicked을 호출하도록 연결
         gamePanel.setPieceClickListener(this::onPieceClicked);
 
+        // 모델 이벤트(윷 결과, 이동, 잡기, 완주)를 로그 창에 출력
+        game.getEventBus().subscribe(e -> log(e.message()));
+
         // 초기 화면 갱신
         updateTurnLabel();
         updateStatusLabel();
@@ -59,18 +75,118 @@ public class SwingGameController {
     }
 
     /**
-     * 윷 던지기 버튼 클릭 시 호출되는 메서드
+     * 윷 던지기 버튼 클릭 시 호출되는 메서드 (차례의 첫 던지기를 기다릴 때만 반응)
      */
     public void onRoll() {
-//        /** 던지기 방식 선택 */
-        // 1) 윷 던지고 pendingResults 채우기
-        pendingResults = new ArrayList<>();
-        handleBonusThrows(pendingResults);
+        CompletableFuture<YutResult> request = rollRequest;
+        if (request == null) return;    // 컴퓨터 차례이거나 던질 때가 아니면 무시
+        YutResult res = throwOnce();
+        if (res == null) return;        // 수동 입력 취소: 버튼을 다시 누를 때까지 기다림
+        rollRequest = null;
+        request.complete(res);
+    }
 
-        // 2) 첫 번째 윷 결과 선택 단계로 넘어가기
-        selectNextYutResult();
+    /**
+     * 뒤쪽 count 명의 플레이어를 컴퓨터가 맡기고 게임을 시작합니다. 첫 차례가 컴퓨터면 바로 둡니다.
+     */
+    public void setComputerPlayers(int count) {
+        computerPlayers.clear();
+        List<Player> players = game.getPlayers();
+        List<DecisionProvider> providers = new ArrayList<>();
+        DecisionProvider human = new HumanProvider();
+        DecisionProvider bot = new PolicyProvider(computer, rand, ForkJoinPool.commonPool());
+        for (int i = 0; i < players.size(); i++) {
+            boolean isComputer = i >= players.size() - count;
+            if (isComputer) computerPlayers.add(players.get(i));
+            providers.add(isComputer ? bot : human);
+        }
+
+        // 엔진은 항상 화면 스레드에서 이어 가므로 관찰자와 결정자가 Swing 컴포넌트를 바로 만질 수 있음
+        engine = new TurnEngine(game, providers);
+        engine.setExecutor(SwingUtilities::invokeLater);
+        engine.addObserver(this::onPhase);
+        engine.play().exceptionally(ex -> {
+            ex.printStackTrace();
+            return null;
+        });
     }
 
+    private boolean isComputerTurn() {
+        return computerPlayers.contains(game.getCurrentPlayer());
+    }
+
+    /**
+     * 엔진의 단계가 바뀔 때마다 화면 갱신. 컴퓨터의 이동은 사람이 따라볼 수 있도록 잠깐 쉬었다가 적용합니다.
+     */
+    private CompletionStage<Void> onPhase(TurnEngine engine, TurnPhase phase) {
+        gamePanel.refresh();
+        updateTurnLabel();
+        updateStatusLabel();
+
+        switch (phase) {
+            case MOVING: {
+                String who = game.getCurrentPlayer().getName() + (isComputerTurn() ? "(컴퓨터)" : "");
+                log(who + " → " + engine.getSelectedResult());
+                return isComputerTurn() ? delay(COMPUTER_DELAY_MS) : null;
+            }
+            case GAME_OVER:
+                if (engine.getWinner() != null && DialogUtils.confirmRestart(engine.getWinner().getName())) {
+                    gameFrame.showStartPanel();
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    private static CompletableFuture<Void> delay(int millis) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        Timer timer = new Timer(millis, e -> done.complete(null));
+        timer.setRepeats(false);
+        timer.start();
+        return done;
+    }
+
+    /**
+     * 사람 플레이어: 차례의 첫 던지기는 버튼을, 윷/모나 잡기로 얻은 던지기는 대화상자를,
+     * 결과 선택은 대화상자를, 말 선택은 판 클릭을 기다립니다.
+     */
+    private final class HumanProvider implements DecisionProvider {
+        @Override
+        public CompletableFuture<YutResult> throwYut(TurnEngine engine) {
+            if (engine.getThrowsThisTurn() > 0) return CompletableFuture.completedFuture(throwOnce());
+            rollRequest = new CompletableFuture<>();
+            return rollRequest;
+        }
+
+        @Override
+        public CompletableFuture<YutResult> chooseResult(TurnEngine engine, List<YutResult> pending) {
+            // 취소하면 엔진이 다시 물음
+            return CompletableFuture.completedFuture(DialogUtils.selectYutResult(pending));
+        }
+
+        @Override
+        public CompletableFuture<Piece> choosePiece(TurnEngine engine, YutResult result) {
+            statusLabel.setText("말을 클릭하세요: " + result);
+            pieceRequest = new CompletableFuture<>();
+            return pieceRequest;
+        }
+    }
+
+    /**
+     * 던지기 방식을 물어 윷을 한 번 던집니다. 수동 입력을 취소하면 null (더 던지지 않음)
+     */
+    private YutResult throwOnce() {
+        YutResult res;
+        if (DialogUtils.askRandomMode()) {
+            res = game.getThrowModel().sample(rand);
+        } else {
+            res = DialogUtils.askManualThrow();
+            if (res == null) return null;
+        }
+        DialogUtils.showThrowResult(res);
+        return res;
+    }
 
     /**
      * 현재 플레이어 정보로 턴 라벨 갱신
@@ -92,27 +208,6 @@ public class SwingGameController {
         statusLabel.setText("완주: " + finished + " / 남은 말: " + remaining);
     }
 
-    /**
-     * 추가 윷 던지기 실행 함수
-     */
-    private void handleBonusThrows(List<YutResult> pending) {
-        YutResult res;
-        do {
-            // 매번 모드 선택
-            boolean isRandom = DialogUtils.askRandomMode();
-
-            if (isRandom) {
-                res = YutResult.throwYut(rand);
-            } else {
-                res = DialogUtils.askManualThrow();
-                if (res == null) return;  // 수동 입력 취소 시 종료
-            }
-            DialogUtils.showThrowResult(res);
-            log("던진 결과: " + res);
-            pending.add(res);
-        } while (res.grantsExtraThrow());
-    }
-
     /**
      * 로그 출력 및 스크롤 자동 이동
      */
@@ -120,75 +215,19 @@ public class SwingGameController {
         logArea.append(message + "\n");
         logArea.setCaretPosition(logArea.getDocument().getLength());
     }
-    /**
-     * 남은 pendingResults 중 하나를 선택하도록 유도.
-     * 대화상자 대신 마우스 클릭으로 말 선택 대기 상태로 전환.
-     */
-    private void selectNextYutResult() {
-        if (pendingResults.isEmpty()) {
-            // 더 이상 처리할 윷 결과가 없으면 턴 종료
-            endTurn();
-            return;
-        }
-        // 기존 대화상자 선택은 그대로 유지해도 되고,
-        // DialogUtils.selectYutResult 대신 첫 결과를 꺼내도 됩니다:
-        currentResult = DialogUtils.selectYutResult(pendingResults);
-        if (currentResult == null) {
-            endTurn();
-            return;
-        }
-        // 이제 “말 클릭”을 대기 상태로 전환
-        awaitingPieceSelection = true;
-        // (원하면 statusLabel 에 "말을 클릭하세요" 같은 메시지 표시)
-        statusLabel.setText("말을 클릭하세요: " + currentResult);
-    }
 
     /**
      * GamePanel 쪽에서 말이 클릭되면 여기로 콜백됩니다.
      */
     public void onPieceClicked(Piece piece) {
-        if (!awaitingPieceSelection) return;                 // 대기 중 아니면 무시
-        if (!game.getCurrentPlayer().getUnfinishedPieces().contains(piece)) {
-            // 내 차례가 아닌 말이거나 이미 완주한 말이면 무시
-            return;
-        }
-
-        // 선택 처리
-        awaitingPieceSelection = false;
-        pendingResults.remove(currentResult);
-
-        boolean captured = game.applyYutResult(currentResult, piece);
-        log(game.getCurrentPlayer().getName() + " → " + currentResult);
-
-        // 뷰 갱신
-        gamePanel.refresh();
-        updateTurnLabel();
-        updateStatusLabel();
-
-        // 승리 체크
-        if (game.isCurrentPlayerWin()) {
-            if (DialogUtils.confirmRestart(game.getCurrentPlayer().getName())) {
-                gameFrame.showStartPanel();
-            }
+        CompletableFuture<Piece> request = pieceRequest;
+        if (request == null) return;                         // 대기 중 아니면 무시
+        if (!engine.getCandidates().contains(piece)) {
+            // 내 차례가 아닌 말, 이미 완주한 말, 움직여도 판이 그대로인 말이면 무시
             return;
         }
-
-        // 캡처 시 추가 던지기
-        if (captured) {
-            handleBonusThrows(pendingResults);
-        }
-        // 다음 윷 결과 또는 턴 종료
-        selectNextYutResult();
-    }
-
-    /** 턴 종료 후 상태 업데이트 */
-    private void endTurn() {
-        pendingResults = null;
-        currentResult = null;
-        game.nextTurn();
-        updateTurnLabel();
-        updateStatusLabel();
-        gamePanel.refresh();
+        pieceRequest = null;
+        request.complete(piece);
     }
 
-}
\ No newline at end of file
+}
@@ -3,23 +3,28 @@ package controller;
 import java.util.Scanner;
 import model.Board;
 import model.Game;
+import model.GameScale;
 import model.SquareBoard;
 import model.PentagonBoard;
 import model.HexagonBoard;
 
 public class YutnoriGame {
     public static void main(String[] args) {
+        // --scale large 로 실행하면 16명 × 말 32개까지 (행사용 대형 모드)
+        GameScale scale = args.length >= 2 && args[0].equals("--scale") ? GameScale.parse(args[1]) : GameScale.STANDARD;
         Scanner scanner = new Scanner(System.in);
         boolean playAgain = true;
         while (playAgain) {
             // 1) 보드 타입 입력
             Board board = selectBoard(scanner);
-            // 2) 플레이어 수 입력 (2~4명)
-            int numPlayers = InputNumPlayers(scanner);
-            // 3) 말 개수 입력 (2~5개)
-            int piecesPerPlayer = InputNumPieces(scanner);
+            // 2) 플레이어 수 입력 (기본 2~4명)
+            int numPlayers = InputNumPlayers(scanner, scale);
+            // 3) 말 개수 입력 (기본 2~5개)
+            int piecesPerPlayer = InputNumPieces(scanner, scale);
 
-            Game game = new Game(numPlayers, piecesPerPlayer, board);
+            Game game = new Game(numPlayers, piecesPerPlayer, board, scale);
+            // 이동/잡기/완주/윷 결과는 이벤트로 받아 콘솔에 출력
+            game.getEventBus().subscribe(e -> System.out.println(e.message()));
             game.start(scanner);
 
             System.out.println("\n게임이 종료되었습니다.");
@@ -50,18 +55,19 @@ public class YutnoriGame {
     }
 
     // 플레이어 수 입력 루프
-    private static int InputNumPlayers(Scanner scanner) {
+    private static int InputNumPlayers(Scanner scanner, GameScale scale) {
+        String range = scale.getMinPlayers() + "~" + scale.getMaxPlayers() + "명";
         int numPlayers;
         while (true) {
-            System.out.println("플레이어 수 입력 (2~4명): ");
+            System.out.println("플레이어 수 입력 (" + range + "): ");
             if (!scanner.hasNextInt()) {
                 scanner.next();
                 System.out.println("숫자를 입력해주세요.");
                 continue;
             }
             numPlayers = scanner.nextInt();
-            if (numPlayers < 2 || numPlayers > 4) {
-                System.out.println("플레이어 수는 2~4명으로 제한됩니다.");
+            if (!scale.allowsPlayers(numPlayers)) {
+                System.out.println("플레이어 수는 " + range + "으로 제한됩니다.");
             } else {
                 break;
             }
@@ -70,18 +76,19 @@ public class YutnoriGame {
     }
 
     // 말 개수 입력 루프
-    private static int InputNumPieces(Scanner scanner) {
+    private static int InputNumPieces(Scanner scanner, GameScale scale) {
+        String range = scale.getMinPieces() + "~" + scale.getMaxPieces() + "개";
         int numPieces;
         while (true) {
-            System.out.println("말 개수 입력 (2~5개): ");
+            System.out.println("말 개수 입력 (" + range + "): ");
             if (!scanner.hasNextInt()) {
                 scanner.next();
                 System.out.println("숫자를 입력해주세요.");
                 continue;
             }
             numPieces = scanner.nextInt();
-            if (numPieces < 2 || numPieces > 5) {
-                System.out.println("말 개수는 2~5개로 제한됩니다.");
+            if (!scale.allowsPieces(numPieces)) {
+                System.out.println("말 개수는 " + range + "로 제한됩니다.");
             } else {
                 break;
             }
@@ -1,278 +1,410 @@
 package model;
 
+import model.event.BackdoApplied;
+import model.event.GameEventBus;
+import model.event.PieceCaptured;
+import model.event.PieceFinished;
+import model.event.PieceMoved;
+
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Scanner;
 
 /**
  * 추상 보드 클래스: 다양한 다각형 보드에서 말 이동 로직을 공통으로 처리
+ *
+ * 판 모양({@link BoardTopology})은 판 종류마다 하나를 함께 쓰고, 이 객체는 한 게임의 말 배치만 가집니다.
+ * {@link #reset()} 으로 배치를 처음 상태로 돌리면 같은 객체로 다음 게임을 할 수 있습니다.
  */
 public abstract class Board {
-    protected BoardNode start;                             // 출발(완주) 지점 노드
-    protected final List<BoardNode> nodes = new ArrayList<>();  // 모든 노드
+    private final BoardTopology topology;                  // 판 종류마다 공유하는 모양과 경로표
+    private final List<PieceGroup>[] groupsAt;             // [노드 id] → 이 칸에 있는 업 (보통 한 개)
     private static final int BACKDO = -1;
-    public Board() { buildBoard(); }
-    protected abstract void buildBoard();
-    public BoardNode getStart() { return start; }
-    private boolean isFirstEntry(Piece piece){ return piece.position == null;}
-    private BoardNode getSourceNode(Piece piece, boolean first){ return first? getStart(): piece.position;}
+    private final GameEventBus events = new GameEventBus(); // 이동/잡기/완주 알림 (구독자 없으면 비용 없음)
+    private final List<Player> seats = new ArrayList<>();  // 등록 순서 = Player.id
+    private Occupancy occupancy;                           // 노드별 점유 비트마스크 (처음 사용할 때 생성)
+    private long zobrist;                                  // 말 배치 해시 (업/완주가 바뀔 때마다 갱신)
+    private final Map<Piece, MovePreview[]> previews = new HashMap<>(); // 미리 본 이동 (말 → 결과 순서별, 이동할 때마다 비움)
+    private static final YutResult[] YUT_RESULTS = YutResult.values();
+    // plan 의 계산 결과 (movePiece 가 객체 없이 바로 적용하도록 필드에 둠)
+    private BoardNode plannedTo;
+    private List<BoardNode> plannedPath;
+    private boolean plannedCapture, plannedFinish;
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    protected Board(BoardTopology topology) {
+        this.topology = topology;
+        this.groupsAt = new List[topology.size()];
+        for (int i = 0; i < groupsAt.length; i++) groupsAt[i] = new ArrayList<>(2);
+    }
+    public BoardNode getStart() { return topology.getStart(); }
 
-    public boolean movePiece(Piece piece, int steps, Scanner scanner) {
-        // 1. 첫 entry 및 업 플래그
-        boolean first = isFirstEntry(piece); //처음 입장하는 경우 플래그
-        if (first) piece.hasLeftStart=true;
-        BoardNode src = getSourceNode(piece, first); //현재 보드노드(추적)
+    /** 판 종류마다 공유하는 모양 */
+    public BoardTopology getTopology() { return topology; }
 
-        debugPrintAllNodes();
-        System.out.println("[DEBUG] " + piece.owner.getName() + " 호출 movePiece(steps=" + steps + ")");
+    /** 화면 배치 (판 모양과 함께 공유) */
+    public BoardLayout getLayout() { return topology.getLayout(); }
+    private boolean isFirstEntry(Piece piece){ return piece.group == null;}
+    private BoardNode getSourceNode(Piece piece, boolean first){ return first? getStart(): piece.group.node;}
 
-        // 2. 빽도 처리
-        if (steps == BACKDO) return handleBackdo(piece, src);
+    /** 이 보드에서 일어나는 이동/잡기/완주/빽도 이벤트 버스 */
+    public GameEventBus getEventBus() { return events; }
 
-        // 3. 업(스택) 기능
-        List<Piece> stack = collectStack(first, piece, src);
+    // Player 생성 시 호출되어 플레이어 번호를 배정
+    int registerPlayer(Player player) {
+        seats.add(player);
+        if (occupancy != null) occupancy.ensurePlayers(seats.size());
+        return seats.size() - 1;
+    }
 
-        // 4. “start에서 positive step” 완주 처리
-        if (isFinishedPath(first, src, piece, steps)) {
-            finishPieces(stack);
-            return false;
+    /**
+     * 모든 말을 집으로 돌리고 점유 색인, 해시, 미리 본 이동을 비워 새 게임 상태로 만듭니다.
+     * 등록된 플레이어와 이벤트 구독자는 그대로 둡니다.
+     */
+    public void reset() {
+        for (List<PieceGroup> groups : groupsAt) groups.clear();
+        if (occupancy != null) occupancy.clear();
+        zobrist = 0;
+        previews.clear();
+        for (int p = 0; p < seats.size(); p++) {
+            List<Piece> pieces = seats.get(p).pieces;
+            for (int i = 0; i < pieces.size(); i++) pieces.get(i).reset();
+            seats.get(p).finishedCount = 0;
         }
+    }
+
+    /** node 위의 업 목록 */
+    public List<PieceGroup> getGroupsAt(BoardNode node) {
+        return Collections.unmodifiableList(groupsAt[node.id]);
+    }
 
-        // 5. 경로 설정
-        List<BoardNode> path = calculatePath(src, steps);
-        BoardNode dest = path.get(path.size() - 1);
-        piece.justStoppedAtIntersection = dest.isIntersection && dest.shortcut!=null;
+    /** node 위의 말 목록 (업을 풀어서 새 목록으로 돌려줌, 화면 그리기용) */
+    public List<Piece> getPiecesAt(BoardNode node) {
+        List<Piece> list = new ArrayList<>();
+        for (PieceGroup g : groupsAt[node.id]) list.addAll(g.members);
+        return list;
+    }
 
+    public int pieceCountAt(BoardNode node) {
+        List<PieceGroup> groups = groupsAt[node.id];
+        int count = 0;
+        for (int i = 0; i < groups.size(); i++) count += groups.get(i).members.size();
+        return count;
+    }
 
-        // 6. 완주 처리: start를 한 칸 이상 지나쳐야 완주로 간주
-        if (isFinishedPath(first, path)) {
-            finishPieces(stack);
-            return false;
+    // owner 의 업이 node 에 있으면 반환
+    private PieceGroup groupOf(BoardNode node, Player owner) {
+        List<PieceGroup> groups = groupsAt[node.id];
+        for (int i = 0; i < groups.size(); i++) {
+            if (groups.get(i).owner == owner) return groups.get(i);
         }
+        return null;
+    }
 
-        // 7. 이동 및 이력
-        recordAndMove(stack, src, path, dest);
-
-        // 8. 캡처
-        boolean captureOccured = handleCapture(piece, dest);
+    /** 노드별로 누가 몇 개의 말을 올려 두었는지 보여주는 점유 색인 */
+    public Occupancy getOccupancy() {
+        if (occupancy == null) occupancy = new Occupancy(getRoutingTable().size(), seats.size());
+        return occupancy;
+    }
 
-        System.out.println(piece.owner.getName()+"의 말("+stack.size()+"개)이 "+dest+"로 이동했습니다.");
-        System.out.println("현재 moveHistory: " + piece.moveHistory);
+    /** 판 위 업과 완주 말 수의 {@link Zobrist} 해시 (둘 차례와 남은 윷 결과는 {@link Game#positionHash} 에서 더함) */
+    public long getZobrist() { return zobrist; }
+
+    /**
+     * 업을 node 에 올립니다. 같은 플레이어의 업이 이미 있으면 하나로 합치는데,
+     * 합친 업은 방금 도착한 업의 이동 이력을 이어받습니다. (빽도는 마지막으로 움직인 길을 따라 되돌아감)
+     */
+    private void place(BoardNode node, PieceGroup group) {
+        PieceGroup resident = groupOf(node, group.owner);
+        if (resident != null) {
+            zobrist ^= Zobrist.group(node.id, resident.owner.id, resident.size());
+            groupsAt[node.id].remove(resident);
+            group.absorb(resident);
+        }
+        groupsAt[node.id].add(group);
+        group.node = node;
+        getOccupancy().add(node.id, group.owner.id, group.mask);
+        zobrist ^= Zobrist.group(node.id, group.owner.id, group.size());
+    }
 
-        return captureOccured;
+    // 업을 지금 칸에서 내림 (node 는 그대로 두어 호출부가 이어서 옮기도록 함)
+    private void lift(PieceGroup group) {
+        groupsAt[group.node.id].remove(group);
+        getOccupancy().remove(group.node.id, group.owner.id, group.mask);
+        zobrist ^= Zobrist.group(group.node.id, group.owner.id, group.size());
     }
-    
-    public boolean movePiece(Piece piece, int steps) {
-        // 내부적으로 기존 Scanner 버전을 호출
-        return movePiece(piece, steps, new Scanner(System.in));
+
+    // 업을 판에서 내리고 구성원을 모두 업 밖으로 돌려보냄
+    private void dissolve(PieceGroup group) {
+        lift(group);
+        for (int i = 0; i < group.members.size(); i++) group.members.get(i).group = null;
+        group.node = null;
     }
 
+    public boolean movePiece(Piece piece, int steps, Scanner scanner) {
+        // scanner 는 사용하지 않음 (기존 호출부 호환용)
+        return movePiece(piece, steps);
+    }
 
-    private boolean handleBackdo(Piece piece, BoardNode src){
+    public boolean movePiece(Piece piece, int steps) {
+        // 미리 보기 객체 없이 같은 계산을 바로 적용 (이동마다 할당하지 않음)
+        plan(piece, steps);
+        return apply(piece, steps, plannedTo, plannedPath, plannedFinish);
+    }
 
-            // a) 아직 보드에 안 올랐으면 불가
-            if (piece.position == null) {
-                System.out.println("아직 보드에 진입하지 않아 빽도 불가.");
-                return false;
-            }
-            System.out.println("[DEBUG] 이전 위치 : " + piece.lastPosition);
+    /**
+     * piece 를 result 로 움직이고, 미리 본 것과 같은 {@link MovePreview} 객체를 돌려줍니다.
+     * (판이 바뀌지 않는 수여도 집에 있던 말은 출발한 것으로 표시됨)
+     */
+    public MovePreview move(Piece piece, YutResult result) {
+        MovePreview move = previewMove(piece, result);
+        apply(piece, result.getStepCount(), move.to(), move.path(), move.finishes());
+        return move;
+    }
 
-            // b) 게임 시작부터 빽도
-            if (piece.position == getStart() && piece.hasLeftStart && piece.moveHistory.size() == 1) {
-                return backdoFromStart(piece);
-            }
+    /**
+     * piece 를 result 로 움직이면 일어날 일을 판을 바꾸지 않고 계산합니다.
+     * 결과는 다음 이동 전까지 말과 결과별로 기억해 두므로, 마우스를 올릴 때마다 불러도 다시 계산하지 않습니다.
+     */
+    public MovePreview previewMove(Piece piece, YutResult result) {
+        MovePreview[] cached = previews.computeIfAbsent(piece, p -> new MovePreview[YUT_RESULTS.length]);
+        MovePreview move = cached[result.ordinal()];
+        if (move == null) cached[result.ordinal()] = move = preview(piece, result);
+        return move;
+    }
 
-            // c) 이동 이력 없으면 백도 불가
-            if (piece.moveHistory.isEmpty()) {
-                System.out.println("이전 위치 정보가 없어 빽도 불가.");
-                return false;
-            }
+    private MovePreview preview(Piece piece, YutResult result) {
+        int steps = result.getStepCount();
+        plan(piece, steps);
+        BoardNode from = piece.finished || isFirstEntry(piece) ? null : piece.group.node;
+        List<BoardNode> path;
+        if (plannedTo == null) path = List.of();
+        else if (steps == BACKDO) path = List.of(plannedTo);
+        else if (plannedPath == null) path = List.of();      // 출발점에 서 있다가 바로 완주
+        else if (plannedFinish) {
+            int end = plannedPath.indexOf(getStart());      // 출발점을 지나치는 경로는 출발점까지만
+            path = end >= 0 ? plannedPath.subList(0, end + 1) : plannedPath;
+        } else path = plannedPath;
+        return new MovePreview(piece, result, from, plannedTo, path, plannedCapture, plannedFinish);
+    }
 
-            // d) 정상적인 한 칸 뒤로 이동
-            if (piece.moveHistory.size() > 1) {
-                piece.moveHistory.pop();
-            }
-            BoardNode prev = piece.moveHistory.peek();
+    /**
+     * piece 를 steps 만큼 움직이면 어디로 가는지 계산해 planned* 에 담습니다. (판은 바꾸지 않음)
+     * plannedTo 가 null 이면 판이 바뀌지 않는 수, 완주면 출발점입니다.
+     */
+    private void plan(Piece piece, int steps) {
+        plannedTo = null;
+        plannedPath = null;
+        plannedCapture = false;
+        plannedFinish = false;
+
+        // 1. 완주한 말은 움직이지 않음
+        if (piece.finished) return;
+        boolean first = isFirstEntry(piece);
+        BoardNode src = getSourceNode(piece, first);
+
+        // 2. 빽도 (출발점에서 돌아가면 잡기 없음)
+        if (steps == BACKDO) {
+            plannedTo = backdoTarget(piece);
+            plannedCapture = plannedTo != null && !isBackdoFromStart(piece.group, piece)
+                    && getOccupancy().hasEnemy(plannedTo.id, piece.owner.id);
+            return;
+        }
 
-            // 업힌 말들 가져오기
-            List<Piece> stack = new ArrayList<>();
-            for (Piece p : new ArrayList<>(piece.position.pieces)) {
-                if (p.owner == piece.owner) {
-                    stack.add(p);
-                }
-            }
+        // 3. “start에서 positive step” 완주 처리
+        if (isFinishedPath(first, src, piece, steps)) {
+            plannedTo = getStart();
+            plannedFinish = true;
+            return;
+        }
 
-            //현재 위치에서 제거
-            piece.position.pieces.remove(piece);
+        // 4. 경로 설정, start를 한 칸 이상 지나쳐야 완주로 간주
+        plannedPath = calculatePath(src, steps);
+        if (isFinishedPath(first, src, steps)) {
+            plannedTo = getStart();
+            plannedFinish = true;
+            return;
+        }
+        plannedTo = plannedPath.get(plannedPath.size() - 1);
+        plannedCapture = getOccupancy().hasEnemy(plannedTo.id, piece.owner.id);
+    }
 
-            // 캡쳐 처리
-            boolean captureByBackdo = handleCapture(piece, prev);
+    // 빽도로 되돌아갈 칸 (갈 곳이 없으면 null)
+    private BoardNode backdoTarget(Piece piece) {
+        PieceGroup group = piece.group;
+        // a) 아직 보드에 안 올랐으면 불가
+        if (group == null) return null;
+        // b) 게임 시작부터 빽도: 출발점에 오기 직전 칸으로
+        if (isBackdoFromStart(group, piece)) return group.lastPosition;
+        // c) 이동 이력 없으면 백도 불가
+        if (group.history.isEmpty()) return null;
+        // d) 이력에 같은 칸이 연달아 없으므로 현재 칸 바로 아래가 곧 직전 칸
+        int size = group.history.size();
+        return getRoutingTable().node(group.history.get(size > 1 ? size - 2 : 0));
+    }
 
-            // 이동
-            for (Piece p : stack) {
-                if (!p.moveHistory.isEmpty()) {
-                    p.moveHistory.pop();  // 현재 위치 제거
-                }
-                if (p.moveHistory.isEmpty() || p.moveHistory.peek() != prev) {
-                    p.moveHistory.push(prev);
-                }
-                // 일반 이동에 들어가기 직전, lastPosition 에 현재 위치 저장
-                // 첫 진입인 경우 start 가 이전 위치
-                p.lastPosition = p.position == null ? getStart() : p.position;
-                // 이전 위치에서 제거
-                if (p.position != null) {
-                    p.position.pieces.remove(p);
-                }
-                // 현재 위치 기억
-                //BoardNode current = p.position;
-                prev.pieces.add(p);
-                p.position = prev;
+    private boolean isBackdoFromStart(PieceGroup group, Piece piece) {
+        return group.node == getStart() && piece.hasLeftStart && group.history.size() == 1;
+    }
 
-                // 빽도 후에도 intersection 여부 유지
-                p.justStoppedAtIntersection = prev.isIntersection && prev.shortcut != null;
-                            }
+    // plan 으로 계산한 이동을 판에 적용하고 잡았는지 돌려줌
+    private boolean apply(Piece piece, int steps, BoardNode to, List<BoardNode> path, boolean finishes) {
+        previews.clear();
+        if (piece.finished) return false;
 
-            System.out.println(piece.owner.getName() + "의 말이 빽도로 " + prev + "로 한 칸 뒤로 이동했습니다.");
-            System.out.println("현재 moveHistory: " + piece.moveHistory);
+        // 1. 첫 entry 및 업 플래그
+        boolean first = isFirstEntry(piece); //처음 입장하는 경우 플래그
+        if (first) piece.hasLeftStart = true;
+        if (to == null) return false;
 
-        return captureByBackdo;
-    }
+        // 2. 업(스택): 첫 진입이면 그 말 혼자, 아니면 말이 속한 업 전체
+        PieceGroup group = first ? piece.ownGroup : piece.group;
 
-    private boolean backdoFromStart(Piece piece){
-        // lastPosition 으로 돌아가기
-        BoardNode prev = piece.lastPosition;
+        // 3. 완주
+        if (finishes) {
+            finishGroup(group);
+            return false;
+        }
 
-        // START에 올라와 있는 같은 소유주의 말 모두 수집
-        List<Piece> stack = new ArrayList<>();
-        for (Piece p : new ArrayList<>(getStart().pieces)) {
-            if (p.owner == piece.owner) {
-                stack.add(p);
+        // 4. 빽도
+        if (steps == BACKDO) {
+            if (isBackdoFromStart(group, piece)) {
+                backdoFromStart(group, piece, to);
+                return false;
             }
+            return backdo(group, piece, to);
         }
 
-        // START에서 모두 제거
-        for (Piece p : stack) {
-            getStart().pieces.remove(p);
+        // 5. 이동 및 이력
+        BoardNode src = getSourceNode(piece, first);
+        piece.justStoppedAtIntersection = to.isIntersection && to.shortcut != null;
+        if (first) {
+            group.reset(piece);
+            group.history.ensureCapacity(getRoutingTable().size());
+            piece.group = group;
+        } else {
+            lift(group);
         }
+        int moved = group.size();
+        recordAndMove(group, src, path, to);
+
+        // 6. 캡처
+        boolean captureOccured = handleCapture(piece, to);
 
-        // 모두 이전 위치(prev)로 이동
-        for (Piece p : stack) {
-            prev.pieces.add(p);
-            p.position = prev;
-            // 이력 초기화: START → prev
-            p.moveHistory.clear();
-            p.moveHistory.push(getStart());
-            p.moveHistory.push(prev);
-            p.justStoppedAtIntersection = prev.isIntersection && prev.shortcut != null;
+        if (events.hasListeners()) events.publish(new PieceMoved(piece, moved, src, to));
+
+        return captureOccured;
+    }
+
+    private boolean backdo(PieceGroup group, Piece piece, BoardNode prev) {
+        // 정상적인 한 칸 뒤로 이동 (업 전체가 이력 하나를 같이 씀)
+        if (group.history.size() > 1) {
+            group.history.pop();
         }
+        BoardNode from = group.node;
 
-        System.out.println("start 지점에서 빽도! → 이전 위치로 돌아갑니다.");
-        return false;
+        // 캡쳐 처리
+        boolean captureByBackdo = handleCapture(piece, prev);
+
+        // 이동: 직전 위치를 기억해 두고 업째로 옮김
+        lift(group);
+        group.lastPosition = from;
+        place(prev, group);
+
+        // 빽도 후에도 intersection 여부 유지
+        piece.justStoppedAtIntersection = prev.isIntersection && prev.shortcut != null;
+
+        if (events.hasListeners()) events.publish(new BackdoApplied(piece, from, prev, false));
+        return captureByBackdo;
+    }
+
+    private void backdoFromStart(PieceGroup group, Piece piece, BoardNode prev) {
+        // START 의 업을 통째로 이전 위치(prev)로 이동 (잡기 없음)
+        lift(group);
+        // 이력 초기화: START → prev
+        group.history.clear();
+        group.history.push(getStart().id);
+        group.history.push(prev.id);
+        place(prev, group);
+        piece.justStoppedAtIntersection = prev.isIntersection && prev.shortcut != null;
+
+        if (events.hasListeners()) events.publish(new BackdoApplied(piece, getStart(), prev, true));
     }
 
     private boolean isFinishedPath(boolean first, BoardNode src, Piece piece, int steps){
         return !first && src == getStart() && piece.hasLeftStart && steps > 0;
     }
 
-    private boolean isFinishedPath(boolean first, List<BoardNode> path){
-        return !first && path.stream().limit(path.size() - 1).anyMatch(n -> n == start);
+    // 표가 없는 걸음 수(6 이상)는 걸은 경로에서 마지막 칸 전에 출발점이 있는지 봄
+    private boolean isFinishedPath(boolean first, BoardNode src, int steps){
+        if (first) return false;
+        if (RoutingTable.covers(steps)) return getRoutingTable().passesStart(src.id, steps);
+        BoardNode start = getStart();
+        for (int i = 0; i < plannedPath.size() - 1; i++) if (plannedPath.get(i) == start) return true;
+        return false;
     }
 
-    private void finishPieces(List<Piece> stack){
-        for (Piece p : stack) {
+    private void finishGroup(PieceGroup group){
+        if (group.node != null) dissolve(group);
+        int before = group.owner.finishedCount;
+        group.owner.finishedCount = before + group.size();
+        zobrist ^= Zobrist.finished(group.owner.id, before) ^ Zobrist.finished(group.owner.id, before + group.size());
+        for (int i = 0; i < group.members.size(); i++) {
+            Piece p = group.members.get(i);
             p.finished = true;
-            if (p.position != null) {
-                p.position.pieces.remove(p);
-                p.position = null;
-            }
-            System.out.println(p.owner.getName() + "의 말이 완주했습니다!");
+            p.group = null;
+            if (events.hasListeners()) events.publish(new PieceFinished(p));
         }
     }
 
-
     private boolean handleCapture(Piece piece, BoardNode curr){
-        boolean captured = false;
-        for (Piece enemy : new ArrayList<>(curr.pieces)) {
-            if (enemy.owner != piece.owner) {
-                captured = true;
-                curr.pieces.remove(enemy);
-                enemy.position = null;
-                System.out.println(enemy.owner.getName()+"의 말이 캡처되어 집으로 돌아갑니다.");
+        // 1) 상대 말이 없으면 업 목록을 볼 필요도 없음
+        if (!getOccupancy().hasEnemy(curr.id, piece.owner.id)) return false;
+
+        // 2) 상대 업을 통째로 집으로 돌려보냄 (뒤에서부터 지우면 복사본 없이 순회 가능)
+        List<PieceGroup> groups = groupsAt[curr.id];
+        for (int i = groups.size() - 1; i >= 0; i--) {
+            PieceGroup enemy = groups.get(i);
+            if (enemy.owner == piece.owner) continue;
+            dissolve(enemy);
+            if (events.hasListeners()) {
+                for (int k = 0; k < enemy.members.size(); k++) {
+                    events.publish(new PieceCaptured(enemy.members.get(k), piece, curr));
+                }
             }
         }
-        return captured;
+        return true;
     }
 
+    /**
+     * 경로표에서 (src, steps) 경로를 꺼냅니다. 윷 결과(1~5칸)는 모두 표에서 읽고, movePiece 에 직접 넘긴
+     * 0칸이나 6칸 이상처럼 표 밖의 칸 수만 연결 리스트를 따라갑니다. (중간 칸에서 멈춘 것으로 보면 지름길을 타므로
+     * 표의 경로를 이어 붙여서는 같은 길이 나오지 않음)
+     */
     public List<BoardNode> calculatePath(BoardNode src, int steps){
-        BoardNode cur = src;
-        List<BoardNode> path = new ArrayList<>();
-        // 마지막 꼭지점(15, 20, 25) 제외한 모든 outer 교차점에서 중앙길
-        boolean cornerSquare = this instanceof SquareBoard && src.isIntersection && src.id!=15;
-        boolean cornerPent = this instanceof PentagonBoard && src.isIntersection && src.id!=20;
-        boolean cornerHex = this instanceof HexagonBoard && src.isIntersection && src.id!=25;
-        // 교차점 처리 플래그 - 기본 & 사각형판 예외
-        boolean squareboardException = false;
-
-        // 1) 사각형 판 예외 처리
-        BoardNode temp = cur;
-        if(this instanceof SquareBoard && temp.id  == 23 && temp.next.id == 28){  // 사각형 판에서 23 -> 28로 가는 경우
-            squareboardException = true;         // 숏컷(26 방향)으로 가도록 플래그 설정
-            System.out.println("SquareBoardException");
-        }
-
-        // 2) 교차점 여부에 따라 한 칸 이동
-        if((cornerSquare || cornerPent || cornerHex) && cur.shortcut != null)
-            cur = cur.shortcut;  // 교차점(마지막 제외)이면 shortcut
-        else
-            cur = cur.next;  // 아니면 다음 노드로
-        path.add(cur);
-
-        // 3) 나머지 경로 이동
-        for(int i=1; i<steps ;i++){
-            if(this instanceof SquareBoard && cur.id  == 23 && cur.next.id == 28){  // 사각형 판에서 23 -> 28로 가는 경우
-                squareboardException = true;         // 숏컷(26 방향)으로 가도록 플래그 설정
-                System.out.println("SquareBoardException");
-            }
-            if(squareboardException && cur.id == 28){
-                System.out.println("Move: "+cur.id+"->"+cur.shortcut.id);
-                cur = cur.shortcut;
-                squareboardException = false;
-            }
-            else  // 기존 경로 이동
-                cur = cur.next;
-            path.add(cur);
-        }
-
-        return path;
+        if (RoutingTable.covers(steps)) return topology.getRoutingTable().path(src.id, steps);
+        return topology.walkPath(src, steps);
     }
 
-    private List<Piece> collectStack(boolean first, Piece piece, BoardNode src){
-        List<Piece> stack = new ArrayList<>();
-        if (first) stack.add(piece);
-        else {
-            for(Piece p:new ArrayList<>(src.pieces)) if(p.owner==piece.owner) stack.add(p);
-            src.pieces.removeAll(stack);
-        }
-        return stack;
+    /** 판 종류마다 한 번 컴파일해 공유하는 경로표 */
+    public RoutingTable getRoutingTable() {
+        return topology.getRoutingTable();
     }
 
-    private void recordAndMove(List<Piece> stack, BoardNode src, List<BoardNode> path, BoardNode dest){
-        for(Piece p:stack){
-            // path의 첫 노드가 src일 경우 push하지 않음
-            if ((path.isEmpty() || path.get(0) != src)||(p.moveHistory!=null&&p.moveHistory.peek()!=src)) {
-                p.moveHistory.push(src);
-            }
-            for(BoardNode n:path)
-                p.moveHistory.push(n);
-            dest.pieces.add(p);
-            p.position=dest;
-        }
+    private void recordAndMove(PieceGroup group, BoardNode src, List<BoardNode> path, BoardNode dest){
+        // 업 하나에 이력 하나: 출발 칸과 지나간 칸을 한 번만 기록
+        group.history.push(src.id);
+        for (int k = 0; k < path.size(); k++)
+            group.history.push(path.get(k).id);
+        place(dest, group);
     }
-    public void debugPrintAllNodes(){ System.out.print("[DEBUG BOARD] "); for(BoardNode n:nodes) System.out.print(n.id+"["+n.pieces.size()+"] "); System.out.println(); }
+    public void debugPrintAllNodes(){ System.out.print("[DEBUG BOARD] "); for(BoardNode n:topology.getNodes()) System.out.print(n.id+"["+pieceCountAt(n)+"] "); System.out.println(); }
     public abstract void printBoard();
 
     // Board.java 내부
     public List<BoardNode> getAllNodes() {
-        return nodes;
+        return topology.getNodes();
     }
 }
\ No newline at end of file
@@ -0,0 +1,162 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 변 N 개(4~12)인 윷판을 규칙대로 만들어 줍니다.
+ *
+ * 외곽은 변마다 5칸(0 = 출발점, 꼭지점 = 5, 10, ...), 꼭지점마다 중앙으로 2칸짜리 바퀴살이 하나씩 있습니다.
+ * 노드 id 는 외곽 0 .. 5N-1, 바퀴살 5N .. 7N-1, 중앙 7N 순서입니다.
+ * <ul>
+ *   <li>꼭지점 5 .. 5(N-2): 정확히 멈추면 다음 이동은 바퀴살로 중앙에 들어감</li>
+ *   <li>중앙: 지나가면 마지막 꼭지점 5(N-1) 쪽, 정확히 멈추면 출발점 쪽 바퀴살로 나감</li>
+ *   <li>사각형 판만: 출발점 맞은편 꼭지점(10)에서 들어와 중앙을 지나가도 출발점 쪽으로 꺾음</li>
+ * </ul>
+ * N = 4, 5, 6 은 {@link SquareBoard}, {@link PentagonBoard}, {@link HexagonBoard} 와 같은 판입니다.
+ * 판 모양(경로표 포함)은 변 수마다 한 번만 만들어 공유합니다.
+ */
+public final class BoardGenerator {
+    public static final int MIN_SIDES = 4;
+    public static final int MAX_SIDES = 12;
+    static final int NODES_PER_SIDE = 5;
+
+    private static final String[] LABELS = {
+        null, null, null, null, "사각형", "오각형", "육각형", "칠각형", "팔각형", "구각형", "십각형", "십일각형", "십이각형"
+    };
+    private static final BoardTopology[] TOPOLOGIES = new BoardTopology[MAX_SIDES + 1];
+
+    private BoardGenerator() {}
+
+    /** sides 각형 윷판 모양 (처음 요청할 때 만들고 이후에는 같은 객체) */
+    public static synchronized BoardTopology topology(int sides) {
+        checkSides(sides);
+        if (TOPOLOGIES[sides] == null) TOPOLOGIES[sides] = generate(sides);
+        return TOPOLOGIES[sides];
+    }
+
+    /** "사각형" ~ "십이각형" */
+    public static String label(int sides) {
+        checkSides(sides);
+        return LABELS[sides];
+    }
+
+    /** 한글 이름("오각형")이나 숫자("5")로 변의 수 */
+    public static int sidesOf(String text) {
+        String key = text.trim();
+        for (int sides = MIN_SIDES; sides <= MAX_SIDES; sides++) {
+            if (LABELS[sides].equals(key) || String.valueOf(sides).equals(key)) return sides;
+        }
+        throw new IllegalArgumentException("알 수 없는 판 종류: " + text);
+    }
+
+    private static void checkSides(int sides) {
+        if (sides < MIN_SIDES || sides > MAX_SIDES) {
+            throw new IllegalArgumentException("변의 수는 " + MIN_SIDES + "~" + MAX_SIDES + "입니다: " + sides);
+        }
+    }
+
+    private static BoardTopology generate(int sides) {
+        int outer = sides * NODES_PER_SIDE;
+        int last = (sides - 1) * NODES_PER_SIDE;         // 마지막 꼭지점
+        BoardTopology.Builder b = PolygonBoard.outerRing(sides, NODES_PER_SIDE);
+
+        // 1) 바퀴살 N 개(2칸씩)와 중앙 노드 생성
+        int[] ids = new int[2 * sides + 1];
+        for (int i = 0; i < ids.length; i++) ids[i] = outer + i;
+        BoardNode[] inner = b.createNodes(ids);
+        BoardNode center = inner[2 * sides];
+
+        // 2) 꼭지점 5 .. 5(N-2) → 바퀴살 → 중앙
+        int[][] shortcuts = new int[sides - 2][];
+        for (int k = 0; k < sides - 2; k++) {
+            b.linkPath(inner[2 * k], inner[2 * k + 1], center);
+            shortcuts[k] = new int[] { (k + 1) * NODES_PER_SIDE, inner[2 * k].id };
+        }
+        b.setShortcuts(shortcuts);
+
+        // 3) 중앙에서 나가는 두 갈래: 지나가면 마지막 꼭지점, 멈추면 출발점
+        BoardNode toLast = inner[2 * (sides - 2)], toStart = inner[2 * (sides - 1)];
+        b.linkPath(center, toLast, inner[2 * (sides - 2) + 1], b.node(last));
+        b.linkPath(toStart, inner[2 * (sides - 1) + 1], b.node(0));
+        center.isIntersection = true;
+        center.shortcut = toStart;
+        toStart.prev = center;
+
+        // 4) 사각형 판: 10 → 22 → 23 으로 들어오면 중앙에서 출발점 쪽으로
+        int turnFrom = sides == 4 ? inner[3].id : -1;
+        b.setLayout(layout(sides, NODES_PER_SIDE, true));
+        return b.build(0, true, last, turnFrom);
+    }
+
+    /**
+     * 정 sides 각형 배치. 출발점은 오른쪽 아래, 번호는 화면에서 반시계 방향으로 늘고 아랫변이 수평입니다.
+     * spokes 가 true 면 바퀴살 칸은 꼭지점과 중앙 사이를 3등분한 자리에 둡니다.
+     */
+    static BoardLayout layout(int sides, int nodesPerSide, boolean spokes) {
+        int outer = sides * nodesPerSide;
+        int size = spokes ? outer + 2 * sides + 1 : outer;
+        double[] x = new double[size], y = new double[size];
+        boolean[] marked = new boolean[size];
+        List<int[]> routes = new ArrayList<>();
+
+        // 1) 꼭지점 (단위원 위, 화면 y 는 아래로 증가)
+        double[] cx = new double[sides], cy = new double[sides];
+        for (int k = 0; k < sides; k++) {
+            double angle = Math.PI / 2 - Math.PI / sides - 2 * Math.PI * k / sides;
+            cx[k] = Math.cos(angle);
+            cy[k] = Math.sin(angle);
+        }
+
+        // 2) 외곽: 꼭지점 사이를 nodesPerSide 등분
+        for (int side = 0; side < sides; side++) {
+            int[] route = new int[nodesPerSide + 1];
+            for (int t = 0; t <= nodesPerSide; t++) route[t] = (side * nodesPerSide + t) % outer;
+            routes.add(route);
+            int nextCorner = (side + 1) % sides;
+            for (int t = 0; t < nodesPerSide; t++) {
+                int id = side * nodesPerSide + t;
+                double f = (double) t / nodesPerSide;
+                x[id] = cx[side] + (cx[nextCorner] - cx[side]) * f;
+                y[id] = cy[side] + (cy[nextCorner] - cy[side]) * f;
+            }
+            marked[side * nodesPerSide] = true;
+        }
+
+        // 3) 바퀴살: 꼭지점 → (1/3) → (2/3) → 중앙(0, 0)
+        if (spokes) {
+            int center = outer + 2 * sides;
+            marked[center] = true;
+            for (int k = 0; k < sides; k++) {
+                int corner = spokeCorner(sides, k);
+                int near = outer + 2 * k, far = near + 1;       // 들어오는 바퀴살은 꼭지점 쪽이 먼저
+                if (k >= sides - 2) { near = outer + 2 * k + 1; far = outer + 2 * k; }  // 나가는 갈래는 중앙 쪽이 먼저
+                x[near] = cx[corner] * 2 / 3;
+                y[near] = cy[corner] * 2 / 3;
+                x[far] = cx[corner] / 3;
+                y[far] = cy[corner] / 3;
+                routes.add(new int[] { corner * nodesPerSide, near, far, center });
+            }
+        }
+
+        // 4) 0 ~ SIZE 정사각형 안으로 맞춤 (긴 쪽 기준, 짧은 쪽은 가운데 정렬)
+        double minX = Double.MAX_VALUE, maxX = -Double.MAX_VALUE, minY = Double.MAX_VALUE, maxY = -Double.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            minX = Math.min(minX, x[i]); maxX = Math.max(maxX, x[i]);
+            minY = Math.min(minY, y[i]); maxY = Math.max(maxY, y[i]);
+        }
+        double scale = BoardLayout.SIZE / Math.max(maxX - minX, maxY - minY);
+        double padX = (BoardLayout.SIZE - (maxX - minX) * scale) / 2, padY = (BoardLayout.SIZE - (maxY - minY) * scale) / 2;
+        for (int i = 0; i < size; i++) {
+            x[i] = padX + (x[i] - minX) * scale;
+            y[i] = padY + (y[i] - minY) * scale;
+        }
+        return new BoardLayout(x, y, routes, marked);
+    }
+
+    // k 번째 바퀴살이 닿는 꼭지점 번호 (들어오는 살 1 .. N-2, 나가는 갈래 N-1 과 0)
+    private static int spokeCorner(int sides, int k) {
+        if (k < sides - 2) return k + 1;
+        return k == sides - 2 ? sides - 1 : 0;
+    }
+}
@@ -0,0 +1,44 @@
+package model;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 판 그리기용 배치: 노드 좌표, 선으로 이을 노드 열, 크게 그릴 칸(꼭지점과 중앙).
+ *
+ * 좌표는 0 ~ {@link #SIZE} 정사각형 안에 맞춰 두므로 화면에서는 배율과 여백만 곱하면 됩니다.
+ * 판 모양과 함께 한 번만 만들어 공유하고 바뀌지 않습니다.
+ */
+public final class BoardLayout {
+    /** 좌표 범위 (가로세로 모두 0 ~ SIZE) */
+    public static final double SIZE = 20;
+
+    private final double[] x, y;        // [노드 id]
+    private final List<int[]> routes;   // 선으로 이을 노드 id 열 (변마다, 바퀴살마다 하나)
+    private final boolean[] marked;     // [노드 id] → 꼭지점이나 중앙
+
+    BoardLayout(double[] x, double[] y, List<int[]> routes, boolean[] marked) {
+        this.x = x;
+        this.y = y;
+        this.routes = Collections.unmodifiableList(routes);
+        this.marked = marked;
+    }
+
+    public double getX(int id) {
+        return x[id];
+    }
+
+    public double getY(int id) {
+        return y[id];
+    }
+
+    /** 선으로 이을 노드 id 열 (배열은 공유하므로 고치지 말 것) */
+    public List<int[]> getRoutes() {
+        return routes;
+    }
+
+    /** 꼭지점이나 중앙처럼 크게 그릴 칸인지 */
+    public boolean isMarked(int id) {
+        return marked[id];
+    }
+}
@@ -1,8 +1,10 @@
 package model;
 //BoardNode.java
-import java.util.ArrayList;
-import java.util.List;
 
+/**
+ * 판의 칸 하나: 연결(다음 칸, 지름길)만 담습니다.
+ * {@link BoardTopology} 가 판 종류마다 한 번 만들어 모든 게임이 함께 쓰므로, 칸 위의 말은 {@link Board} 에게 물어봅니다.
+ */
 public class BoardNode {
     final int id;
     final String name;
@@ -11,17 +13,15 @@ public class BoardNode {
     BoardNode shortcut;
 
     boolean isIntersection = false;
-    List<Piece> pieces;
 
     public BoardNode(int id, String name) {
         this.id = id;
         this.name = name;
-        this.pieces = new ArrayList<>();
     }
 
     @Override
     public String toString() {
-        return name + "[" + pieces.size() + "]";
+        return name;
     }
 
     // BoardNode.java 내부에 추가
@@ -48,20 +48,4 @@ public class BoardNode {
     public boolean isIntersection() {
         return isIntersection;
     }
-
-    public List<Piece> getPieces() {
-        return pieces;
-    }
-
-    /** 이 노드 위에 말 하나를 추가합니다. */
-    public void addPiece(Piece p) {
-        pieces.add(p);
-    }
-
-    /** 이 노드에서 말 하나를 제거합니다. */
-    public void removePiece(Piece p) {
-        pieces.remove(p);
-    }
-
 }
-
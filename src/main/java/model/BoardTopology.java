@@ -0,0 +1,162 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 판 모양: 노드 연결(다음 칸, 지름길, 교차점)과 그로부터 컴파일한 {@link RoutingTable}, 그리기용 {@link BoardLayout}.
+ *
+ * 말이 어디에 있는지는 담지 않으므로 판 종류마다 한 번만 만들어 모든 게임이 함께 씁니다.
+ * (말 배치는 게임마다 {@link Board} 가 따로 가짐) 만든 뒤에는 바뀌지 않으므로 여러 스레드가 동시에 읽어도 됩니다.
+ */
+public final class BoardTopology {
+    private final BoardNode[] byId;             // [노드 id] → 노드
+    private final List<BoardNode> nodes;        // 만든 순서 (외곽 → 내부)
+    private final BoardNode start;
+    private final boolean shortcuts;            // 교차점에서 출발하면 지름길로 드는 판인지
+    private final int lastCorner;               // 지름길로 들지 않는 마지막 꼭지점 id
+    private final int turnFrom;                 // 이 칸에서 중앙으로 들어오면 중앙에서 지름길로 꺾음 (없으면 -1)
+    private final RoutingTable routing;
+    private final BoardLayout layout;
+
+    /**
+     * @param shortcuts  false 면 외곽만 도는 판 (지름길 무시)
+     * @param lastCorner 출발점 직전 꼭지점 (여기서는 지름길이 아니라 외곽으로 감)
+     * @param turnFrom   사각형 판의 23 → 28 처럼 지나서 들어온 중앙에서 꺾는 칸 (없으면 -1)
+     */
+    BoardTopology(List<BoardNode> nodes, BoardNode start, boolean shortcuts, int lastCorner, int turnFrom, BoardLayout layout) {
+        int size = 0;
+        for (BoardNode n : nodes) size = Math.max(size, n.id + 1);
+        this.byId = new BoardNode[size];
+        for (BoardNode n : nodes) byId[n.id] = n;
+        this.nodes = Collections.unmodifiableList(new ArrayList<>(nodes));
+        this.start = start;
+        this.shortcuts = shortcuts;
+        this.lastCorner = lastCorner;
+        this.turnFrom = turnFrom;
+        this.routing = new RoutingTable(this);
+        this.layout = layout;
+    }
+
+    public BoardNode getStart() {
+        return start;
+    }
+
+    /** 모든 노드 (변경 불가) */
+    public List<BoardNode> getNodes() {
+        return nodes;
+    }
+
+    /** id 로 노드 찾기 (배열 한 번 읽기) */
+    public BoardNode node(int id) {
+        return byId[id];
+    }
+
+    /** 가장 큰 노드 id + 1 */
+    public int size() {
+        return byId.length;
+    }
+
+    /** 만들 때 한 번 컴파일한 경로표 */
+    public RoutingTable getRoutingTable() {
+        return routing;
+    }
+
+    /** 화면 배치 */
+    public BoardLayout getLayout() {
+        return layout;
+    }
+
+    // 연결 리스트를 한 칸씩 따라가는 원래 경로 계산 (경로표 컴파일과 표 밖 칸 수에만 사용)
+    List<BoardNode> walkPath(BoardNode src, int steps) {
+        BoardNode cur = src;
+        List<BoardNode> path = new ArrayList<>();
+        // 마지막 꼭지점을 제외한 모든 교차점에서 출발하면 중앙길
+        boolean corner = shortcuts && src.isIntersection && src.id != lastCorner;
+        // 교차점 처리 플래그 - 사각형판 예외 (중앙을 지나쳐 들어오면 중앙에서 꺾음)
+        boolean turnAtCenter = false;
+        BoardNode center = turnFrom >= 0 ? byId[turnFrom].next : null;
+
+        // 1) 지나서 들어오는 칸에서 출발
+        if (cur.id == turnFrom) turnAtCenter = true;
+
+        // 2) 교차점 여부에 따라 한 칸 이동
+        if (corner && cur.shortcut != null)
+            cur = cur.shortcut;  // 교차점(마지막 제외)이면 shortcut
+        else
+            cur = cur.next;  // 아니면 다음 노드로
+        path.add(cur);
+
+        // 3) 나머지 경로 이동
+        for (int i = 1; i < steps; i++) {
+            if (cur.id == turnFrom) turnAtCenter = true;
+            if (turnAtCenter && cur == center) {
+                cur = cur.shortcut;
+                turnAtCenter = false;
+            }
+            else  // 기존 경로 이동
+                cur = cur.next;
+            path.add(cur);
+        }
+        return path;
+    }
+
+    /**
+     * 판 모양을 id 로 조립하는 도구. 노드는 id 배열에 두므로 지름길을 이을 때 목록을 뒤지지 않습니다.
+     */
+    static final class Builder {
+        private BoardNode[] byId = new BoardNode[0];
+        private final List<BoardNode> nodes = new ArrayList<>();
+        private BoardLayout layout;
+
+        BoardNode[] createNodes(int... ids) {
+            BoardNode[] created = new BoardNode[ids.length];
+            for (int i = 0; i < ids.length; i++) {
+                created[i] = new BoardNode(ids[i], String.valueOf(ids[i]));
+                if (ids[i] >= byId.length) byId = Arrays.copyOf(byId, Math.max(ids[i] + 1, byId.length * 2));
+                byId[ids[i]] = created[i];
+                nodes.add(created[i]);
+            }
+            return created;
+        }
+
+        BoardNode node(int id) {
+            return byId[id];
+        }
+
+        void linkPath(BoardNode... path) {
+            for (int i = 0; i < path.length - 1; i++) {
+                path[i].next = path[i + 1];
+                path[i + 1].prev = path[i];
+            }
+        }
+
+        void linkCycle(BoardNode... cycle) {
+            for (int i = 0; i < cycle.length; i++) {
+                BoardNode curr = cycle[i];
+                BoardNode next = cycle[(i + 1) % cycle.length];
+                curr.next = next;
+                next.prev = curr;
+            }
+        }
+
+        /** {외곽 id, 지름길 첫 칸 id} 쌍마다 교차점 표시 */
+        void setShortcuts(int[][] pairs) {
+            for (int[] pair : pairs) {
+                BoardNode from = byId[pair[0]];
+                from.isIntersection = true;
+                from.shortcut = byId[pair[1]];
+            }
+        }
+
+        void setLayout(BoardLayout layout) {
+            this.layout = layout;
+        }
+
+        BoardTopology build(int startId, boolean shortcuts, int lastCorner, int turnFrom) {
+            return new BoardTopology(nodes, byId[startId], shortcuts, lastCorner, turnFrom, layout);
+        }
+    }
+}
@@ -1,18 +1,41 @@
 package model;
 
+import model.event.GameEventBus;
+import model.event.YutThrown;
+import model.turn.DecisionProvider;
+import model.turn.TurnEngine;
+import model.turn.TurnPhase;
+
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 import java.util.Scanner;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.random.RandomGenerator;
 
 public class Game {
     private final List<Player> players;
     private final Board board;
     private int currentTurn = 0; // 플레이어 인덱스
     Random random = new Random();
+    private ThrowModel throwModel = ThrowModel.STANDARD;   // 무작위 던지기에 쓰는 확률 모형
+
+    /** scale 의 인원/말 개수 범위를 검사한 뒤 만듭니다. */
+    public Game(int numPlayers, int piecesPerPlayer, Board board, GameScale scale) {
+        this(checked(scale, numPlayers, piecesPerPlayer), piecesPerPlayer, board);
+    }
+
+    private static int checked(GameScale scale, int numPlayers, int piecesPerPlayer) {
+        scale.check(numPlayers, piecesPerPlayer);
+        return numPlayers;
+    }
 
     public Game(int numPlayers, int piecesPerPlayer, Board board) {
+        if (numPlayers > GameScale.LARGE.getMaxPlayers()) {
+            throw new IllegalArgumentException("플레이어는 최대 " + GameScale.LARGE.getMaxPlayers() + "명까지 가능합니다.");
+        }
         this.board = board;
         players = new ArrayList<>();
         for (int i = 0; i < numPlayers; i++) {
@@ -20,71 +43,73 @@ public class Game {
         }
     }
 
+    /** 콘솔에서 모든 플레이어의 입력을 받아 끝까지 진행합니다. */
     public void start(Scanner scanner) {
         System.out.println("게임 시작!");
-        while (true) {
-            Player player = players.get(currentTurn);
-            System.out.println("\n--- " + player.getName() + "의 턴 ---");
-            board.printBoard();
-
-            System.out.println("윷 던지기 방식 선택 (1: 지정, 2: 랜덤): ");
-            int mode = scanner.nextInt();
-            List<YutResult> results = new ArrayList<>();
-            results = ThrowYutResult(scanner, mode, results); // 윷 결과 리스트
-
-            // 결과 적용
-            while (!results.isEmpty()) {
-                YutResult selectedRes = selectYutResult(results, scanner);
-
-                // 이동할 말 선택
-                Piece chosen = selectPiece(player, scanner);
-
-                // 말 이동
-                boolean captureOccurred = board.movePiece(chosen, selectedRes.getStepCount());
-                System.out.println(chosen + " 이동 완료.");
-
-                // 승리 조건 즉시 확인
-                if (player.allPiecesFinished()) {
-                    System.out.println(player.getName() + " 승리!");
-                    return;
-                }
+        ConsoleProvider console = new ConsoleProvider(scanner);
+        TurnEngine engine = new TurnEngine(this, Collections.nCopies(players.size(), console));
+        engine.addObserver(this::printPhase);
+        engine.play().join();
+        System.out.println("게임 종료");
+    }
 
-                // 캡처 시 추가 던지기 (윷·모 연속)
-                if (captureOccurred) {
-                    System.out.println("말을 잡았습니다! 추가 던지기 기회 발생!");
-                    results = ThrowYutResult(scanner, mode, results);
+    // 콘솔 화면: 단계가 바뀔 때 안내 출력
+    private CompletionStage<Void> printPhase(TurnEngine engine, TurnPhase phase) {
+        Player player = getCurrentPlayer();
+        switch (phase) {
+            case THROWING:
+                if (engine.getThrowsThisTurn() == 0) {
+                    System.out.println("\n--- " + player.getName() + "의 턴 ---");
+                    board.printBoard();
                 }
-            }
-
-            // 결과 소진 후 승리 확인
-            if (player.allPiecesFinished()) {
-                System.out.println(player.getName() + " 승리!");
                 break;
-            }
-            currentTurn = (currentTurn + 1) % players.size();
+            case THROWN:
+                if (engine.getLastThrow().grantsExtraThrow()) System.out.println("추가 윷 던지기 기회 발생!");
+                break;
+            case MOVING:
+                if (engine.getMove().captures()) System.out.println("말을 잡았습니다! 추가 던지기 기회 발생!");
+                break;
+            case GAME_OVER:
+                if (engine.getWinner() != null) System.out.println(engine.getWinner().getName() + " 승리!");
+                break;
+            default:
+                break;
         }
-        System.out.println("게임 종료");
+        return null;
     }
 
-    private List<YutResult> ThrowYutResult(Scanner scanner, int mode, List<YutResult> results) {
-        boolean extra = false; // 윷, 모일 때 추가 던지기 여부
+    /** 콘솔 입력으로 답하는 결정자. 던지기 방식(지정/랜덤)은 차례의 첫 던지기에서 한 번 묻습니다. */
+    private final class ConsoleProvider implements DecisionProvider {
+        private final Scanner scanner;
+        private int mode;
+
+        ConsoleProvider(Scanner scanner) {
+            this.scanner = scanner;
+        }
 
-        do{
-            YutResult res;
-            if (mode == 1) {
-                res = UserYutThrow(scanner);
-            } else if (mode == 2) {
-                res = YutResult.throwYut(random);
-                System.out.println("윷 결과: " + res);
-            } else {
-                System.out.println("1 또는 2를 선택하세요.");
-                continue; // do-while 전체 반복
+        @Override
+        public CompletableFuture<YutResult> throwYut(TurnEngine engine) {
+            if (engine.getThrowsThisTurn() == 0) {
+                System.out.println("윷 던지기 방식 선택 (1: 지정, 2: 랜덤): ");
+                mode = scanner.nextInt();
+                while (mode != 1 && mode != 2) {
+                    System.out.println("1 또는 2를 선택하세요.");
+                    mode = scanner.nextInt();
+                }
             }
-            results.add(res);
-            extra = res.grantsExtraThrow();
-            if(extra){ System.out.println("추가 윷 던지기 기회 발생!");}
-        }while(extra);
-        return results;
+            YutResult res = mode == 1 ? UserYutThrow(scanner) : throwModel.sample(random);
+            return CompletableFuture.completedFuture(res);
+        }
+
+        @Override
+        public CompletableFuture<YutResult> chooseResult(TurnEngine engine, List<YutResult> pending) {
+            return CompletableFuture.completedFuture(selectYutResult(pending, scanner));
+        }
+
+        @Override
+        public CompletableFuture<Piece> choosePiece(TurnEngine engine, YutResult result) {
+            return CompletableFuture.completedFuture(selectPiece(getCurrentPlayer(), scanner));
+        }
     }
 
     private YutResult UserYutThrow(Scanner scanner) {
@@ -126,7 +151,7 @@ public class Game {
                 continue;
             }
 
-            YutResult selectedRes = results.remove(resIdx);
+            YutResult selectedRes = results.get(resIdx);
             System.out.println("선택한 결과: " + selectedRes);
             return selectedRes;
         }
@@ -161,15 +186,31 @@ public class Game {
     }
 
 
+    /** 지금 둘 차례인 자리 번호 (= {@link #getCurrentPlayer()} 의 {@link Player#getId()}) */
+    public int getCurrentSeat() {
+        return currentTurn;
+    }
+
     public Player getCurrentPlayer() {
         return players.get(currentTurn);
     }
 
-    public List<YutResult> rollAllYuts(Random rand) {
+    /** 윷 던지기 확률 모형 (기본 {@link ThrowModel#STANDARD}) */
+    public ThrowModel getThrowModel() {
+        return throwModel;
+    }
+
+    public void setThrowModel(ThrowModel throwModel) {
+        this.throwModel = throwModel;
+    }
+
+    /** 윷/모가 아닌 결과가 나올 때까지 {@link #getThrowModel()} 로 던진 결과 */
+    public List<YutResult> rollAllYuts(RandomGenerator rand) {
         List<YutResult> results = new ArrayList<>();
         YutResult r;
         do {
-            r = YutResult.throwYut(rand);
+            r = throwModel.sample(rand);
+            recordThrow(r);
             results.add(r);
         } while (r.grantsExtraThrow());
         return results;
@@ -183,13 +224,52 @@ public class Game {
         return board;
     }
 
+    /** 보드 이동 이벤트와 윷 던지기 이벤트가 함께 발행되는 버스 */
+    public GameEventBus getEventBus() {
+        return board.getEventBus();
+    }
+
+    /** 현재 플레이어가 던진 윷 결과를 구독자에게 알립니다. (랜덤/지정 공통) */
+    public void recordThrow(YutResult result) {
+        GameEventBus events = board.getEventBus();
+        if (events.hasListeners()) events.publish(new YutThrown(getCurrentPlayer(), result));
+    }
+
+    /**
+     * 같은 판과 플레이어로 새 게임을 시작합니다. (말은 모두 집으로, 차례는 첫 플레이어)
+     * 판 모양은 공유하고 말 배치만 지우므로 시뮬레이터가 게임 객체 하나를 계속 쓸 수 있습니다.
+     */
+    public void reset() {
+        board.reset();
+        currentTurn = 0;
+    }
+
     public void nextTurn() {
         currentTurn = (currentTurn + 1) % players.size();
     }
 
+    /** 말 배치와 둘 차례의 {@link Zobrist} 해시 ({@link GameState#zobrist()} 와 같은 값) */
+    public long positionHash() {
+        return board.getZobrist() ^ Zobrist.sideToMove(currentTurn);
+    }
+
+    /** 말 배치, 둘 차례, 아직 쓰지 않은 윷 결과의 해시 */
+    public long positionHash(List<YutResult> pending) {
+        return positionHash() ^ Zobrist.pending(pending);
+    }
+
     public boolean applyYutResult(YutResult result, Piece piece) {
         if (piece == null || piece.isFinished()) return false;
+        return move(result, piece).captures();
+    }
 
+    /** piece 를 result 로 움직이면 일어날 일 (판은 그대로, {@link Board#previewMove} 참고) */
+    public MovePreview previewMove(YutResult result, Piece piece) {
+        return board.previewMove(piece, result);
+    }
+
+    /** applyYutResult 와 같지만 실제로 일어난 이동을 돌려줍니다 (미리 본 것과 같은 객체) */
+    public MovePreview move(YutResult result, Piece piece) {
         // 출발 전인 경우
         if (piece.getPosition() == null) {
             piece.setHasLeftStart(false);
@@ -202,17 +282,73 @@ public class Game {
             piece.setJustStoppedAtIntersection(false);
         }
 
-        // 보드에서 이동 처리 및 캡처 여부 반환
-        return board.movePiece(piece, result.getStepCount());
+        // 보드에서 이동 처리 (캡처 여부는 결과에 담김)
+        return board.move(piece, result);
+    }
+
+    /**
+     * 현재 플레이어가 pending 중 하나로 둘 수 있는 서로 다른 수.
+     * 같은 결과가 여러 개여도 한 번만, 집에 있는 말과 업은 말 하나로 묶어 돌려줍니다 (결과 → 말 순서).
+     */
+    public List<LegalMove> legalMoves(List<YutResult> pending) {
+        List<LegalMove> moves = new ArrayList<>();
+        List<YutResult> seen = new ArrayList<>(pending.size());
+        for (YutResult r : pending) {
+            if (seen.contains(r)) continue;
+            seen.add(r);
+            moves.addAll(legalMoves(r));
+        }
+        return moves;
+    }
+
+    /** 현재 플레이어가 result 로 둘 수 있는 서로 다른 수 (말 순서) */
+    public List<LegalMove> legalMoves(YutResult result) {
+        List<LegalMove> moves = new ArrayList<>();
+        List<Piece> home = null;
+        for (Piece p : getCurrentPlayer().getPieces()) {
+            if (p.finished) continue;
+            PieceGroup g = p.group;
+            if (g == null) {
+                // 집에 있는 말: 첫 말이 대표, 나머지는 같은 수
+                if (home == null) {
+                    home = new ArrayList<>();
+                    moves.add(new LegalMove(result, p, home, result == YutResult.BACKDO));
+                }
+                home.add(p);
+            } else if (g.members.get(0) == p) {
+                // 업: 맨 앞 말이 대표 (구성원 모두 함께 움직임)
+                moves.add(new LegalMove(result, p, List.copyOf(g.members), isBackdoNoOp(result, p, g)));
+            }
+        }
+        return moves;
+    }
+
+    /**
+     * result 를 쓸 때 클릭할 의미가 있는 말. 판이 바뀌는 수가 하나도 없으면
+     * 결과를 버리기 위해 아무 말이나 고를 수 있도록 완주하지 않은 말 전부.
+     */
+    public List<Piece> movablePieces(YutResult result) {
+        List<Piece> pieces = new ArrayList<>();
+        for (LegalMove m : legalMoves(result)) {
+            if (!m.noOp()) pieces.addAll(m.equivalents());
+        }
+        return pieces.isEmpty() ? getCurrentPlayer().getUnfinishedPieces() : pieces;
+    }
+
+    // Board.handleBackdo 와 같은 조건: 되돌아갈 칸이 없으면 제자리
+    private boolean isBackdoNoOp(YutResult result, Piece piece, PieceGroup g) {
+        if (result != YutResult.BACKDO) return false;
+        boolean fromStart = g.node == board.getStart() && piece.hasLeftStart && g.history.size() == 1;
+        return fromStart ? g.lastPosition == null : g.history.size() <= 1;
     }
 
     public boolean isCurrentPlayerWin() {
-        return getCurrentPlayer().getRemainingPieceCount() == 0;
+        return getCurrentPlayer().allPiecesFinished();
     }
 
     public List<Piece> getPieces() {
-        return players.stream()
-                .flatMap(player -> player.getPieces().stream())
-                .collect(Collectors.toList());
+        List<Piece> pieces = new ArrayList<>();
+        for (Player player : players) pieces.addAll(player.pieces);
+        return pieces;
     }
 }
\ No newline at end of file
@@ -0,0 +1,54 @@
+package model;
+
+/**
+ * 게임 규모: 플레이어 수와 플레이어당 말 개수의 허용 범위.
+ *
+ * 엔진은 어느 규모에서나 같은 자료 구조를 씁니다. 완주 말 수는 플레이어마다 세어 두고, 칸 위의 말은 노드 id 로,
+ * 플레이어는 등록 번호로 바로 찾으므로 한 수의 비용이 인원이나 말 개수에 따라 늘지 않습니다.
+ */
+public enum GameScale {
+    /** 보통 윷놀이 (화면 UI 기본값) */
+    STANDARD(2, 4, 2, 5),
+    /** 큰 화면 행사용: 16명까지, 말 32개까지 ({@link Occupancy#MAX_PIECES}) */
+    LARGE(2, 16, 1, Occupancy.MAX_PIECES);
+
+    private final int minPlayers, maxPlayers, minPieces, maxPieces;
+
+    GameScale(int minPlayers, int maxPlayers, int minPieces, int maxPieces) {
+        this.minPlayers = minPlayers;
+        this.maxPlayers = maxPlayers;
+        this.minPieces = minPieces;
+        this.maxPieces = maxPieces;
+    }
+
+    public int getMinPlayers() { return minPlayers; }
+    public int getMaxPlayers() { return maxPlayers; }
+    public int getMinPieces() { return minPieces; }
+    public int getMaxPieces() { return maxPieces; }
+
+    public boolean allowsPlayers(int players) {
+        return players >= minPlayers && players <= maxPlayers;
+    }
+
+    public boolean allowsPieces(int pieces) {
+        return pieces >= minPieces && pieces <= maxPieces;
+    }
+
+    /** 범위를 벗어나면 IllegalArgumentException */
+    public void check(int players, int pieces) {
+        if (!allowsPlayers(players)) {
+            throw new IllegalArgumentException("플레이어 수는 " + minPlayers + "~" + maxPlayers + "명입니다: " + players);
+        }
+        if (!allowsPieces(pieces)) {
+            throw new IllegalArgumentException("말 개수는 " + minPieces + "~" + maxPieces + "개입니다: " + pieces);
+        }
+    }
+
+    /** "standard", "large" (대소문자 무시) */
+    public static GameScale parse(String text) {
+        for (GameScale scale : values()) {
+            if (scale.name().equalsIgnoreCase(text.trim())) return scale;
+        }
+        throw new IllegalArgumentException("알 수 없는 규모: " + text);
+    }
+}
@@ -0,0 +1,416 @@
+package model;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 시뮬레이션용 불변 게임 상태.
+ * 말 하나를 long 하나에 (현재 칸, 빽도용 직전 칸, 짧은 이동 이력) 으로 압축하고,
+ * 전이 함수 {@link #apply(GameState, int, YutResult)} 는 {@link Board#movePiece} 와 같은 규칙
+ * (업, 잡기, 빽도, 완주)을 따르면서 새 상태를 돌려줍니다.
+ * 같은 칸의 같은 플레이어 말은 {@link PieceGroup} 처럼 한 업이므로 항상 같은 값을 가집니다.
+ *
+ * 단, 이력은 최근 {@link #HISTORY} 칸만 기억합니다. 빽도를 연달아 해서 이력이 떨어지면
+ * 집에서 가장 적은 던지기로 그 칸에 오는 길({@link #arrange} 과 같은 길)로 다시 채우므로,
+ * 그 뒤의 빽도는 실제로 지나온 길을 모두 기억하는 {@link Board} 와 다른 칸으로 갈 수 있습니다.
+ */
+public final class GameState {
+    /** 아직 출발하지 않은 말 (집) */
+    public static final int HOME = 126;
+    /** 완주한 말 */
+    public static final int FINISHED = 127;
+    /** 말 하나가 기억하는 이동 이력 칸 수 (맨 위 = 현재 칸) */
+    public static final int HISTORY = 6;
+
+    // 말 하나당 long 비트 배치
+    private static final int NODE_BITS = 7;
+    private static final long NODE_MASK = (1L << NODE_BITS) - 1;
+    private static final int LAST_SHIFT = NODE_BITS;              // 7..13  : backdoFromStart 용 직전 위치
+    private static final int DEPTH_SHIFT = 2 * NODE_BITS;         // 14..17 : 이력 깊이
+    private static final int HIST_SHIFT = DEPTH_SHIFT + 4;        // 18..59 : 이력 (아래가 오래된 칸)
+
+    private final RoutingTable routes;
+    private final int piecesPerPlayer;
+    private final long[] pieces;
+    private final int turn;
+    private final boolean bonusThrow;   // 직전 이동에서 잡기가 일어나 추가 던지기가 남았는지
+    private final long placement;       // 말 배치의 Zobrist 해시 (전이할 때 바뀐 칸만 갱신)
+
+    private GameState(RoutingTable routes, int piecesPerPlayer, long[] pieces, int turn, boolean bonusThrow, long placement) {
+        this.routes = routes;
+        this.piecesPerPlayer = piecesPerPlayer;
+        this.pieces = pieces;
+        this.turn = turn;
+        this.bonusThrow = bonusThrow;
+        this.placement = placement;
+    }
+
+    /** 모든 말이 집에 있는 시작 상태 */
+    public static GameState initial(RoutingTable routes, int numPlayers, int piecesPerPlayer) {
+        if (routes.size() > HOME) throw new IllegalArgumentException("노드가 너무 많습니다: " + routes.size());
+        long[] pieces = new long[numPlayers * piecesPerPlayer];
+        Arrays.fill(pieces, HOME | ((long) HOME << LAST_SHIFT));
+        return new GameState(routes, piecesPerPlayer, pieces, 0, false, 0);
+    }
+
+    /** 현재 Game 의 말 배치를 상태로 옮깁니다. (이력은 최근 HISTORY 칸만 유지) */
+    public static GameState of(Game game) {
+        List<Player> players = game.getPlayers();
+        int perPlayer = players.get(0).getPieces().size();
+        GameState s = initial(game.getBoard().getRoutingTable(), players.size(), perPlayer);
+        long[] pieces = s.pieces;
+        for (int i = 0; i < players.size(); i++) {
+            List<Piece> list = players.get(i).getPieces();
+            for (int j = 0; j < list.size(); j++) {
+                Piece p = list.get(j);
+                PieceGroup g = p.group;
+                long v = encodePos(p.finished ? FINISHED : g == null ? HOME : g.node.id);
+                if (g != null) {
+                    v = withLast(v, g.lastPosition == null ? HOME : g.lastPosition.id);
+                    for (int k = 0; k < g.history.size(); k++) v = push(v, g.history.get(k));
+                }
+                pieces[i * perPlayer + j] = v;
+            }
+        }
+        return new GameState(s.routes, perPlayer, pieces, game.getCurrentSeat(), false,
+                placementOf(pieces, perPlayer));
+    }
+
+    /**
+     * 말마다 위치만 정해 만든 상태 (종반 데이터베이스처럼 위치만 기억하는 쪽에서 씀).
+     * 판 위의 말은 집에서 가장 적은 던지기로 그 칸에 오는 길을 이동 이력으로 가지므로
+     * 빽도는 그 길을 따라 되돌아갑니다. 같은 칸의 같은 편 말은 같은 값이 되어 업이 됩니다.
+     * @param positions 말별 노드 id, {@link #HOME} 또는 {@link #FINISHED} (플레이어 순서대로 piecesPerPlayer 개씩)
+     */
+    public static GameState arrange(RoutingTable routes, int piecesPerPlayer, int[] positions, int turn) {
+        if (positions.length % piecesPerPlayer != 0) throw new IllegalArgumentException("말 수가 맞지 않습니다: " + positions.length);
+        long[] pieces = new long[positions.length];
+        for (int i = 0; i < positions.length; i++) {
+            int node = positions[i];
+            long v = encodePos(node);
+            if (node != HOME && node != FINISHED) v = entryHistory(v, node, routes);
+            pieces[i] = v;
+        }
+        return new GameState(routes, piecesPerPlayer, pieces, turn, false, placementOf(pieces, piecesPerPlayer));
+    }
+
+    // ───────────── 조회 ─────────────
+
+    public int getPlayerCount() {
+        return pieces.length / piecesPerPlayer;
+    }
+
+    public int getPiecesPerPlayer() {
+        return piecesPerPlayer;
+    }
+
+    public int getPieceCount() {
+        return pieces.length;
+    }
+
+    public int getTurn() {
+        return turn;
+    }
+
+    public boolean hasBonusThrow() {
+        return bonusThrow;
+    }
+
+    public RoutingTable getRoutingTable() {
+        return routes;
+    }
+
+    public int owner(int piece) {
+        return piece / piecesPerPlayer;
+    }
+
+    /** 말의 현재 노드 id, 또는 {@link #HOME} / {@link #FINISHED} */
+    public int position(int piece) {
+        return pos(pieces[piece]);
+    }
+
+    public boolean isFinished(int piece) {
+        return pos(pieces[piece]) == FINISHED;
+    }
+
+    public int finishedCount(int player) {
+        int count = 0;
+        for (int i = player * piecesPerPlayer; i < (player + 1) * piecesPerPlayer; i++) {
+            if (pos(pieces[i]) == FINISHED) count++;
+        }
+        return count;
+    }
+
+    public boolean isWin(int player) {
+        return finishedCount(player) == piecesPerPlayer;
+    }
+
+    /** 말 하나가 완주까지 남은 최소 걸음 수 (집에 있으면 도로 들어가는 한 걸음 포함, 완주했으면 0) */
+    public int distanceToGoal(int piece) {
+        int pos = position(piece);
+        if (pos == FINISHED) return 0;
+        if (pos == HOME) return routes.distanceToGoal(routes.destination(routes.getStartId(), 1)) + 1;
+        return routes.distanceToGoal(pos);
+    }
+
+    /** 플레이어의 모든 말이 완주까지 남은 걸음 수 합 */
+    public int distanceToGoalOf(int player) {
+        int sum = 0;
+        for (int i = player * piecesPerPlayer; i < (player + 1) * piecesPerPlayer; i++) sum += distanceToGoal(i);
+        return sum;
+    }
+
+    /**
+     * 말 배치와 둘 차례의 {@link Zobrist} 해시. 같은 칸에 같은 크기의 업이 있으면 이동 이력이 달라도 같은 값이며,
+     * {@link Game#positionHash()} 와 같은 키를 씁니다.
+     */
+    public long zobrist() {
+        return placement ^ Zobrist.sideToMove(turn);
+    }
+
+    // ───────────── 전이 ─────────────
+
+    /** 같은 상태에서 다음 플레이어 차례로 넘깁니다. */
+    public GameState nextTurn() {
+        return new GameState(routes, piecesPerPlayer, pieces, (turn + 1) % getPlayerCount(), false, placement);
+    }
+
+    /** 잡기 보너스를 이미 던진 뒤의 같은 상태 ({@link #hasBonusThrow()} 가 false) */
+    public GameState bonusThrown() {
+        return withBonus(false);
+    }
+
+    /**
+     * state 에서 piece 에 result 를 적용한 새 상태.
+     * 잡기가 일어났으면 결과 상태의 {@link #hasBonusThrow()} 가 true 입니다.
+     */
+    public static GameState apply(GameState state, int piece, YutResult result) {
+        return state.apply(piece, result.getStepCount());
+    }
+
+    private GameState apply(int piece, int steps) {
+        int pos = pos(pieces[piece]);
+        if (pos == FINISHED) return withBonus(false);
+
+        long[] next = pieces.clone();
+        boolean captured;
+        if (steps < 0) {
+            if (pos == HOME) return withBonus(false);   // 보드에 오르기 전엔 빽도 불가
+            captured = backdo(next, piece, pos);
+        } else {
+            captured = advance(next, piece, pos, steps);
+        }
+
+        // 해시: 떠난 칸과 도착한 칸만 바뀜 (잡힌 말과 합류한 말도 도착 칸에 있었음)
+        int dest = pos(next[piece]);
+        long h = placement ^ placementAt(pieces, pos, piecesPerPlayer) ^ placementAt(next, pos, piecesPerPlayer);
+        if (dest != pos) h ^= placementAt(pieces, dest, piecesPerPlayer) ^ placementAt(next, dest, piecesPerPlayer);
+        return new GameState(routes, piecesPerPlayer, next, turn, captured, h);
+    }
+
+    private GameState withBonus(boolean bonus) {
+        return bonus == bonusThrow ? this : new GameState(routes, piecesPerPlayer, pieces, turn, bonus, placement);
+    }
+
+    /** node 한 칸의 해시 몫: 플레이어별 업 크기 (완주 칸이면 완주 말 수, 집은 0) */
+    private static long placementAt(long[] pieces, int node, int perPlayer) {
+        if (node == HOME) return 0;
+        long h = 0;
+        for (int owner = 0; owner * perPlayer < pieces.length; owner++) {
+            int count = 0;
+            for (int i = owner * perPlayer; i < (owner + 1) * perPlayer; i++) {
+                if (pos(pieces[i]) == node) count++;
+            }
+            if (count == 0) continue;
+            h ^= node == FINISHED ? Zobrist.finished(owner, count) : Zobrist.group(node, owner, count);
+        }
+        return h;
+    }
+
+    private static long placementOf(long[] pieces, int perPlayer) {
+        long h = 0;
+        for (int i = 0; i < pieces.length; i++) {
+            int node = pos(pieces[i]);
+            boolean seen = false;
+            for (int j = 0; j < i && !seen; j++) seen = pos(pieces[j]) == node;
+            if (!seen) h ^= placementAt(pieces, node, perPlayer);
+        }
+        return h;
+    }
+
+    private boolean advance(long[] next, int piece, int pos, int steps) {
+        int owner = owner(piece);
+        boolean first = pos == HOME;
+        int src = first ? routes.getStartId() : pos;
+
+        // 출발점 위에서 앞으로 가거나, 경로가 출발점을 지나면 업힌 말 모두 완주
+        if (!first && (src == routes.getStartId() || routes.passesStart(src, steps))) {
+            for (int i = owner * piecesPerPlayer; i < (owner + 1) * piecesPerPlayer; i++) {
+                if (pos(next[i]) == src) next[i] = withPos(next[i], FINISHED);
+            }
+            return false;
+        }
+
+        int dest = routes.destination(src, steps);
+        List<BoardNode> path = routes.path(src, steps);
+        for (int i = owner * piecesPerPlayer; i < (owner + 1) * piecesPerPlayer; i++) {
+            if (i == piece || (!first && pos(next[i]) == src)) {
+                long v = push(next[i], src);
+                for (int k = 0; k < path.size(); k++) v = push(v, path.get(k).id);
+                next[i] = withPos(v, dest);
+            }
+        }
+        join(next, piece, dest);
+        return capture(next, owner, dest);
+    }
+
+    private boolean backdo(long[] next, int piece, int pos) {
+        int owner = owner(piece);
+        int depth = depth(next[piece]);
+
+        // 출발점에서 이력이 한 칸뿐이면 직전 위치로 되돌아감 (잡기 없음)
+        if (pos == routes.getStartId() && depth == 1) {
+            int prev = last(next[piece]);
+            if (prev == HOME) return false;
+            for (int i = owner * piecesPerPlayer; i < (owner + 1) * piecesPerPlayer; i++) {
+                if (pos(next[i]) == pos) {
+                    long v = withDepth(next[i], 0);
+                    next[i] = withPos(push(push(v, pos), prev), prev);
+                }
+            }
+            join(next, piece, prev);
+            return false;
+        }
+        if (depth == 0) return false;
+        if (depth == 1) {
+            // 이력이 떨어짐: 가장 짧게 오는 길로 다시 채워 제자리에 머물지 않게 함
+            next[piece] = entryHistory(next[piece], pos, routes);
+            depth = depth(next[piece]);
+        }
+
+        if (depth > 1) next[piece] = pop(next[piece]);
+        int prev = top(next[piece]);
+
+        boolean captured = capture(next, owner, prev);
+        for (int i = owner * piecesPerPlayer; i < (owner + 1) * piecesPerPlayer; i++) {
+            if (pos(next[i]) != pos) continue;
+            long v = next[i];
+            if (depth(v) > 0) v = pop(v);
+            v = push(v, prev);
+            next[i] = withPos(withLast(v, pos), prev);
+        }
+        join(next, piece, prev);
+        return captured;
+    }
+
+    // 이력을 비우고 집에서 가장 적은 던지기로 node 에 오는 길을 쌓음 (가득 차면 최근 칸만)
+    private static long entryHistory(long v, int node, RoutingTable routes) {
+        v = withDepth(v, 0);
+        for (int id : routes.entryWalk(node)) v = push(v, id);
+        return v;
+    }
+
+    /** node 에 먼저 있던 같은 편 말이 방금 도착한 piece 의 업에 합류 (이력은 도착한 쪽을 따름) */
+    private void join(long[] next, int piece, int node) {
+        int owner = owner(piece);
+        for (int i = owner * piecesPerPlayer; i < (owner + 1) * piecesPerPlayer; i++) {
+            if (pos(next[i]) == node) next[i] = next[piece];
+        }
+    }
+
+    /** node 위의 다른 플레이어 말을 모두 집으로 돌려보냅니다. (업이 풀리므로 이력도 비움) */
+    private boolean capture(long[] next, int owner, int node) {
+        boolean captured = false;
+        for (int i = 0; i < next.length; i++) {
+            if (owner(i) != owner && pos(next[i]) == node) {
+                next[i] = encodePos(HOME);
+                captured = true;
+            }
+        }
+        return captured;
+    }
+
+    // ───────────── 비트 연산 ─────────────
+
+    private static long encodePos(int node) {
+        return node | ((long) HOME << LAST_SHIFT);
+    }
+
+    private static int pos(long v) {
+        return (int) (v & NODE_MASK);
+    }
+
+    private static long withPos(long v, int node) {
+        return (v & ~NODE_MASK) | node;
+    }
+
+    private static int last(long v) {
+        return (int) ((v >>> LAST_SHIFT) & NODE_MASK);
+    }
+
+    private static long withLast(long v, int node) {
+        return (v & ~(NODE_MASK << LAST_SHIFT)) | ((long) node << LAST_SHIFT);
+    }
+
+    private static int depth(long v) {
+        return (int) ((v >>> DEPTH_SHIFT) & 0xF);
+    }
+
+    private static long withDepth(long v, int depth) {
+        return (v & ~(0xFL << DEPTH_SHIFT)) | ((long) depth << DEPTH_SHIFT);
+    }
+
+    private static int historyAt(long v, int index) {
+        return (int) ((v >>> (HIST_SHIFT + index * NODE_BITS)) & NODE_MASK);
+    }
+
+    private static int top(long v) {
+        return historyAt(v, depth(v) - 1);
+    }
+
+    private static long pop(long v) {
+        return withDepth(v, depth(v) - 1);
+    }
+
+    /** 맨 위와 같은 칸은 다시 쌓지 않고, 가득 차면 가장 오래된 칸을 버립니다. */
+    private static long push(long v, int node) {
+        int depth = depth(v);
+        if (depth > 0 && top(v) == node) return v;
+        long hist = v >>> HIST_SHIFT;
+        if (depth == HISTORY) {
+            hist >>>= NODE_BITS;
+            depth--;
+        }
+        hist &= (1L << (depth * NODE_BITS)) - 1;
+        hist |= (long) node << (depth * NODE_BITS);
+        long low = v & ((1L << DEPTH_SHIFT) - 1);
+        return low | ((long) (depth + 1) << DEPTH_SHIFT) | (hist << HIST_SHIFT);
+    }
+
+    // ───────────── 동등성 ─────────────
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof GameState)) return false;
+        GameState other = (GameState) o;
+        return turn == other.turn && bonusThrow == other.bonusThrow
+                && routes == other.routes && Arrays.equals(pieces, other.pieces);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * Arrays.hashCode(pieces) + turn) + (bonusThrow ? 1 : 0);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("GameState[turn=").append(turn);
+        for (int i = 0; i < pieces.length; i++) {
+            int p = position(i);
+            sb.append(i % piecesPerPlayer == 0 ? " | " : " ")
+              .append(p == HOME ? "집" : p == FINISHED ? "완주" : String.valueOf(p));
+        }
+        return sb.append(']').toString();
+    }
+}
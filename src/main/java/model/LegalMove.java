@@ -0,0 +1,16 @@
+package model;
+
+import java.util.List;
+
+/**
+ * 한 차례에 고를 수 있는 서로 다른 수 하나: 윷 결과와 움직일 말.
+ *
+ * 집에 있는 말끼리, 같은 업의 말끼리는 어느 것을 골라도 결과가 같으므로 수 하나로 묶고
+ * 그 말들을 equivalents 로 함께 돌려줍니다. ({@link Game#applyYutResult} 에는 piece 를 넘기면 됨)
+ *
+ * @param piece       대표 말
+ * @param equivalents 골라도 같은 수가 되는 말 (piece 포함, 업이면 함께 움직이는 말)
+ * @param noOp        판이 바뀌지 않는 수 (집에 있는 말의 빽도 등). 결과를 버리는 것과 같음
+ */
+public record LegalMove(YutResult result, Piece piece, List<Piece> equivalents, boolean noOp) {
+}
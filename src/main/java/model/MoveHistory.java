@@ -0,0 +1,66 @@
+package model;
+
+/**
+ * 업 하나의 이동 이력 (노드 id 스택, 맨 위 = 현재 칸).
+ * 연속으로 같은 칸은 한 번만 쌓으므로 이력은 항상 출발점에서 현재 칸까지 걸어온 길이 되고,
+ * 한 바퀴를 돌면 완주하므로 길이가 보드 노드 수를 넘지 않습니다.
+ * 그래서 노드 수만큼의 int 배열 하나로 충분하며, 혹시 넘치면 가장 오래된 칸부터 버립니다.
+ */
+final class MoveHistory {
+    private static final int[] NONE = new int[0];
+
+    private int[] ids = NONE;   // 원형 버퍼
+    private int head;           // 가장 오래된 칸 위치
+    private int size;
+
+    /** 처음 쓸 때 한 번만 배열을 잡습니다. */
+    void ensureCapacity(int capacity) {
+        if (ids.length >= capacity) return;
+        int[] grown = new int[capacity];
+        for (int i = 0; i < size; i++) grown[i] = get(i);
+        ids = grown;
+        head = 0;
+    }
+
+    void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** 맨 위와 같은 칸이면 쌓지 않습니다. */
+    void push(int id) {
+        if (size > 0 && peek() == id) return;
+        if (size == ids.length) {
+            if (size == 0) ensureCapacity(8);
+            else {
+                head = (head + 1) % ids.length;   // 가득 차면 가장 오래된 칸을 버림
+                size--;
+            }
+        }
+        ids[(head + size) % ids.length] = id;
+        size++;
+    }
+
+    int pop() {
+        int top = peek();
+        size--;
+        return top;
+    }
+
+    int peek() {
+        return get(size - 1);
+    }
+
+    /** index 번째 칸 (0 = 가장 오래된 칸) */
+    int get(int index) {
+        return ids[(head + index) % ids.length];
+    }
+}
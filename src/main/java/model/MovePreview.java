@@ -0,0 +1,22 @@
+package model;
+
+import java.util.List;
+
+/**
+ * 말 하나를 윷 결과 하나로 움직였을 때 일어날 일. {@link Board#previewMove} 로 판을 바꾸지 않고 미리 보고,
+ * {@link Board#move} 는 이 내용대로 움직인 뒤 같은 객체를 돌려주므로 화면은 엔진이 실제로 한 이동을 그대로 그릴 수 있습니다.
+ *
+ * @param from     출발 칸 (집에 있던 말이면 null)
+ * @param to       도착 칸 (완주면 출발점, 판이 바뀌지 않는 수면 null)
+ * @param path     지나가는 칸 순서 (도착 칸 포함, 완주면 출발점까지, 빽도면 되돌아갈 칸 하나)
+ * @param captures 도착 칸의 상대 업을 잡음 (보너스 던지기)
+ * @param finishes 업이 통째로 완주함
+ */
+public record MovePreview(Piece piece, YutResult result, BoardNode from, BoardNode to,
+                          List<BoardNode> path, boolean captures, boolean finishes) {
+
+    /** 판이 바뀌지 않는 수 (집에 있는 말의 빽도, 되돌아갈 칸이 없는 빽도) */
+    public boolean isNoOp() {
+        return to == null;
+    }
+}
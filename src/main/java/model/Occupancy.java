@@ -0,0 +1,99 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * 노드별 점유 색인.
+ * 노드마다 (차지한 플레이어 id, 플레이어별 말 비트마스크) 를 이동할 때마다 갱신해 두어
+ * 잡기 판정, 업 수집, "이 칸에 누가 있나" 질의를 목록 순회 없이 처리합니다.
+ * 비트 번호는 {@link Piece} 가 자기 플레이어 안에서 갖는 순번입니다. (플레이어당 최대 32개)
+ */
+public final class Occupancy {
+    /** 빈 칸 */
+    public static final int EMPTY = -1;
+    /** 잡기 없이 두 플레이어가 겹친 칸 (출발점 빽도로 되돌아간 경우) */
+    public static final int MIXED = -2;
+    /** 플레이어 한 명이 한 칸에 둘 수 있는 말 비트 수 */
+    public static final int MAX_PIECES = Integer.SIZE;
+
+    private final int[] owner;     // [노드 id] → 플레이어 id / EMPTY / MIXED
+    private int[][] masks;         // [노드 id][플레이어 id] → 말 비트마스크
+
+    Occupancy(int nodeCount, int playerCount) {
+        owner = new int[nodeCount];
+        Arrays.fill(owner, EMPTY);
+        masks = new int[nodeCount][Math.max(1, playerCount)];
+    }
+
+    /** 플레이어가 늘어나면 배열을 넓힙니다. (게임 구성 단계에서만 호출) */
+    void ensurePlayers(int playerCount) {
+        if (playerCount <= masks[0].length) return;
+        for (int i = 0; i < masks.length; i++) masks[i] = Arrays.copyOf(masks[i], playerCount);
+    }
+
+    // 모든 칸을 비움 (게임 재사용)
+    void clear() {
+        Arrays.fill(owner, EMPTY);
+        for (int[] m : masks) Arrays.fill(m, 0);
+    }
+
+    // bits: 올리는 말들의 비트 (업 하나를 통째로)
+    void add(int node, int player, int bits) {
+        masks[node][player] |= bits;
+        int o = owner[node];
+        if (o == EMPTY) owner[node] = player;
+        else if (o != player) owner[node] = MIXED;
+    }
+
+    void remove(int node, int player, int bits) {
+        masks[node][player] &= ~bits;
+        if (masks[node][player] != 0) return;
+        int o = owner[node];
+        if (o == player) owner[node] = EMPTY;
+        else if (o == MIXED) owner[node] = recomputeOwner(node);
+    }
+
+    private int recomputeOwner(int node) {
+        int found = EMPTY;
+        for (int p = 0; p < masks[node].length; p++) {
+            if (masks[node][p] == 0) continue;
+            if (found != EMPTY) return MIXED;
+            found = p;
+        }
+        return found;
+    }
+
+    /** 노드를 차지한 플레이어 id, 없으면 {@link #EMPTY}, 여럿이면 {@link #MIXED} */
+    public int owner(int node) {
+        return owner[node];
+    }
+
+    /** 노드 위에 있는 player 의 말 비트마스크 */
+    public int mask(int node, int player) {
+        return player < masks[node].length ? masks[node][player] : 0;
+    }
+
+    public boolean isEmpty(int node) {
+        return owner[node] == EMPTY;
+    }
+
+    /** player 가 아닌 다른 플레이어의 말이 노드 위에 있는지 */
+    public boolean hasEnemy(int node, int player) {
+        int o = owner[node];
+        return o != EMPTY && o != player;
+    }
+
+    /** 노드 위 말 개수 */
+    public int count(int node) {
+        int o = owner[node];
+        if (o == EMPTY) return 0;
+        if (o != MIXED) return Integer.bitCount(masks[node][o]);
+        int n = 0;
+        for (int m : masks[node]) n += Integer.bitCount(m);
+        return n;
+    }
+
+    int playerSlots() {
+        return masks[0].length;
+    }
+}
@@ -1,25 +1,25 @@
 package model;
 
-import java.util.Stack;
-
 public class Piece {
     Player owner;
-    BoardNode position; //말이 위치한 보드노드
-    BoardNode lastPosition;         // ← 이전 위치 저장용
+    final int index;                    // 소유 플레이어 안에서의 순번 (점유 비트마스크의 비트 번호)
+    PieceGroup group;                   // 지금 속한 업 (집에 있거나 완주했으면 null)
+    final PieceGroup ownGroup;          // 판에 오를 때 쓰는 이 말 몫의 업 객체
     boolean finished;
     boolean hasLeftStart = false;           // 한 바퀴 나감 플래그(시작 지점을 떠났음을 표시)
-    Stack<BoardNode> moveHistory = new Stack<>(); // 이동 이력
     boolean justStoppedAtIntersection;    // 최근 턴에 교차점에 정확히 멈췄는지
 
     public Piece(Player owner) {
         this.owner = owner;
+        this.index = owner == null ? 0 : owner.pieces.size();
+        this.ownGroup = new PieceGroup(owner);
         this.finished = false;
-        this.position = null;
         this.justStoppedAtIntersection = false;
     }
 
     @Override
     public String toString() {
+        BoardNode position = getPosition();
         String info = "말@" + (position != null ? position.name : "집");
         if (finished) info += "(완주)";
         return info;
@@ -30,6 +30,10 @@ public class Piece {
         return owner;
     }
 
+    public int getIndex() {
+        return index;
+    }
+
     public boolean isFinished() {
         return finished;
     }
@@ -43,10 +47,20 @@ public class Piece {
     }
 
     public BoardNode getPosition() {
-        return position;
+        return group == null ? null : group.node;
+    }
+
+    // 집으로 돌려 새 게임 상태로 (Board.reset 에서 호출)
+    void reset() {
+        if (group != null) ownGroup.reset(this);
+        group = null;
+        finished = false;
+        hasLeftStart = false;
+        justStoppedAtIntersection = false;
     }
 
-    public void setPosition(BoardNode position) {
-        this.position = position;
+    /** 이 말이 속한 업 (집에 있거나 완주했으면 null) */
+    public PieceGroup getGroup() {
+        return group;
     }
 }
@@ -0,0 +1,70 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 업: 같은 칸에 함께 있는 한 플레이어의 말 묶음.
+ * 이동, 빽도, 잡기, 완주는 모두 묶음 단위로 처리되고 이동 이력도 묶음이 하나만 가집니다.
+ * 말 하나가 들어 있는 묶음도 업 하나로 취급합니다.
+ *
+ * 묶음 객체는 말마다 하나씩 미리 만들어 두고({@link Piece} 생성 시), 말이 판에 오를 때 재사용합니다.
+ * 묶음은 나뉘지 않으므로(잡히거나 완주할 때는 통째로) 판 위에 있는 동안 주인 말이 항상 구성원입니다.
+ */
+public final class PieceGroup {
+    final Player owner;
+    final List<Piece> members = new ArrayList<>();
+    int mask;                                   // 구성원 말 번호 비트 (점유 색인용)
+    BoardNode node;                             // 현재 칸 (판 밖이면 null)
+    BoardNode lastPosition;                     // 출발점 빽도 시 돌아갈 직전 칸
+    final MoveHistory history = new MoveHistory(); // 이동 이력 (노드 id, 맨 위 = 현재 칸)
+
+    PieceGroup(Player owner) {
+        this.owner = owner;
+    }
+
+    // piece 하나만 들어 있는 새 업으로 초기화 (판에 처음 오를 때)
+    void reset(Piece piece) {
+        members.clear();
+        members.add(piece);
+        mask = 1 << piece.index;
+        node = null;
+        lastPosition = null;
+        history.clear();
+    }
+
+    // other 의 말을 모두 이 업으로 옮김 (이력과 직전 칸은 이 업 것을 유지)
+    void absorb(PieceGroup other) {
+        for (int i = 0; i < other.members.size(); i++) {
+            Piece p = other.members.get(i);
+            p.group = this;
+            members.add(p);
+        }
+        mask |= other.mask;
+        other.members.clear();
+        other.mask = 0;
+        other.node = null;
+    }
+
+    public Player getOwner() {
+        return owner;
+    }
+
+    public BoardNode getNode() {
+        return node;
+    }
+
+    public int size() {
+        return members.size();
+    }
+
+    public List<Piece> getPieces() {
+        return Collections.unmodifiableList(members);
+    }
+
+    @Override
+    public String toString() {
+        return "업" + members.size() + "@" + (node != null ? node.name : "집");
+    }
+}
@@ -3,14 +3,19 @@ package model;
 //Player.java
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class Player {
     private String name;
     List<Piece> pieces;
+    final int id;                       // 보드에 등록된 순번 (점유 색인의 플레이어 번호)
+    int finishedCount;                  // 완주한 말 수 (Board 가 완주/초기화 때 갱신, 매번 세지 않음)
 
     public Player(String name, int pieceCount, Board board) {
+        if (pieceCount > Occupancy.MAX_PIECES) {
+            throw new IllegalArgumentException("플레이어당 말은 최대 " + Occupancy.MAX_PIECES + "개까지 가능합니다.");
+        }
         this.name = name;
+        this.id = board == null ? 0 : board.registerPlayer(this);
         pieces = new ArrayList<>();
         for (int i = 0; i < pieceCount; i++) {
             Piece p = new Piece(this);
@@ -22,11 +27,12 @@ public class Player {
         return name;
     }
 
+    public int getId() {
+        return id;
+    }
+
     public boolean allPiecesFinished() {
-        for (Piece p : pieces) {
-            if (!p.finished) return false;
-        }
-        return true;
+        return finishedCount == pieces.size();
     }
 
     public List<Piece> getPieces() {
@@ -35,25 +41,28 @@ public class Player {
 
     public void addPiece(Piece p) {
         pieces.add(p);
+        if (p.finished) finishedCount++;
     }
 
     /** 특정 Piece를 제거할 때 사용합니다. */
     public void removePiece(Piece p) {
-        pieces.remove(p);
+        if (pieces.remove(p) && p.finished) finishedCount--;
     }
 
     public long getFinishedPieceCount() {
-        return pieces.stream().filter(Piece::isFinished).count();
+        return finishedCount;
     }
 
     public long getRemainingPieceCount() {
-        return pieces.stream().filter(p -> !p.isFinished()).count();
+        return pieces.size() - finishedCount;
     }
 
     public List<Piece> getUnfinishedPieces() {
-        return pieces.stream()
-                .filter(p -> !p.isFinished())
-                .collect(Collectors.toList());
+        List<Piece> list = new ArrayList<>(pieces.size() - finishedCount);
+        for (Piece p : pieces) {
+            if (!p.finished) list.add(p);
+        }
+        return list;
     }
 
 }
\ No newline at end of file
@@ -3,54 +3,44 @@ package model;
 // PolygonBoard 클래스: 외곽 다각형 보드 기본 구현
 //────────────────────────────────────────────────────────────
 public class PolygonBoard extends Board {
-    protected final BoardNode[] outer;
 
+    /** 외곽 고리만 있는 판 (지름길 없음) */
     public PolygonBoard(int sides, int nodesPerSide) {
-        outer = new BoardNode[sides * nodesPerSide];
-        for (int i = 0; i < outer.length; i++) {
-            outer[i] = new BoardNode(i, String.valueOf(i));
-            nodes.add(outer[i]);
-        }
-        linkCycle(outer);
-        start = outer[0];
+        this(ring(sides, nodesPerSide));
     }
 
-    protected void linkPath(BoardNode... path) {
-        for (int i = 0; i < path.length - 1; i++) {
-            path[i].next = path[i+1];
-            path[i+1].prev = path[i];
-        }
+    /** 판 종류마다 한 번 만든 모양을 함께 씀 */
+    protected PolygonBoard(BoardTopology topology) {
+        super(topology);
     }
 
-    protected void linkCycle(BoardNode... cycle) {
-        for (int i = 0; i < cycle.length; i++) {
-            BoardNode curr = cycle[i];
-            BoardNode next = cycle[(i + 1) % cycle.length];
-            curr.next = next;
-            next.prev = curr;
+    /**
+     * 바퀴살이 있는 정 sides 각형 윷판 ({@link BoardGenerator}, 4~12).
+     * 4, 5, 6 이면 {@link SquareBoard}, {@link PentagonBoard}, {@link HexagonBoard} 를 돌려줍니다.
+     */
+    public static PolygonBoard regular(int sides) {
+        switch (sides) {
+            case 4: return new SquareBoard();
+            case 5: return new PentagonBoard();
+            case 6: return new HexagonBoard();
+            default: return new PolygonBoard(BoardGenerator.topology(sides));
         }
     }
 
-    protected BoardNode[] createInnerNodes (int[] innerIds){
-        BoardNode[] innerNodes = new BoardNode[innerIds.length];
-        for (int i = 0; i < innerIds.length; i++) {
-            innerNodes[i] = new BoardNode(innerIds[i], String.valueOf(innerIds[i]));
-            nodes.add(innerNodes[i]);
-        }
-        return innerNodes;
+    private static BoardTopology ring(int sides, int nodesPerSide) {
+        BoardTopology.Builder builder = outerRing(sides, nodesPerSide);
+        builder.setLayout(BoardGenerator.layout(sides, nodesPerSide, false));
+        return builder.build(0, false, -1, -1);
     }
-    protected void setShortcuts ( int[][] sc){
-        for (int[] pair : sc) {
-            BoardNode outerNode = find(pair[0]);   // ex. ID=5 노드
-            BoardNode target = find(pair[1]);   // ex. ID=30 노드
-            outerNode.isIntersection = true;
-            outerNode.shortcut = target;
-        }
-    }
-    protected BoardNode find(int id){
-        return nodes.stream().filter(n -> n.id == id).findFirst().orElse(null);
+
+    // 외곽 노드 0 .. sides*nodesPerSide-1 을 고리로 이은 조립 도구 (0 = 출발점)
+    static BoardTopology.Builder outerRing(int sides, int nodesPerSide) {
+        BoardTopology.Builder builder = new BoardTopology.Builder();
+        int[] ids = new int[sides * nodesPerSide];
+        for (int i = 0; i < ids.length; i++) ids[i] = i;
+        builder.linkCycle(builder.createNodes(ids));
+        return builder;
     }
 
-    @Override protected void buildBoard() {}
     @Override public void printBoard() {}
 }
@@ -0,0 +1,146 @@
+package model;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 보드 그래프를 한 번만 순회해 만들어 둔 경로표.
+ * (출발 노드 id, 이동 칸 수) → 도착 노드 id 를 배열 한 번 읽기로 구합니다.
+ */
+public final class RoutingTable {
+    /** 표에 미리 계산해 두는 최대 칸 수 (모 = 5) */
+    public static final int MAX_STEPS = 5;
+
+    private final BoardNode[] nodesById;
+    private final int startId;
+    private final int[][] dest;                 // [노드 id][칸 수] → 도착 노드 id
+    private final int[][] startMask;            // [노드 id][칸 수] → k번째 칸이 출발점이면 (k-1)번 비트
+    private final List<BoardNode>[][] paths;    // [노드 id][칸 수] → 변경 불가 경로 (UI 애니메이션용)
+    private final int[] toGoal;                 // [노드 id] → 완주까지 남은 최소 걸음 수
+    private final int[][] entryWalk;            // [노드 id] → 집에서 가장 적은 던지기로 오는 길 (지나간 칸 id)
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    RoutingTable(BoardTopology topology) {
+        List<BoardNode> nodes = topology.getNodes();
+        int size = 0;
+        for (BoardNode n : nodes) size = Math.max(size, n.id + 1);
+
+        nodesById = new BoardNode[size];
+        for (BoardNode n : nodes) nodesById[n.id] = n;
+        startId = topology.getStart().id;
+
+        dest = new int[size][MAX_STEPS + 1];
+        startMask = new int[size][MAX_STEPS + 1];
+        paths = new List[size][MAX_STEPS + 1];
+
+        // 모든 노드 × 모든 칸 수에 대해 기존 연결 리스트 순회를 한 번씩만 수행
+        for (BoardNode src : nodes) {
+            for (int steps = 1; steps <= MAX_STEPS; steps++) {
+                List<BoardNode> path = topology.walkPath(src, steps);
+                int mask = 0;
+                for (int k = 0; k < path.size(); k++) {
+                    if (path.get(k).id == startId) mask |= 1 << k;
+                }
+                dest[src.id][steps] = path.get(path.size() - 1).id;
+                startMask[src.id][steps] = mask;
+                paths[src.id][steps] = Collections.unmodifiableList(Arrays.asList(path.toArray(new BoardNode[0])));
+            }
+        }
+
+        // 한 칸씩 가면 멈추는 교차점마다 지름길을 타므로, 도 연속이 가장 짧은 길
+        // (출발점에 올라서면 한 걸음 더 가야 완주)
+        toGoal = new int[size];
+        toGoal[startId] = 1;
+        for (BoardNode n : nodes) distanceToGoal(n.id);
+
+        entryWalk = new int[size][];
+        buildEntryWalks();
+    }
+
+    /**
+     * 집에서 출발해 앞으로만 가는 던지기(도~모)를 가장 적게 써서 각 칸에 오는 길 (너비 우선).
+     * 출발점 칸 자체는 한 바퀴 돌아 정확히 멈춘 경우이므로 첫 진입과 따로 다룹니다.
+     */
+    private void buildEntryWalks() {
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int steps = 1; steps <= MAX_STEPS; steps++) {
+            reach(new int[]{startId}, startId, steps, queue);
+        }
+        while (!queue.isEmpty()) {
+            int src = queue.poll();
+            if (src == startId) continue;   // 출발점 위에서 앞으로 가면 완주
+            for (int steps = 1; steps <= MAX_STEPS; steps++) {
+                if (!passesStart(src, steps)) reach(entryWalk[src], src, steps, queue);
+            }
+        }
+    }
+
+    private void reach(int[] walk, int src, int steps, ArrayDeque<Integer> queue) {
+        int to = dest[src][steps];
+        if (entryWalk[to] != null) return;
+        int[] next = Arrays.copyOf(walk, walk.length + steps);
+        int n = walk.length;
+        for (BoardNode node : paths[src][steps]) {
+            if (next[n - 1] != node.id) next[n++] = node.id;
+        }
+        entryWalk[to] = Arrays.copyOf(next, n);
+        queue.add(to);
+    }
+
+    /** 집에서 id 칸까지 가장 적은 던지기로 오는 길 (첫 칸 = 출발점, 끝 칸 = id). 갈 수 없는 칸이면 {id} */
+    int[] entryWalk(int id) {
+        return entryWalk[id] != null ? entryWalk[id] : new int[]{id};
+    }
+
+    /** 도만 계속 나온다고 할 때 완주까지 필요한 걸음 수 (출발점 위라면 1) */
+    public int distanceToGoal(int id) {
+        if (toGoal[id] != 0) return toGoal[id];
+        int steps = 0;
+        int cur = id;
+        while (toGoal[cur] == 0 && steps <= nodesById.length) {
+            cur = dest[cur][1];
+            steps++;
+        }
+        toGoal[id] = steps + toGoal[cur];
+        return toGoal[id];
+    }
+
+    /** 표에 들어 있는 칸 수인지 확인합니다. (빽도 등은 표 밖) */
+    public static boolean covers(int steps) {
+        return steps >= 1 && steps <= MAX_STEPS;
+    }
+
+    public int size() {
+        return nodesById.length;
+    }
+
+    public int getStartId() {
+        return startId;
+    }
+
+    public BoardNode node(int id) {
+        return nodesById[id];
+    }
+
+    /** 도착 노드 id */
+    public int destination(int srcId, int steps) {
+        return dest[srcId][steps];
+    }
+
+    /** 경로 중 출발점을 지난 칸 비트마스크 */
+    public int startMask(int srcId, int steps) {
+        return startMask[srcId][steps];
+    }
+
+    /** 마지막 칸을 제외한 경로에 출발점이 있으면 완주 */
+    public boolean passesStart(int srcId, int steps) {
+        return (startMask[srcId][steps] & ((1 << (steps - 1)) - 1)) != 0;
+    }
+
+    /** 미리 만들어 둔 변경 불가 경로 (매 호출마다 새 리스트를 만들지 않음) */
+    public List<BoardNode> path(int srcId, int steps) {
+        return paths[srcId][steps];
+    }
+}
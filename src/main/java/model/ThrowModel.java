@@ -0,0 +1,147 @@
+package model;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.random.RandomGenerator;
+
+/**
+ * 윷 던지기 확률 모형: 결과별 확률 벡터 (빽도, 도, 개, 걸, 윷, 모 순서).
+ *
+ * 생성할 때 별칭표(alias table)를 만들어 두므로 {@link #sample} 은 결과 수와 상관없이
+ * 난수 long 하나와 비교 한 번으로 끝납니다. 모형은 바뀌지 않으므로 여러 스레드가 함께 써도 되고,
+ * 스레드마다 {@link java.util.SplittableRandom} 같은 자기 난수를 넘기면 서로 기다리지 않습니다.
+ */
+public final class ThrowModel {
+    private static final YutResult[] RESULTS = YutResult.values();
+    private static final long ONE = 1L << 32;   // 칸 안 비교값의 단위 (하위 32비트 난수와 비교)
+
+    /** 기본 규칙: 64가지 경우의 수 ({@link YutResult#getWeight()}) */
+    public static final ThrowModel STANDARD = fromWeights("standard");
+
+    private final String name;
+    private final double[] probabilities;
+    private final long[] threshold = new long[RESULTS.length];   // 칸 i 에서 i 를 고를 하위 32비트 한계
+    private final int[] alias = new int[RESULTS.length];         // 한계를 넘으면 고를 결과
+
+    private ThrowModel(String name, double[] weights) {
+        if (weights.length != RESULTS.length) {
+            throw new IllegalArgumentException("확률은 " + RESULTS.length + "개(빽도~모)여야 합니다: " + weights.length);
+        }
+        double total = 0;
+        for (double w : weights) {
+            if (!(w >= 0) || Double.isInfinite(w)) throw new IllegalArgumentException("확률은 0 이상이어야 합니다: " + w);
+            total += w;
+        }
+        if (total <= 0) throw new IllegalArgumentException("확률 합이 0입니다.");
+
+        this.name = name;
+        this.probabilities = new double[weights.length];
+        for (int i = 0; i < weights.length; i++) probabilities[i] = weights[i] / total;
+        buildAliasTable();
+    }
+
+    /** 결과별 가중치(합이 1 이 아니어도 됨)로 모형을 만듭니다. */
+    public static ThrowModel of(String name, double... weights) {
+        return new ThrowModel(name, weights.clone());
+    }
+
+    /**
+     * 윷가락 네 개를 따로 던지는 모형.
+     * 가락마다 평평한 면이 나올 확률이 flat 이고, 평평한 면 수로 도(1)~윷(4), 모(0)가 정해집니다.
+     * markedBackdo 면 표시한 가락 하나만 평평할 때 도 대신 빽도입니다.
+     */
+    public static ThrowModel sticks(double flat, boolean markedBackdo) {
+        if (!(flat > 0 && flat < 1)) throw new IllegalArgumentException("평평한 면 확률은 0과 1 사이여야 합니다: " + flat);
+        double round = 1 - flat;
+        double[] w = new double[RESULTS.length];
+        double one = 4 * flat * round * round * round;
+        w[YutResult.BACKDO.ordinal()] = markedBackdo ? one / 4 : 0;
+        w[YutResult.DO.ordinal()] = markedBackdo ? one * 3 / 4 : one;
+        w[YutResult.GAE.ordinal()] = 6 * flat * flat * round * round;
+        w[YutResult.GEOL.ordinal()] = 4 * flat * flat * flat * round;
+        w[YutResult.YUT.ordinal()] = flat * flat * flat * flat;
+        w[YutResult.MO.ordinal()] = round * round * round * round;
+        return new ThrowModel(String.format(Locale.ROOT, "sticks:%s%s", flat, markedBackdo ? ":marked" : ""), w);
+    }
+
+    /**
+     * "standard", "sticks:0.6", "sticks:0.6:marked", 또는 쉼표로 구분한 가중치 여섯 개 ("1,16,24,16,4,3") 를 받습니다.
+     */
+    public static ThrowModel parse(String text) {
+        String key = text.trim().toLowerCase(Locale.ROOT);
+        if (key.equals("standard")) return STANDARD;
+        try {
+            if (key.startsWith("sticks:")) {
+                String[] parts = key.split(":");
+                boolean marked = parts.length > 2 && parts[2].equals("marked");
+                if (parts.length > 3 || (parts.length == 3 && !marked)) throw new IllegalArgumentException();
+                return sticks(Double.parseDouble(parts[1]), marked);
+            }
+            String[] parts = key.split(",");
+            double[] w = new double[parts.length];
+            for (int i = 0; i < parts.length; i++) w[i] = Double.parseDouble(parts[i].trim());
+            return new ThrowModel(key, w);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("알 수 없는 던지기 모형: " + text, e);
+        }
+    }
+
+    private static ThrowModel fromWeights(String name) {
+        double[] w = new double[RESULTS.length];
+        for (YutResult r : RESULTS) w[r.ordinal()] = r.getWeight();
+        return new ThrowModel(name, w);
+    }
+
+    // Vose 방식: 평균보다 작은 칸을 큰 칸의 남는 몫으로 채워 칸마다 결과를 둘 이하로 만듦
+    private void buildAliasTable() {
+        int n = RESULTS.length;
+        double[] scaled = new double[n];
+        int[] small = new int[n], large = new int[n];
+        int smalls = 0, larges = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = probabilities[i] * n;
+            if (scaled[i] < 1) small[smalls++] = i;
+            else large[larges++] = i;
+        }
+        while (smalls > 0 && larges > 0) {
+            int s = small[--smalls], l = large[--larges];
+            threshold[s] = Math.round(scaled[s] * ONE);
+            alias[s] = l;
+            scaled[l] -= 1 - scaled[s];
+            if (scaled[l] < 1) small[smalls++] = l;
+            else large[larges++] = l;
+        }
+        // 남은 칸은 (반올림 오차 안에서) 꽉 찬 칸
+        while (larges > 0) {
+            int l = large[--larges];
+            threshold[l] = ONE;
+            alias[l] = l;
+        }
+        while (smalls > 0) {
+            int s = small[--smalls];
+            threshold[s] = ONE;
+            alias[s] = s;
+        }
+    }
+
+    /** 한 번 던진 결과 (난수 long 하나: 상위 32비트로 칸, 하위 32비트로 칸 안 결과를 고름) */
+    public YutResult sample(RandomGenerator rand) {
+        long bits = rand.nextLong();
+        int column = (int) (((bits >>> 32) * RESULTS.length) >>> 32);
+        return (bits & 0xFFFF_FFFFL) < threshold[column] ? RESULTS[column] : RESULTS[alias[column]];
+    }
+
+    /** 한 번 던졌을 때 result 가 나올 확률 */
+    public double probability(YutResult result) {
+        return probabilities[result.ordinal()];
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return name + Arrays.toString(probabilities);
+    }
+}
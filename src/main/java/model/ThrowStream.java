@@ -0,0 +1,93 @@
+package model;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * 기본 규칙({@link ThrowModel#STANDARD})의 윷 결과를 난수 long 하나에서 열 개씩 꺼내는 던지기 열.
+ *
+ * 64가지 경우의 수는 6비트 하나와 같습니다: 아래 4비트는 윷가락 네 개({@link YutResult#fromBits} 처럼 평평한 면 수로
+ * 도~윷, 0 이면 모), 위 2비트는 모 네 가지 중 하나를 빽도로 돌립니다(6비트가 모두 0). long 하나를 6비트 칸 열 개로 보고
+ * 칸별 비트 수 세기와 빽도/모 판정을 모든 칸에 한꺼번에 하므로 던질 때마다 난수를 새로 뽑지 않습니다.
+ *
+ * 스레드 하나가 자기 것으로 씁니다. 말 고르기 같은 다른 난수도 함께 쓰도록 {@link RandomGenerator} 로서는 원래 난수를 그대로 넘깁니다.
+ */
+public final class ThrowStream implements RandomGenerator {
+    /** long 하나에서 꺼내는 결과 수 (6비트 × 10 = 60비트) */
+    public static final int THROWS_PER_WORD = 10;
+
+    private static final YutResult[] RESULTS = YutResult.values();
+    private static final long LOW = 0x0041_0410_4104_1041L;   // 칸마다 맨 아래 비트 (6비트 간격 10개)
+
+    private final RandomGenerator source;
+    private long ordinals;      // 아직 꺼내지 않은 결과 순서 (6비트 칸마다 하나, 아래 칸부터)
+    private int left;           // ordinals 에 남은 결과 수
+
+    public ThrowStream(RandomGenerator source) {
+        this.source = source;
+    }
+
+    /**
+     * 난수 word 를 결과 순서 열 개로 풉니다 (i 번째 결과 = (반환값 >>> 6i) & 0x3F).
+     * 결과 순서가 곧 6비트 칸 안 윷가락 비트 수이고, 비트 수가 0 인 칸만 모(위 2비트 중 하나라도 1)와 빽도로 나뉩니다.
+     */
+    public static long decode(long word) {
+        // 1) 칸마다 아래 4비트의 1 개수 (0~4, 3비트 안에 들어가 옆 칸으로 넘치지 않음)
+        long count = (word & LOW) + (word >>> 1 & LOW) + (word >>> 2 & LOW) + (word >>> 3 & LOW);
+        // 2) 개수가 0 이고 위 2비트가 0 이 아니면 모 (0 → 5), 6비트가 모두 0 이면 빽도 (순서 0 그대로)
+        long noneFlat = ~(count | count >>> 1 | count >>> 2) & LOW;
+        long mo = noneFlat & (word >>> 4 | word >>> 5) & LOW;
+        return count + (mo | mo << 2);
+    }
+
+    /** 다음 결과의 순서 ({@link YutResult#ordinal()}) */
+    public int nextOrdinal() {
+        if (left == 0) {
+            ordinals = decode(source.nextLong());
+            left = THROWS_PER_WORD;
+        }
+        int ordinal = (int) ordinals & 0x3F;
+        ordinals >>>= 6;
+        left--;
+        return ordinal;
+    }
+
+    /** 다음 결과 */
+    public YutResult nextThrow() {
+        return RESULTS[nextOrdinal()];
+    }
+
+    /** 결과 순서 length 개를 out[offset..] 에 채움 (남은 칸부터 쓰고, 나머지는 long 하나에 열 개씩 풂) */
+    public void fill(byte[] out, int offset, int length) {
+        int end = offset + length;
+        while (left > 0 && offset < end) out[offset++] = (byte) nextOrdinal();
+        while (end - offset >= THROWS_PER_WORD) {
+            long word = decode(source.nextLong());
+            for (int i = 0; i < THROWS_PER_WORD; i++, word >>>= 6) out[offset++] = (byte) (word & 0x3F);
+        }
+        while (offset < end) out[offset++] = (byte) nextOrdinal();
+    }
+
+    /**
+     * 한 차례분(윷/모가 나오는 동안 계속 던짐)의 결과 순서를 out[offset..] 에 쓰고 개수를 돌려줍니다.
+     * 연속 던지기가 out 끝을 넘으면 거기서 멈춥니다.
+     */
+    public int nextTurn(byte[] out, int offset) {
+        int i = offset;
+        while (i < out.length) {
+            int r = nextOrdinal();
+            out[i++] = (byte) r;
+            if (!RESULTS[r].grantsExtraThrow()) break;
+        }
+        return i - offset;
+    }
+
+    @Override
+    public long nextLong() {
+        return source.nextLong();
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return source.nextInt(bound);
+    }
+}
@@ -1,17 +1,22 @@
 //YutResult.java
 package model;
 
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 public enum YutResult {
-    BACKDO(-1, false), DO(1, false), GAE(2, false), GEOL(3, false), YUT(4, true), MO(5, true);
+    BACKDO(-1, false, 1), DO(1, false, 16), GAE(2, false, 24), GEOL(3, false, 16), YUT(4, true, 4), MO(5, true, 3);
+
+    /** 한 번 던질 때 경우의 수 (윷가락 4개 비트 × 모를 빽도로 돌리는 표시 2비트 = 16 × 4 = 64가지) */
+    public static final int OUTCOMES = 64;
 
     private final int stepCount;
     private final boolean extra;
+    private final int weight;
 
-    YutResult(int stepCount, boolean extra) {
+    YutResult(int stepCount, boolean extra, int weight) {
         this.stepCount = stepCount;
         this.extra = extra;
+        this.weight = weight;
     }
 
     public int getStepCount() {
@@ -22,16 +27,28 @@ public enum YutResult {
         return extra;
     }
 
-    public static YutResult throwYut(Random rand) {
-        int r = rand.nextInt(64);
-        if (r == 0) return BACKDO;
-        if (r <= 16) return DO;
-        if (r <= 40) return GAE;
-        if (r <= 56) return GEOL;
-        if (r <= 60) return YUT;
+    /** 64가지 중 이 결과가 나오는 경우의 수 */
+    public int getWeight() {
+        return weight;
+    }
+
+    /** 한 번 던졌을 때 이 결과가 나올 확률 */
+    public double probability() {
+        return (double) weight / OUTCOMES;
+    }
+
+    /** 기본 규칙(64가지)으로 한 번 던짐. 다른 확률 모형은 {@link ThrowModel} */
+    public static YutResult throwYut(RandomGenerator rand) {
+        int r = rand.nextInt(OUTCOMES);
+        for (YutResult res : VALUES) {
+            r -= res.weight;
+            if (r < 0) return res;
+        }
         return MO;
     }
 
+    private static final YutResult[] VALUES = values();
+
     @Override
     public String toString() {
         switch(this) {
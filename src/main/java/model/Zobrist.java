@@ -0,0 +1,59 @@
+package model;
+
+import java.util.List;
+
+/**
+ * 위치 해시(Zobrist) 키.
+ * 판 위의 업 (노드, 주인, 업 크기), 플레이어별 완주 말 수, 둘 차례, 남은 윷 결과마다 64비트 키가 하나씩 있고
+ * 위치의 해시는 해당하는 키를 모두 XOR 한 값입니다. 말이 움직이면 바뀐 칸의 키만 빼고 더하면 됩니다.
+ * 집에 있는 말은 (전체 − 판 위 − 완주) 로 정해지므로 키가 없고, 따라서 시작 배치의 해시는 0 입니다.
+ *
+ * 키는 표를 두는 대신 SplitMix64 섞기 함수로 계산하므로 보드 크기나 플레이어 수에 제한이 없고
+ * 실행할 때마다 같은 값이 나옵니다. 어떤 말이 어떤 순서로 왔는지는 구분하지 않으므로
+ * 같은 칸에 같은 크기의 업이 있으면 같은 위치로 봅니다.
+ */
+public final class Zobrist {
+    private static final long GROUP = 0x1L << 56;
+    private static final long FINISHED = 0x2L << 56;
+    private static final long SIDE = 0x3L << 56;
+    private static final long PENDING = 0x4L << 56;
+
+    private Zobrist() {}
+
+    /** node 에 있는 player 의 size 개짜리 업 */
+    public static long group(int node, int player, int size) {
+        return mix(GROUP | ((long) node << 24) | ((long) player << 12) | size);
+    }
+
+    /** player 가 완주시킨 말이 count 개 (0개면 키 없음) */
+    public static long finished(int player, int count) {
+        return count == 0 ? 0 : mix(FINISHED | ((long) player << 12) | count);
+    }
+
+    /** player 가 둘 차례 */
+    public static long sideToMove(int player) {
+        return mix(SIDE | player);
+    }
+
+    /** 아직 쓰지 않은 result 가 count 개 (0개면 키 없음) */
+    public static long pending(YutResult result, int count) {
+        return count == 0 ? 0 : mix(PENDING | ((long) result.ordinal() << 12) | count);
+    }
+
+    /** 남은 윷 결과 묶음 (순서 무관) */
+    public static long pending(List<YutResult> results) {
+        int[] counts = new int[YutResult.values().length];
+        for (YutResult r : results) counts[r.ordinal()]++;
+        long h = 0;
+        for (YutResult r : YutResult.values()) h ^= pending(r, counts[r.ordinal()]);
+        return h;
+    }
+
+    // SplitMix64 마무리 섞기: 입력 한 비트가 바뀌면 출력 비트 절반이 바뀜
+    private static long mix(long z) {
+        z += 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,13 @@
+package model.event;
+
+import model.BoardNode;
+import model.Piece;
+
+/** 빽도로 from 에서 to 로 한 칸 뒤로 이동 (fromStart: 출발점에서 직전 위치로 돌아간 경우) */
+public record BackdoApplied(Piece piece, BoardNode from, BoardNode to, boolean fromStart) implements GameEvent {
+    @Override
+    public String message() {
+        if (fromStart) return "start 지점에서 빽도! → " + to.getName() + "로 돌아갑니다.";
+        return piece.getOwner().getName() + "의 말이 빽도로 " + to.getName() + "로 한 칸 뒤로 이동했습니다.";
+    }
+}
@@ -0,0 +1,12 @@
+package model.event;
+
+/**
+ * 모델이 발행하는 게임 이벤트의 공통 타입.
+ * 로그 창/콘솔은 {@link #message()} 를 그대로 출력하면 됩니다.
+ */
+public sealed interface GameEvent
+        permits PieceMoved, PieceCaptured, PieceFinished, BackdoApplied, YutThrown {
+
+    /** 사람이 읽을 로그 문장 */
+    String message();
+}
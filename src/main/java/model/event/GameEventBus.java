@@ -0,0 +1,116 @@
+package model.event;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 모델 이벤트를 구독자에게 전달하는 버스.
+ * 발행된 이벤트는 크기가 고정된 lock-free 링 버퍼에 들어간 뒤 순서대로 전달됩니다.
+ * 구독자가 없으면 발행부는 {@link #hasListeners()} 만 확인하고 이벤트 객체도 만들지 않습니다.
+ */
+public final class GameEventBus {
+    private static final int DEFAULT_CAPACITY = 256;
+
+    private final AtomicReferenceArray<GameEvent> ring;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();   // 다음에 꺼낼 위치
+    private final AtomicLong tail = new AtomicLong();   // 다음에 넣을 위치
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final CopyOnWriteArrayList<GameEventListener> listeners = new CopyOnWriteArrayList<>();
+
+    public GameEventBus() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /** @param capacity 링 버퍼 크기 (2의 거듭제곱으로 올림) */
+    public GameEventBus(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        ring = new AtomicReferenceArray<>(size);
+        mask = size - 1;
+    }
+
+    public void subscribe(GameEventListener listener) {
+        listeners.add(listener);
+    }
+
+    public void unsubscribe(GameEventListener listener) {
+        listeners.remove(listener);
+    }
+
+    /** 발행 전에 확인해서, 구독자가 없으면 이벤트를 만들지 않도록 합니다. */
+    public boolean hasListeners() {
+        return !listeners.isEmpty();   // 목록에서 바로 읽어 구독/해제가 겹쳐도 어긋나지 않음
+    }
+
+    /** 버퍼가 가득 차 버려진 이벤트 수 */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /** 구독자가 예외를 던진 횟수 (예외는 발행부로 올라가지 않음) */
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    public void publish(GameEvent event) {
+        if (listeners.isEmpty()) return;
+        if (!offer(event)) {
+            // 가득 찼으면 먼저 비우고 한 번 더 시도
+            drain();
+            if (!offer(event)) {
+                dropped.incrementAndGet();
+                return;
+            }
+        }
+        drain();
+    }
+
+    private boolean offer(GameEvent event) {
+        while (true) {
+            long t = tail.get();
+            if (t - head.get() >= ring.length()) return false;
+            if (tail.compareAndSet(t, t + 1)) {
+                ring.set((int) (t & mask), event);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 쌓인 이벤트를 구독자에게 전달합니다. 동시에 한 스레드만 꺼내며,
+     * 전달 중에 다시 발행된 이벤트는 같은 루프에서 이어서 처리됩니다.
+     * 구독자의 예외는 판을 바꾸는 중인 발행부로 올리지 않고 그 스레드의 예외 처리기에 알린 뒤 다음 구독자로 넘어갑니다.
+     */
+    private void drain() {
+        while (head.get() != tail.get() && draining.compareAndSet(false, true)) {
+            try {
+                long h;
+                while ((h = head.get()) != tail.get()) {
+                    int slot = (int) (h & mask);
+                    GameEvent event = ring.get(slot);
+                    if (event == null) break;   // 자리는 잡혔지만 아직 기록 전
+                    ring.set(slot, null);
+                    head.set(h + 1);
+                    for (GameEventListener l : listeners) deliver(l, event);
+                }
+            } finally {
+                draining.set(false);
+            }
+            if (ring.get((int) (head.get() & mask)) == null) return;
+        }
+    }
+
+    private void deliver(GameEventListener listener, GameEvent event) {
+        try {
+            listener.onEvent(event);
+        } catch (RuntimeException ex) {
+            failed.incrementAndGet();
+            Thread t = Thread.currentThread();
+            t.getUncaughtExceptionHandler().uncaughtException(t, ex);
+        }
+    }
+}
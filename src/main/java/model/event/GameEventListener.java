@@ -0,0 +1,10 @@
+package model.event;
+
+/**
+ * {@link GameEventBus} 구독자. 한 번에 한 스레드에서 발행 순서대로 호출됩니다.
+ * 다른 스레드가 버스를 비우는 중에 발행하면 그 스레드가 대신 전달하므로, 발행한 스레드라고 가정하지 마세요.
+ */
+@FunctionalInterface
+public interface GameEventListener {
+    void onEvent(GameEvent event);
+}
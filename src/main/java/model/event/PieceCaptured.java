@@ -0,0 +1,12 @@
+package model.event;
+
+import model.BoardNode;
+import model.Piece;
+
+/** at 에 있던 captured 가 by 에게 잡혀 집으로 돌아감 */
+public record PieceCaptured(Piece captured, Piece by, BoardNode at) implements GameEvent {
+    @Override
+    public String message() {
+        return captured.getOwner().getName() + "의 말이 캡처되어 집으로 돌아갑니다.";
+    }
+}
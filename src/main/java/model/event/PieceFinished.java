@@ -0,0 +1,11 @@
+package model.event;
+
+import model.Piece;
+
+/** 말이 완주함 */
+public record PieceFinished(Piece piece) implements GameEvent {
+    @Override
+    public String message() {
+        return piece.getOwner().getName() + "의 말이 완주했습니다!";
+    }
+}
@@ -0,0 +1,12 @@
+package model.event;
+
+import model.BoardNode;
+import model.Piece;
+
+/** 말(업힌 말 포함 count 개)이 from 에서 to 로 이동 */
+public record PieceMoved(Piece piece, int count, BoardNode from, BoardNode to) implements GameEvent {
+    @Override
+    public String message() {
+        return piece.getOwner().getName() + "의 말(" + count + "개)이 " + to.getName() + "로 이동했습니다.";
+    }
+}
@@ -0,0 +1,12 @@
+package model.event;
+
+import model.Player;
+import model.YutResult;
+
+/** player 가 윷을 던져 result 가 나옴 */
+public record YutThrown(Player player, YutResult result) implements GameEvent {
+    @Override
+    public String message() {
+        return player.getName() + " 던진 결과: " + result;
+    }
+}
@@ -0,0 +1,31 @@
+package model.turn;
+
+import model.Piece;
+import model.YutResult;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 턴 엔진이 한 자리에 묻는 세 가지 결정. 사람(UI), 컴퓨터, 네트워크, 스크립트 모두 같은 모양입니다.
+ *
+ * 바로 정해지는 결정은 완료된 future 를 돌려주세요. 엔진이 같은 스레드에서 곧바로 이어 가므로
+ * 컴퓨터끼리는 화면 없이 CPU 속도로 진행됩니다. 호출은 한 번에 하나씩, 이전 결정이 끝난 뒤에만 옵니다.
+ */
+public interface DecisionProvider {
+
+    /** 던진 윷 결과. null 이면 더 던지지 않음 (남은 결과가 없으면 차례가 넘어감) */
+    CompletableFuture<YutResult> throwYut(TurnEngine engine);
+
+    /**
+     * pending 중 지금 쓸 결과. 서로 다른 결과가 둘 이상일 때만 묻습니다.
+     * pending 은 이 결정이 끝날 때까지만 유효한 읽기 전용 목록이고, null 을 돌려주면 결과를 그대로 두고 다시 묻습니다.
+     */
+    CompletableFuture<YutResult> chooseResult(TurnEngine engine, List<YutResult> pending);
+
+    /**
+     * result 로 움직일 말. 클릭할 만한 말은 {@link TurnEngine#getCandidates()} 이며,
+     * 그 밖의 완주하지 않은 내 말도 받습니다 (판이 바뀌지 않으면 결과만 버려짐).
+     */
+    CompletableFuture<Piece> choosePiece(TurnEngine engine, YutResult result);
+}
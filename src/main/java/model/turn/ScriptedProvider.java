@@ -0,0 +1,45 @@
+package model.turn;
+
+import model.Piece;
+import model.YutResult;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 정해 둔 윷 결과를 차례로 던지는 결정자 (재현, 테스트용).
+ * 결과는 먼저 던진 것부터 쓰고, 말은 후보 중 첫 번째를 움직입니다. 던질 결과가 떨어지면 던지기를 그만둡니다.
+ */
+public final class ScriptedProvider implements DecisionProvider {
+    private final Deque<YutResult> script;
+
+    public ScriptedProvider(YutResult... results) {
+        this(List.of(results));
+    }
+
+    public ScriptedProvider(List<YutResult> results) {
+        script = new ArrayDeque<>(results);
+    }
+
+    /** 아직 던지지 않은 결과 수 */
+    public int remaining() {
+        return script.size();
+    }
+
+    @Override
+    public CompletableFuture<YutResult> throwYut(TurnEngine engine) {
+        return CompletableFuture.completedFuture(script.poll());
+    }
+
+    @Override
+    public CompletableFuture<YutResult> chooseResult(TurnEngine engine, List<YutResult> pending) {
+        return CompletableFuture.completedFuture(pending.get(0));
+    }
+
+    @Override
+    public CompletableFuture<Piece> choosePiece(TurnEngine engine, YutResult result) {
+        return CompletableFuture.completedFuture(engine.getCandidates().get(0));
+    }
+}
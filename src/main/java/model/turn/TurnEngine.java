@@ -0,0 +1,306 @@
+package model.turn;
+
+import model.Game;
+import model.MovePreview;
+import model.Piece;
+import model.Player;
+import model.YutResult;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+
+/**
+ * 한 게임의 턴 진행을 맡는 상태 기계. 콘솔, Swing, JavaFX, 시뮬레이터가 같은 규칙을 씁니다.
+ * <ol>
+ *   <li>윷/모가 나오는 동안 계속 던짐 ({@link TurnPhase#THROWING} → {@link TurnPhase#THROWN})</li>
+ *   <li>남은 결과 중 하나와 말을 골라 움직임 (서로 다른 결과가 하나뿐이면 묻지 않음)</li>
+ *   <li>잡으면 다시 던진 결과를 남은 결과에 더함</li>
+ *   <li>결과를 다 쓰면 다음 플레이어, 모든 말이 완주하면 끝</li>
+ * </ol>
+ * 결정은 자리마다 {@link DecisionProvider} 에게 묻고, 단계가 바뀔 때마다 {@link TurnObserver} 에게 알립니다.
+ * 기다릴 future 가 이미 끝나 있으면 같은 스레드에서 바로 이어 가고, 아직이면 끝나는 스레드
+ * ({@link #setExecutor} 를 주면 그 실행기)에서 이어 갑니다. 한 번에 한 스레드만 상태를 바꾸므로
+ * 엔진 밖에서는 관찰자 알림과 결정 요청 안에서만 게임을 읽으세요.
+ */
+public final class TurnEngine {
+    private static final CompletableFuture<Void> DONE = CompletableFuture.completedFuture(null);
+
+    private final Game game;
+    private final DecisionProvider[] providers;
+    private final List<TurnObserver> observers = new CopyOnWriteArrayList<>();
+    private final CompletableFuture<Player> outcome = new CompletableFuture<>();
+    private Executor executor;                      // null 이면 결정을 끝낸 스레드에서 이어 감
+    private int maxTurns = Integer.MAX_VALUE;
+    private boolean started;
+
+    // 진행 상태
+    private TurnPhase phase;
+    private boolean announced;                      // 지금 단계를 관찰자에게 알렸는지
+    private final List<YutResult> pending = new ArrayList<>();
+    private final List<YutResult> pendingView = Collections.unmodifiableList(pending);
+    private YutResult lastThrow, selected;
+    private List<Piece> candidates;                 // getCandidates 가 처음 불릴 때 계산
+    private Piece chosen;
+    private MovePreview move;
+    private int turn = 1, throwsThisTurn;
+    private Player winner;
+
+    /** providers.get(i) 가 i 번 자리(플레이어)의 결정을 맡습니다. */
+    public TurnEngine(Game game, List<? extends DecisionProvider> providers) {
+        if (providers.size() != game.getPlayers().size()) {
+            throw new IllegalArgumentException("플레이어 " + game.getPlayers().size() + "명에 결정자 " + providers.size() + "개");
+        }
+        this.game = game;
+        this.providers = providers.toArray(new DecisionProvider[0]);
+    }
+
+    /** 기다린 결정이 끝난 뒤 이어 갈 스레드 (예: Platform::runLater). 시작 전에 정합니다. */
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    /** 이 턴 수가 끝나도 승자가 없으면 무승부로 끝냅니다. */
+    public void setMaxTurns(int maxTurns) {
+        if (maxTurns < 1) throw new IllegalArgumentException("최대 턴 수는 1 이상입니다: " + maxTurns);
+        this.maxTurns = maxTurns;
+    }
+
+    public void addObserver(TurnObserver observer) {
+        observers.add(observer);
+    }
+
+    public void removeObserver(TurnObserver observer) {
+        observers.remove(observer);
+    }
+
+    /**
+     * 지금 차례(보통 새 게임의 첫 플레이어)부터 진행을 시작합니다.
+     * 결정자가 모두 바로 답하면 게임이 끝난 뒤에 돌아옵니다.
+     * @return 승자 (최대 턴 수를 넘기면 null). 결정자나 관찰자가 실패하면 그 예외로 끝남
+     */
+    public CompletableFuture<Player> play() {
+        if (started) throw new IllegalStateException("이미 시작한 엔진입니다.");
+        started = true;
+        enter(TurnPhase.THROWING);
+        run();
+        return outcome;
+    }
+
+    // 기다릴 것이 이미 끝나 있으면 이 스레드에서 계속, 아니면 끝날 때 resume 으로 이어 감
+    private void run() {
+        try {
+            while (!outcome.isDone()) {
+                if (!announced && observers.isEmpty()) announced = true;   // 알릴 곳이 없으면 바로 결정
+                boolean decision = announced;
+                CompletableFuture<?> next = decision ? decide() : announce();
+                if (!next.isDone()) {
+                    await(next, decision);
+                    return;
+                }
+                if (decision) accept(next.join());
+            }
+        } catch (Throwable ex) {
+            outcome.completeExceptionally(ex);
+        }
+    }
+
+    private void await(CompletableFuture<?> next, boolean decision) {
+        BiConsumer<Object, Throwable> resume = (value, failure) -> {
+            if (failure != null) {
+                outcome.completeExceptionally(failure);
+                return;
+            }
+            try {
+                if (decision) accept(value);
+            } catch (Throwable ex) {
+                outcome.completeExceptionally(ex);
+                return;
+            }
+            run();
+        };
+        if (executor == null) next.whenComplete(resume);
+        else next.whenCompleteAsync(resume, executor);
+    }
+
+    private void enter(TurnPhase next) {
+        phase = next;
+        announced = false;
+    }
+
+    // 1) 관찰자에게 알리고, 돌려준 작업이 모두 끝날 때까지
+    private CompletableFuture<?> announce() {
+        announced = true;
+        List<CompletableFuture<Void>> waits = null;
+        for (TurnObserver observer : observers) {
+            CompletionStage<Void> wait = observer.onPhase(this, phase);
+            if (wait == null) continue;
+            if (waits == null) waits = new ArrayList<>();
+            waits.add(wait.toCompletableFuture());
+        }
+        if (waits == null) return DONE;
+        return waits.size() == 1 ? waits.get(0) : CompletableFuture.allOf(waits.toArray(CompletableFuture<?>[]::new));
+    }
+
+    // 2) 이 단계에 필요한 결정 (결정이 없는 단계는 바로 다음으로)
+    private CompletableFuture<?> decide() {
+        DecisionProvider provider = providers[game.getCurrentSeat()];
+        switch (phase) {
+            case THROWING:
+                return provider.throwYut(this);
+            case CHOOSING_RESULT:
+                return onlyOneKind() ? CompletableFuture.completedFuture(pending.get(0))
+                        : provider.chooseResult(this, pendingView);
+            case CHOOSING_PIECE:
+                return provider.choosePiece(this, selected);
+            default:
+                return DONE;
+        }
+    }
+
+    // 3) 결정을 반영하고 다음 단계로
+    private void accept(Object value) {
+        switch (phase) {
+            case THROWING: {
+                YutResult r = (YutResult) value;
+                if (r == null) {
+                    enter(pending.isEmpty() ? TurnPhase.TURN_ENDED : TurnPhase.CHOOSING_RESULT);
+                    break;
+                }
+                game.recordThrow(r);
+                pending.add(r);
+                lastThrow = r;
+                throwsThisTurn++;
+                enter(TurnPhase.THROWN);
+                break;
+            }
+            case THROWN:
+                enter(lastThrow.grantsExtraThrow() ? TurnPhase.THROWING : TurnPhase.CHOOSING_RESULT);
+                break;
+            case CHOOSING_RESULT: {
+                YutResult r = (YutResult) value;
+                if (r == null) {
+                    enter(TurnPhase.CHOOSING_RESULT);   // 대화상자를 닫은 것: 던진 결과는 그대로 두고 다시 물음
+                    break;
+                }
+                if (!pending.contains(r)) throw new IllegalArgumentException("남은 결과가 아닙니다: " + r);
+                selected = r;
+                candidates = null;
+                enter(TurnPhase.CHOOSING_PIECE);
+                break;
+            }
+            case CHOOSING_PIECE: {
+                Piece p = (Piece) value;
+                if (p == null || p.getOwner() != game.getCurrentPlayer() || p.isFinished()) {
+                    throw new IllegalArgumentException("움직일 수 없는 말입니다: " + p);
+                }
+                chosen = p;
+                move = game.previewMove(selected, p);
+                enter(TurnPhase.MOVING);
+                break;
+            }
+            case MOVING:
+                pending.remove(selected);
+                move = game.move(selected, chosen);
+                selected = null;
+                chosen = null;
+                candidates = null;
+                if (game.isCurrentPlayerWin()) {
+                    winner = game.getCurrentPlayer();
+                    enter(TurnPhase.GAME_OVER);
+                } else if (move.captures()) {
+                    enter(TurnPhase.THROWING);
+                } else {
+                    enter(pending.isEmpty() ? TurnPhase.TURN_ENDED : TurnPhase.CHOOSING_RESULT);
+                }
+                break;
+            case TURN_ENDED:
+                if (turn >= maxTurns) {
+                    enter(TurnPhase.GAME_OVER);
+                    break;
+                }
+                game.nextTurn();
+                turn++;
+                pending.clear();
+                throwsThisTurn = 0;
+                lastThrow = null;
+                move = null;
+                enter(TurnPhase.THROWING);
+                break;
+            case GAME_OVER:
+                outcome.complete(winner);
+                break;
+        }
+    }
+
+    // 남은 결과가 모두 같으면 고를 것이 없음
+    private boolean onlyOneKind() {
+        YutResult first = pending.get(0);
+        for (int i = 1; i < pending.size(); i++) {
+            if (pending.get(i) != first) return false;
+        }
+        return true;
+    }
+
+    public Game getGame() {
+        return game;
+    }
+
+    public TurnPhase getPhase() {
+        return phase;
+    }
+
+    /** 이번 차례에 던져 놓고 아직 쓰지 않은 결과 (읽기 전용, 엔진이 계속 바꿈) */
+    public List<YutResult> getPending() {
+        return pendingView;
+    }
+
+    /** 가장 최근에 던진 결과 (이번 차례에 아직 던지지 않았으면 null) */
+    public YutResult getLastThrow() {
+        return lastThrow;
+    }
+
+    /** 이번 차례에 던진 횟수 (0 이면 차례의 첫 던지기) */
+    public int getThrowsThisTurn() {
+        return throwsThisTurn;
+    }
+
+    /** {@link TurnPhase#CHOOSING_PIECE}, {@link TurnPhase#MOVING} 에서 쓰는 결과 */
+    public YutResult getSelectedResult() {
+        return selected;
+    }
+
+    /**
+     * {@link TurnPhase#CHOOSING_PIECE} 에서 움직이면 판이 바뀌는 말 (그런 말이 없으면 완주하지 않은 말 전부).
+     * 처음 물을 때 계산하므로 보지 않는 컴퓨터 결정자는 비용을 치르지 않습니다. 다른 단계에서는 빈 목록.
+     */
+    public List<Piece> getCandidates() {
+        if (phase != TurnPhase.CHOOSING_PIECE) return List.of();
+        if (candidates == null) candidates = Collections.unmodifiableList(game.movablePieces(selected));
+        return candidates;
+    }
+
+    /** {@link TurnPhase#MOVING} 에서는 곧 할 이동, 그 뒤로는 이번 차례의 마지막 이동 */
+    public MovePreview getMove() {
+        return move;
+    }
+
+    /** 지금 몇 번째 턴인지 (1 부터, 차례가 넘어갈 때마다 하나씩) */
+    public int getTurn() {
+        return turn;
+    }
+
+    /** 끝난 게임의 승자 (진행 중이거나 무승부면 null) */
+    public Player getWinner() {
+        return winner;
+    }
+
+    public boolean isFinished() {
+        return outcome.isDone();
+    }
+}
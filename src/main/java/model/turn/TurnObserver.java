@@ -0,0 +1,16 @@
+package model.turn;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * 턴 엔진의 단계 변화를 받아 화면에 그리는 쪽.
+ */
+@FunctionalInterface
+public interface TurnObserver {
+
+    /**
+     * 엔진이 phase 에 들어갈 때 호출됩니다.
+     * 애니메이션처럼 끝날 때까지 진행을 멈춰야 하면 그 작업을 돌려주고, 아니면 null 을 돌려주세요.
+     */
+    CompletionStage<Void> onPhase(TurnEngine engine, TurnPhase phase);
+}
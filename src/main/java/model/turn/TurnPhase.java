@@ -0,0 +1,21 @@
+package model.turn;
+
+/**
+ * {@link TurnEngine} 의 단계. 관찰자는 단계에 들어갈 때마다 알림을 받습니다.
+ */
+public enum TurnPhase {
+    /** 윷을 던질 차례 (윷/모가 나오거나 잡았으면 다시 이 단계) */
+    THROWING,
+    /** 윷 결과 하나가 나옴 ({@link TurnEngine#getLastThrow()}) */
+    THROWN,
+    /** 남은 결과 중 무엇을 쓸지 고르는 중 */
+    CHOOSING_RESULT,
+    /** 고른 결과로 움직일 말을 고르는 중 ({@link TurnEngine#getCandidates()}) */
+    CHOOSING_PIECE,
+    /** 말이 움직이기 직전 ({@link TurnEngine#getMove()} 가 미리 본 이동, 관찰자가 끝낸 뒤 판에 적용) */
+    MOVING,
+    /** 남은 결과가 없어 차례가 넘어가기 직전 */
+    TURN_ENDED,
+    /** 누군가 모든 말을 완주했거나 최대 턴 수를 넘김 ({@link TurnEngine#getWinner()}) */
+    GAME_OVER
+}
@@ -0,0 +1,218 @@
+package server;
+
+import model.GameScale;
+import model.Piece;
+import model.Player;
+import model.YutResult;
+import model.turn.DecisionProvider;
+import model.turn.TurnEngine;
+import simulation.BoardKind;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * TCP 로 접속한 플레이어 한 명. 줄 단위 명령을 읽어 로비 명령을 처리하고,
+ * 게임 안에서는 엔진의 질문(ASK ...)에 대한 답을 {@link DecisionProvider} 의 future 로 넘깁니다.
+ * 윷은 서버가 게임의 확률 모형으로 던지므로 클라이언트는 결과를 정할 수 없습니다.
+ */
+final class ClientConnection implements DecisionProvider, Closeable, Runnable {
+    private final Socket socket;
+    private final GameServer server;
+    private final BufferedReader in;
+    private final PrintWriter out;
+    private final AtomicReference<Request> request = new AtomicReference<>();
+    private volatile boolean closed;
+    private volatile GameSession session;   // 참가 중인 게임 (끝나면 null)
+    private int seat = -1;
+
+    // 엔진이 기다리는 답 하나
+    private record Request(String kind, TurnEngine engine, CompletableFuture<Object> answer) {}
+
+    ClientConnection(Socket socket, GameServer server) throws IOException {
+        this.socket = socket;
+        this.server = server;
+        this.in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        this.out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void run() {
+        send("HELLO yutnori");
+        try {
+            String line;
+            while (!closed && (line = in.readLine()) != null) {
+                line = line.trim();
+                if (!line.isEmpty()) handle(line);
+            }
+        } catch (IOException ignored) {
+            // 끊긴 연결: 아래에서 정리
+        } finally {
+            close();
+        }
+    }
+
+    private void handle(String line) {
+        String[] words = line.split("\\s+");
+        try {
+            switch (words[0].toUpperCase()) {
+                case "LIST":   list(); break;
+                case "CREATE": create(words); break;
+                case "JOIN":   join(Long.parseLong(words[1])); break;
+                case "THROW":  answerThrow(); break;
+                case "RESULT": answerResult(words[1]); break;
+                case "PIECE":  answerPiece(Integer.parseInt(words[1])); break;
+                case "QUIT":   close(); break;
+                default:       send("ERROR 알 수 없는 명령: " + words[0]);
+            }
+        } catch (RuntimeException ex) {
+            // 인자 개수, 숫자 형식, 판 종류 오류
+            send("ERROR " + (ex.getMessage() == null ? ex.getClass().getSimpleName() : ex.getMessage()));
+        }
+    }
+
+    // OPEN 번호 판 인원 말 빈자리 ... END
+    private void list() {
+        for (GameSession s : server.getRegistry().open()) {
+            send("OPEN " + s.getId() + " " + s.getBoard().name().toLowerCase() + " " + s.getPlayers() + " "
+                    + s.getGame().getPlayers().get(0).getPieces().size() + " " + s.getFreeSeats());
+        }
+        send("END");
+    }
+
+    // CREATE 판 인원 말 [컴퓨터 수]: 첫 자리는 만든 사람, 뒤쪽 자리는 컴퓨터
+    private void create(String[] words) {
+        if (session != null) throw new IllegalStateException("이미 게임에 참가했습니다.");
+        BoardKind board = BoardKind.parse(words[1]);
+        int players = Integer.parseInt(words[2]);
+        int pieces = Integer.parseInt(words[3]);
+        int bots = words.length > 4 ? Integer.parseInt(words[4]) : 0;
+        GameScale.STANDARD.check(players, pieces);
+        if (bots < 0 || bots >= players) throw new IllegalArgumentException("컴퓨터는 0~" + (players - 1) + "명입니다: " + bots);
+
+        GameSession created = server.createGame(board, players, pieces);
+        for (int i = players - bots; i < players; i++) created.claim(i, server.newBot());
+        enter(created, created.claim(this));
+    }
+
+    private void join(long id) {
+        if (session != null) throw new IllegalStateException("이미 게임에 참가했습니다.");
+        GameSession target = server.getRegistry().get(id);
+        int claimed = target == null ? -1 : target.claim(this);
+        if (claimed < 0) throw new IllegalArgumentException("참가할 수 없는 게임입니다: " + id);
+        enter(target, claimed);
+    }
+
+    // 자리를 알린 다음에 시작해야 ASK 가 GAME 보다 먼저 가지 않음
+    private void enter(GameSession joined, int claimed) {
+        session = joined;
+        seat = claimed;
+        send("GAME " + joined.getId() + " SEAT " + claimed);
+        joined.finished().whenComplete((winner, failure) -> session = null);
+        server.start(joined);
+    }
+
+    // ---- 엔진의 질문 ----
+
+    @Override
+    public CompletableFuture<YutResult> throwYut(TurnEngine engine) {
+        return ask("THROW", engine, "ASK THROW");
+    }
+
+    @Override
+    public CompletableFuture<YutResult> chooseResult(TurnEngine engine, List<YutResult> pending) {
+        StringBuilder sb = new StringBuilder("ASK RESULT ");
+        for (int i = 0; i < pending.size(); i++) sb.append(i > 0 ? "," : "").append(pending.get(i).name());
+        return ask("RESULT", engine, sb.toString());
+    }
+
+    @Override
+    public CompletableFuture<Piece> choosePiece(TurnEngine engine, YutResult result) {
+        StringBuilder sb = new StringBuilder("ASK PIECE ").append(result.name()).append(' ');
+        List<Piece> candidates = engine.getCandidates();
+        for (int i = 0; i < candidates.size(); i++) sb.append(i > 0 ? "," : "").append(candidates.get(i).getIndex());
+        return ask("PIECE", engine, sb.toString());
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<T> ask(String kind, TurnEngine engine, String prompt) {
+        CompletableFuture<Object> answer = new CompletableFuture<>();
+        request.set(new Request(kind, engine, answer));
+        if (closed) answer.completeExceptionally(new IOException("연결이 끊겼습니다."));
+        else send(prompt);
+        return (CompletableFuture<T>) (CompletableFuture<?>) answer;
+    }
+
+    // ---- 클라이언트의 답 ----
+
+    private void answerThrow() {
+        Request r = expect("THROW");
+        if (r != null) complete(r, r.engine().getGame().getThrowModel().sample(ThreadLocalRandom.current()));
+    }
+
+    private void answerResult(String name) {
+        Request r = expect("RESULT");
+        if (r == null) return;
+        YutResult result = YutResult.valueOf(name.toUpperCase());
+        if (!r.engine().getPending().contains(result)) {
+            send("ERROR 남은 결과가 아닙니다: " + name);
+            return;
+        }
+        complete(r, result);
+    }
+
+    private void answerPiece(int index) {
+        Request r = expect("PIECE");
+        if (r == null) return;
+        Player me = r.engine().getGame().getPlayers().get(seat);
+        if (index < 0 || index >= me.getPieces().size() || me.getPieces().get(index).isFinished()) {
+            send("ERROR 움직일 수 없는 말입니다: " + index);
+            return;
+        }
+        complete(r, me.getPieces().get(index));
+    }
+
+    private Request expect(String kind) {
+        Request r = request.get();
+        if (r != null && r.kind().equals(kind)) return r;
+        send("ERROR 지금은 " + kind + " 차례가 아닙니다.");
+        return null;
+    }
+
+    private void complete(Request r, Object value) {
+        if (request.compareAndSet(r, null)) r.answer().complete(value);
+    }
+
+    /** 한 줄 전송 (여러 스레드에서 불러도 줄 단위로 섞이지 않음) */
+    void send(String line) {
+        synchronized (out) {
+            out.println(line);
+        }
+    }
+
+    /** 연결을 닫고, 기다리던 답이 있으면 그 게임을 중단시킵니다. */
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        Request r = request.getAndSet(null);
+        if (r != null) r.answer().completeExceptionally(new IOException("연결이 끊겼습니다."));
+        try {
+            socket.close();
+        } catch (IOException ignored) {
+            // 이미 닫힘
+        }
+        GameSession left = session;
+        if (left != null) left.cancel();
+        server.disconnected(this);
+    }
+}
@@ -0,0 +1,53 @@
+package server;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 서버가 맡은 게임 목록. 번호는 {@link AtomicLong} 으로 매기고 조회와 목록은 잠금 없이 읽습니다.
+ * 끝난 게임은 서버가 바로 지웁니다.
+ */
+public final class GameRegistry {
+    private final ConcurrentHashMap<Long, GameSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+
+    long nextId() {
+        return nextId.getAndIncrement();
+    }
+
+    void add(GameSession session) {
+        sessions.put(session.getId(), session);
+    }
+
+    void remove(GameSession session) {
+        sessions.remove(session.getId(), session);
+    }
+
+    /** 번호로 찾기 (없거나 이미 끝났으면 null) */
+    public GameSession get(long id) {
+        return sessions.get(id);
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+
+    /** 등록된 게임 (진행과 함께 바뀌는 읽기 전용 보기) */
+    public Collection<GameSession> all() {
+        return Collections.unmodifiableCollection(sessions.values());
+    }
+
+    /** 빈 자리가 남아 참가할 수 있는 게임 (번호 순) */
+    public List<GameSession> open() {
+        List<GameSession> open = new ArrayList<>();
+        for (GameSession s : sessions.values()) {
+            if (s.getFreeSeats() > 0) open.add(s);
+        }
+        open.sort((a, b) -> Long.compare(a.getId(), b.getId()));
+        return open;
+    }
+}
@@ -0,0 +1,155 @@
+package server;
+
+import model.turn.DecisionProvider;
+import simulation.BoardKind;
+import simulation.GreedyPolicy;
+import simulation.MovePolicy;
+import simulation.PolicyProvider;
+import simulation.SimulationConfig;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * 한 JVM 에서 여러 게임을 동시에 진행하는 LAN 대회용 서버.
+ *
+ * 모든 게임의 턴 진행({@link model.turn.TurnEngine})은 작업 스레드 풀 하나를 나눠 씁니다. 엔진은 답을 기다리는 동안
+ * 스레드를 잡지 않으므로 컴퓨터끼리 두는 판 수만 개가 코어 수만큼의 스레드로 돌아갑니다.
+ * 접속한 플레이어는 연결마다 읽기 스레드 하나가 줄 단위 명령을 받습니다 (한 줄에 명령 하나, UTF-8).
+ * <pre>
+ * 로비   LIST                         → OPEN 번호 판 인원 말 빈자리 ... END
+ *        CREATE 판 인원 말 [컴퓨터 수]  → GAME 번호 SEAT 0   (뒤쪽 자리는 컴퓨터, 자리가 다 차면 시작)
+ *        JOIN 번호                     → GAME 번호 SEAT n
+ * 게임   ASK THROW                     ← THROW            (윷은 서버가 던짐)
+ *        ASK RESULT DO,GAE             ← RESULT GAE
+ *        ASK PIECE GAE 0,2             ← PIECE 2          (완주하지 않은 내 말 번호)
+ * 알림   TURN 자리 / THROWN 자리 결과 / MOVE 자리 말 결과 칸|GOAL|STAY / EVENT 문장 / OVER 자리|DRAW|ABORTED
+ * 기타   QUIT, 잘못된 명령에는 ERROR 이유
+ * </pre>
+ */
+public final class GameServer implements Closeable {
+    private final ExecutorService workers;
+    private final GameRegistry registry = new GameRegistry();
+    private final ServerStats stats = new ServerStats();
+    private final Set<ClientConnection> clients = ConcurrentHashMap.newKeySet();
+    private final MovePolicy botPolicy = new GreedyPolicy();
+    private int maxTurns = SimulationConfig.DEFAULT_MAX_TURNS;
+    private ServerSocket listener;
+
+    /** @param threads 작업 스레드 수 (0 = 코어 수) */
+    public GameServer(int threads) {
+        int n = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(n, r -> {
+            Thread t = new Thread(r, "yut-game-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /** 이 턴 수가 지나도 승자가 없으면 무승부 (이후 만드는 게임부터) */
+    public void setMaxTurns(int maxTurns) {
+        this.maxTurns = maxTurns;
+    }
+
+    /**
+     * port 에서 접속을 받기 시작합니다 (0 이면 빈 포트, {@link #getPort()} 로 확인).
+     * 같은 컴퓨터와 LAN 에서만 쓰는 것을 전제로 인증은 없습니다.
+     */
+    public void listen(int port) throws IOException {
+        listener = new ServerSocket(port, 50, InetAddress.getByName("0.0.0.0"));
+        Thread acceptor = new Thread(this::acceptLoop, "yut-accept");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    public int getPort() {
+        return listener == null ? -1 : listener.getLocalPort();
+    }
+
+    private void acceptLoop() {
+        try {
+            while (true) {
+                Socket socket = listener.accept();
+                socket.setTcpNoDelay(true);
+                ClientConnection client = new ClientConnection(socket, this);
+                clients.add(client);
+                Thread reader = new Thread(client, "yut-client-" + socket.getPort());
+                reader.setDaemon(true);
+                reader.start();
+            }
+        } catch (SocketException closed) {
+            // close() 로 닫힘
+        } catch (IOException ex) {
+            ex.printStackTrace();
+        }
+    }
+
+    /** 빈 자리만 있는 게임을 만들어 등록합니다. 끝나면 목록에서 빠집니다. */
+    public GameSession createGame(BoardKind board, int players, int pieces) {
+        GameSession session = new GameSession(registry.nextId(), board, players, pieces, maxTurns, stats, registry);
+        registry.add(session);
+        return session;
+    }
+
+    /**
+     * 모든 자리를 컴퓨터로 채운 게임을 바로 시작합니다 (부하 시험용).
+     * @param thinkMillis 컴퓨터가 말을 고를 때마다 기다리는 시간 (0 이면 판이 한 번에 끝까지 진행)
+     */
+    public GameSession hostBotGame(BoardKind board, int players, int pieces, MovePolicy policy, long thinkMillis) {
+        SplittableRandom rand = new SplittableRandom();
+        return hostGame(board, players, pieces, seat -> {
+            DecisionProvider bot = new PolicyProvider(policy, rand.split());
+            return thinkMillis > 0 ? new ThinkingProvider(bot, thinkMillis) : bot;
+        });
+    }
+
+    /** 자리마다 seats 가 만든 결정자로 채운 게임을 바로 시작합니다. */
+    public GameSession hostGame(BoardKind board, int players, int pieces, IntFunction<DecisionProvider> seats) {
+        GameSession session = createGame(board, players, pieces);
+        for (int seat = 0; seat < players; seat++) session.claim(seat, seats.apply(seat));
+        start(session);
+        return session;
+    }
+
+    // 원격 게임의 컴퓨터 자리
+    DecisionProvider newBot() {
+        return new PolicyProvider(botPolicy, new SplittableRandom());
+    }
+
+    /** 자리가 모두 찬 게임이면 작업 스레드에서 시작 */
+    void start(GameSession session) {
+        session.startIfReady(workers);
+    }
+
+    void disconnected(ClientConnection client) {
+        clients.remove(client);
+    }
+
+    public GameRegistry getRegistry() {
+        return registry;
+    }
+
+    public ServerStats getStats() {
+        return stats;
+    }
+
+    /** 접속을 닫고 작업 스레드를 멈춥니다. 진행 중이던 원격 게임은 중단됩니다. */
+    @Override
+    public void close() throws IOException {
+        if (listener != null) listener.close();
+        for (ClientConnection client : clients) client.close();
+        workers.shutdownNow();
+    }
+}
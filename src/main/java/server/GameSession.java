@@ -0,0 +1,205 @@
+package server;
+
+import model.Game;
+import model.Piece;
+import model.Player;
+import model.YutResult;
+import model.turn.DecisionProvider;
+import model.turn.TurnEngine;
+import model.turn.TurnPhase;
+import simulation.BoardKind;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 서버에서 진행되는 게임 한 판. 자리는 컴퓨터나 원격 플레이어가 CAS 로 하나씩 차지하고
+ * (자리 차지와 시작, 중단은 이 객체의 잠금으로 겹치지 않음), 모두 차면 {@link TurnEngine} 을 서버의 작업 스레드 풀에서 돌립니다.
+ *
+ * 판은 결정을 기다리는 동안 스레드를 잡지 않습니다. 결정이 오면 풀의 아무 스레드가 이어서 진행하므로
+ * 동시에 여는 판 수는 스레드 수가 아니라 메모리에만 묶입니다.
+ */
+public final class GameSession {
+    private final long id;
+    private final BoardKind board;
+    private final Game game;
+    private final int maxTurns;
+    private final ServerStats stats;
+    private final GameRegistry registry;
+    private final AtomicReferenceArray<DecisionProvider> seats;
+    private final AtomicInteger filled = new AtomicInteger();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final CompletableFuture<Player> finished = new CompletableFuture<>();
+    private final List<ClientConnection> remotes = new CopyOnWriteArrayList<>();
+
+    // 수 지연 측정 (엔진이 한 번에 한 스레드에서만 부르므로 잠금 없음)
+    private long answeredAt;
+    private boolean moving;
+
+    GameSession(long id, BoardKind board, int players, int pieces, int maxTurns, ServerStats stats, GameRegistry registry) {
+        this.id = id;
+        this.registry = registry;
+        this.board = board;
+        this.game = new Game(players, pieces, board.create());
+        this.maxTurns = maxTurns;
+        this.stats = stats;
+        this.seats = new AtomicReferenceArray<>(players);
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public BoardKind getBoard() {
+        return board;
+    }
+
+    public Game getGame() {
+        return game;
+    }
+
+    public int getPlayers() {
+        return seats.length();
+    }
+
+    public int getFreeSeats() {
+        return started.get() ? 0 : seats.length() - filled.get();
+    }
+
+    /** 게임이 끝나면 승자(무승부면 null)로, 중단되면 그 예외로 완료 */
+    public CompletableFuture<Player> finished() {
+        return finished;
+    }
+
+    /** 빈 자리 중 가장 앞자리를 provider 에게 줍니다. 빈 자리가 없으면 -1 */
+    int claim(DecisionProvider provider) {
+        for (int seat = 0; seat < seats.length(); seat++) {
+            if (claim(seat, provider)) return seat;
+        }
+        return -1;
+    }
+
+    /**
+     * seat 자리가 비어 있으면 provider 에게 주고 true.
+     * 시작/중단과 같은 잠금 안에서 하므로, 중단된 게임에 들어가 OVER 를 못 듣는 일이 없습니다.
+     */
+    synchronized boolean claim(int seat, DecisionProvider provider) {
+        if (started.get() || !seats.compareAndSet(seat, null, provider)) return false;
+        filled.incrementAndGet();
+        if (provider instanceof ClientConnection) remotes.add((ClientConnection) provider);
+        return true;
+    }
+
+    /** 자리가 모두 찼으면 (한 번만) executor 에서 진행을 시작하고 true */
+    boolean startIfReady(Executor executor) {
+        synchronized (this) {
+            if (filled.get() < seats.length() || !started.compareAndSet(false, true)) return false;
+        }
+
+        List<DecisionProvider> providers = new ArrayList<>(seats.length());
+        for (int seat = 0; seat < seats.length(); seat++) providers.add(new Timed(seats.get(seat)));
+        TurnEngine engine = new TurnEngine(game, providers);
+        engine.setMaxTurns(maxTurns);
+        engine.setExecutor(executor);
+        engine.addObserver(this::onPhase);
+        if (!remotes.isEmpty()) game.getEventBus().subscribe(e -> broadcast("EVENT " + e.message()));
+
+        stats.gameStarted();
+        executor.execute(() -> engine.play().whenComplete((winner, failure) -> {
+            // 기다리는 쪽이 깨어났을 때 목록과 집계가 이미 맞도록 완료보다 먼저
+            registry.remove(this);
+            stats.gameEnded(failure != null);
+            if (failure != null) {
+                broadcast("OVER ABORTED");
+                finished.completeExceptionally(failure);
+            } else {
+                // 집계가 끝난 뒤에 알려야 OVER 를 받은 쪽이 끝난 판 수를 바로 확인할 수 있음
+                broadcast("OVER " + (winner == null ? "DRAW" : String.valueOf(winner.getId())));
+                finished.complete(winner);
+            }
+        }));
+        return true;
+    }
+
+    /** 아직 시작하지 않은 게임이면 중단합니다 (만든 사람이 나간 경우). */
+    synchronized void cancel() {
+        if (!started.compareAndSet(false, true)) return;
+        registry.remove(this);
+        broadcast("OVER ABORTED");
+        finished.completeExceptionally(new CancellationException("시작 전에 중단된 게임입니다."));
+    }
+
+    // 말을 고른 뒤 처음 오는 단계가 "판에 적용됨"
+    private CompletionStage<Void> onPhase(TurnEngine engine, TurnPhase phase) {
+        if (moving && phase != TurnPhase.MOVING) {
+            moving = false;
+            stats.recordMove(System.nanoTime() - answeredAt);
+        }
+        if (phase == TurnPhase.MOVING) moving = true;
+        if (!remotes.isEmpty()) announce(engine, phase);
+        return null;
+    }
+
+    // 원격 플레이어에게 진행 상황 전송
+    private void announce(TurnEngine engine, TurnPhase phase) {
+        int seat = game.getCurrentSeat();
+        switch (phase) {
+            case THROWING:
+                if (engine.getThrowsThisTurn() == 0) broadcast("TURN " + seat);
+                break;
+            case THROWN:
+                broadcast("THROWN " + seat + " " + engine.getLastThrow().name());
+                break;
+            case MOVING: {
+                Piece piece = engine.getMove().piece();
+                String to = engine.getMove().finishes() ? "GOAL"
+                        : engine.getMove().to() == null ? "STAY" : String.valueOf(engine.getMove().to().getId());
+                broadcast("MOVE " + seat + " " + piece.getIndex() + " " + engine.getSelectedResult().name() + " " + to);
+                break;
+            }
+            default:
+                break;
+        }
+    }
+
+    private void broadcast(String line) {
+        for (ClientConnection remote : remotes) remote.send(line);
+    }
+
+    /** 말을 고른 순간을 기록하는 감싸개 */
+    private final class Timed implements DecisionProvider {
+        private final DecisionProvider inner;
+
+        Timed(DecisionProvider inner) {
+            this.inner = inner;
+        }
+
+        @Override
+        public CompletableFuture<YutResult> throwYut(TurnEngine engine) {
+            return inner.throwYut(engine);
+        }
+
+        @Override
+        public CompletableFuture<YutResult> chooseResult(TurnEngine engine, List<YutResult> pending) {
+            return inner.chooseResult(engine, pending);
+        }
+
+        @Override
+        public CompletableFuture<Piece> choosePiece(TurnEngine engine, YutResult result) {
+            CompletableFuture<Piece> answer = inner.choosePiece(engine, result);
+            if (answer.isDone()) {
+                answeredAt = System.nanoTime();
+                return answer;
+            }
+            return answer.whenComplete((piece, failure) -> answeredAt = System.nanoTime());
+        }
+    }
+}
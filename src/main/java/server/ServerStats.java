@@ -0,0 +1,85 @@
+package server;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 서버 집계: 진행 중/최대 동시 판 수, 끝난 판, 둔 수, 수 지연 분포.
+ * 여러 작업 스레드가 잠금 없이 함께 더합니다 (카운터는 {@link LongAdder}, 지연은 2의 거듭제곱 나노초 구간).
+ *
+ * 수 지연 = 플레이어(컴퓨터 또는 원격)가 말을 고른 순간부터 판에 적용될 때까지.
+ * 작업 스레드 큐에서 기다린 시간이 포함되므로 서버가 밀리면 늘어납니다.
+ */
+public final class ServerStats {
+    private static final int BUCKETS = 64;
+
+    private final AtomicInteger live = new AtomicInteger();
+    private final AtomicInteger peak = new AtomicInteger();
+    private final LongAdder started = new LongAdder();
+    private final LongAdder finished = new LongAdder();
+    private final LongAdder aborted = new LongAdder();
+    private final LongAdder moves = new LongAdder();
+    private final LongAdder[] latency = new LongAdder[BUCKETS];   // [b] = 2^b ~ 2^(b+1) ns
+
+    public ServerStats() {
+        for (int b = 0; b < BUCKETS; b++) latency[b] = new LongAdder();
+    }
+
+    void gameStarted() {
+        started.increment();
+        peak.accumulateAndGet(live.incrementAndGet(), Math::max);
+    }
+
+    void gameEnded(boolean failed) {
+        live.decrementAndGet();
+        (failed ? aborted : finished).increment();
+    }
+
+    void recordMove(long nanos) {
+        moves.increment();
+        latency[63 - Long.numberOfLeadingZeros(Math.max(1, nanos))].increment();
+    }
+
+    /** 지금 진행 중인 판 수 */
+    public int getLiveGames() {
+        return live.get();
+    }
+
+    /** 동시에 진행된 판 수의 최댓값 */
+    public int getPeakGames() {
+        return peak.get();
+    }
+
+    public long getStarted() {
+        return started.sum();
+    }
+
+    /** 승자가 나오거나 최대 턴을 넘겨 정상으로 끝난 판 */
+    public long getFinished() {
+        return finished.sum();
+    }
+
+    /** 연결이 끊기거나 결정자가 실패해 중단된 판 */
+    public long getAborted() {
+        return aborted.sum();
+    }
+
+    public long getMoves() {
+        return moves.sum();
+    }
+
+    /** q (0~1) 분위의 수 지연 상한 (나노초, 구간의 위쪽 경계). 기록이 없으면 0 */
+    public long latencyPercentileNanos(double q) {
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int b = 0; b < BUCKETS; b++) total += counts[b] = latency[b].sum();
+        if (total == 0) return 0;
+        long target = Math.max(1, (long) Math.ceil(q * total));
+        long seen = 0;
+        for (int b = 0; b < BUCKETS - 1; b++) {
+            seen += counts[b];
+            if (seen >= target) return 1L << (b + 1);
+        }
+        return Long.MAX_VALUE;
+    }
+}
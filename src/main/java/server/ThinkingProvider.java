@@ -0,0 +1,40 @@
+package server;
+
+import model.Piece;
+import model.YutResult;
+import model.turn.DecisionProvider;
+import model.turn.TurnEngine;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 말을 고를 때마다 정해진 시간만큼 생각하는 척하는 컴퓨터 (부하 시험에서 판이 동시에 오래 살아 있도록).
+ * 기다리는 동안 스레드를 잡지 않고 JDK 의 지연 타이머로 답을 완료합니다.
+ */
+final class ThinkingProvider implements DecisionProvider {
+    private final DecisionProvider inner;
+    private final Executor delay;
+
+    ThinkingProvider(DecisionProvider inner, long thinkMillis) {
+        this.inner = inner;
+        this.delay = CompletableFuture.delayedExecutor(thinkMillis, TimeUnit.MILLISECONDS, Runnable::run);
+    }
+
+    @Override
+    public CompletableFuture<YutResult> throwYut(TurnEngine engine) {
+        return inner.throwYut(engine);
+    }
+
+    @Override
+    public CompletableFuture<YutResult> chooseResult(TurnEngine engine, List<YutResult> pending) {
+        return inner.chooseResult(engine, pending);
+    }
+
+    @Override
+    public CompletableFuture<Piece> choosePiece(TurnEngine engine, YutResult result) {
+        return inner.choosePiece(engine, result).thenApplyAsync(piece -> piece, delay);
+    }
+}
@@ -0,0 +1,68 @@
+package simulation;
+
+import model.Game;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 여러 판을 fork/join 으로 나눠 모든 코어에서 동시에 진행합니다.
+ * 판마다 (seed, 판 번호) 로 정해지는 자기 난수열({@link SplittableRandom})을 쓰므로 스레드끼리 난수 상태를 나눠 쓰지 않고,
+ * 스레드 수와 상관없이 결과가 같습니다.
+ */
+public final class BatchSimulator {
+    /** 이보다 적은 판 수는 더 나누지 않고 한 스레드에서 진행 */
+    private static final long LEAF_GAMES = 256;
+
+    private final SimulationConfig config;
+
+    public BatchSimulator(SimulationConfig config) {
+        this.config = config;
+    }
+
+    public SimulationStats run() {
+        ForkJoinPool pool = config.threads() > 0 ? new ForkJoinPool(config.threads()) : ForkJoinPool.commonPool();
+        try {
+            long begin = System.nanoTime();
+            SimulationStats stats = pool.invoke(new Batch(0, config.games()));
+            stats.setElapsedNanos(System.nanoTime() - begin);
+            return stats;
+        } finally {
+            if (pool != ForkJoinPool.commonPool()) pool.shutdown();
+        }
+    }
+
+    /** 판 번호마다 고정된 난수 씨앗 */
+    static long seedFor(long seed, long game) {
+        return seed + game * 0x9E3779B97F4A7C15L;
+    }
+
+    private final class Batch extends RecursiveTask<SimulationStats> {
+        private static final long serialVersionUID = 1L;
+        private final long from;
+        private final long to;
+
+        Batch(long from, long to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected SimulationStats compute() {
+            if (to - from <= LEAF_GAMES) {
+                SimulationStats stats = new SimulationStats(config.players(), config.maxTurns());
+                Game game = GameRunner.newGame(config);   // 잎 작업마다 하나 만들어 판마다 초기화해 씀
+                for (long g = from; g < to; g++) {
+                    GameRunner.play(game, config, new SplittableRandom(seedFor(config.seed(), g)), stats);
+                }
+                return stats;
+            }
+            long mid = (from + to) >>> 1;
+            Batch left = new Batch(from, mid);
+            left.fork();
+            SimulationStats right = new Batch(mid, to).compute();
+            return left.join().merge(right);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package simulation;
+
+import model.Board;
+import model.BoardGenerator;
+import model.PolygonBoard;
+
+import java.util.Locale;
+
+/**
+ * 시뮬레이션에 쓸 판 종류.
+ */
+public enum BoardKind {
+    SQUARE(4),
+    PENTAGON(5),
+    HEXAGON(6),
+    HEPTAGON(7),
+    OCTAGON(8),
+    NONAGON(9),
+    DECAGON(10),
+    HENDECAGON(11),
+    DODECAGON(12);
+
+    private final int sides;
+    private final String label;
+
+    BoardKind(int sides) {
+        this.sides = sides;
+        this.label = BoardGenerator.label(sides);
+    }
+
+    /** 새 판을 만듭니다. (판 모양은 변 수마다 공유) */
+    public Board create() {
+        return PolygonBoard.regular(sides);
+    }
+
+    public int getSides() {
+        return sides;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    /** "square", "사각형", "4" 처럼 이름, 한글 이름, 변의 수를 모두 받습니다. */
+    public static BoardKind parse(String text) {
+        String key = text.trim().toLowerCase(Locale.ROOT);
+        for (BoardKind kind : values()) {
+            if (kind.name().toLowerCase(Locale.ROOT).equals(key) || kind.label.equals(key)
+                    || String.valueOf(kind.sides).equals(key)) {
+                return kind;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 판 종류: " + text);
+    }
+}
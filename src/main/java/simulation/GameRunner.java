@@ -0,0 +1,44 @@
+package simulation;
+
+import model.Game;
+import model.Player;
+import model.turn.DecisionProvider;
+import model.turn.TurnEngine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * 게임 한 판을 입력 없이 끝까지 진행합니다.
+ * 턴 규칙은 화면과 같은 {@link TurnEngine} 이 맡고, 자리마다 {@link PolicyProvider} 가 전략대로 답합니다.
+ */
+final class GameRunner {
+    private GameRunner() {}
+
+    /** 설정대로 새 게임 객체를 만듭니다. 같은 배치 안에서는 {@link #play} 가 {@link Game#reset()} 으로 재사용합니다. */
+    static Game newGame(SimulationConfig config) {
+        Game game = new Game(config.players(), config.pieces(), config.board().create());
+        game.setThrowModel(config.throwModel());
+        return game;
+    }
+
+    static void play(SimulationConfig config, RandomGenerator rand, SimulationStats stats) {
+        play(newGame(config), config, rand, stats);
+    }
+
+    // game 을 처음 상태로 돌린 뒤 한 판 진행 (결정자가 모두 바로 답하므로 이 스레드에서 끝까지)
+    static void play(Game game, SimulationConfig config, RandomGenerator rand, SimulationStats stats) {
+        game.reset();
+
+        List<DecisionProvider> providers = new ArrayList<>(config.players());
+        for (int seat = 0; seat < config.players(); seat++) {
+            providers.add(new PolicyProvider(config.policyFor(seat), rand));
+        }
+        TurnEngine engine = new TurnEngine(game, providers);
+        engine.setMaxTurns(config.maxTurns());
+
+        Player winner = engine.play().join();
+        stats.record(winner == null ? -1 : winner.getId(), engine.getTurn());
+    }
+}
@@ -0,0 +1,50 @@
+package simulation;
+
+import model.Game;
+import model.GameState;
+import model.LegalMove;
+import model.YutResult;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * 한 수 앞만 보는 전략.
+ * 서로 다른 수({@link Game#legalMoves}) 를 {@link GameState} 로 적용해 보고
+ * (상대 남은 거리 - 내 남은 거리 + 잡기 보너스) 가 가장 큰 수를 고릅니다. 동점이면 무작위.
+ */
+public final class GreedyPolicy implements MovePolicy {
+    private static final int CAPTURE_BONUS = 3;
+
+    @Override
+    public Move choose(Game game, List<YutResult> pending, RandomGenerator rand) {
+        int seat = game.getCurrentSeat();
+        GameState state = GameState.of(game);
+        int perPlayer = state.getPiecesPerPlayer();
+
+        Move best = null;
+        int bestScore = Integer.MIN_VALUE;
+        int ties = 0;
+        for (LegalMove m : game.legalMoves(pending)) {
+            GameState next = GameState.apply(state, seat * perPlayer + m.piece().getIndex(), m.result());
+            int score = score(next, seat);
+            if (score > bestScore) {
+                bestScore = score;
+                best = new Move(m.result(), m.piece());
+                ties = 1;
+            } else if (score == bestScore && rand.nextInt(++ties) == 0) {
+                best = new Move(m.result(), m.piece());
+            }
+        }
+        return best;
+    }
+
+    private static int score(GameState s, int seat) {
+        int score = s.hasBonusThrow() ? CAPTURE_BONUS : 0;
+        for (int player = 0; player < s.getPlayerCount(); player++) {
+            int remaining = s.distanceToGoalOf(player);
+            score += player == seat ? -remaining : remaining;
+        }
+        return score;
+    }
+}
@@ -0,0 +1,10 @@
+package simulation;
+
+import model.Piece;
+import model.YutResult;
+
+/**
+ * 한 번의 선택: 남은 윷 결과 중 하나와 그 결과로 움직일 말.
+ */
+public record Move(YutResult result, Piece piece) {
+}
@@ -0,0 +1,23 @@
+package simulation;
+
+import model.Game;
+import model.YutResult;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * 사람 대신 수를 고르는 전략.
+ * 시뮬레이터는 여러 스레드에서 같은 인스턴스를 공유하므로 구현체는 상태를 갖지 않아야 합니다.
+ */
+@FunctionalInterface
+public interface MovePolicy {
+
+    /**
+     * 현재 플레이어가 pending 중 어떤 결과를 어떤 말에 적용할지 고릅니다.
+     * @param game    진행 중인 게임 (현재 플레이어 = 고르는 쪽)
+     * @param pending 아직 적용하지 않은 윷 결과 (비어 있지 않음)
+     * @param rand    이 게임 전용 난수
+     */
+    Move choose(Game game, List<YutResult> pending, RandomGenerator rand);
+}
@@ -0,0 +1,75 @@
+package simulation;
+
+import model.Game;
+import model.Piece;
+import model.YutResult;
+import model.turn.DecisionProvider;
+import model.turn.TurnEngine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+/**
+ * {@link MovePolicy} 로 결정하는 컴퓨터 플레이어. 윷은 게임의 확률 모형대로 무작위로 던집니다.
+ * 결과와 말은 한 번의 {@link MovePolicy#choose} 로 함께 고르고, 말을 물을 때 그 선택을 돌려줍니다.
+ * 실행기를 주면 탐색을 그 스레드에서 하므로 화면 스레드가 멈추지 않습니다.
+ */
+public final class PolicyProvider implements DecisionProvider {
+    // 결과별로 미리 완료해 둔 future (시뮬레이터에서 결정마다 새로 만들지 않도록)
+    private static final List<CompletableFuture<YutResult>> RESULTS = new ArrayList<>();
+    static {
+        for (YutResult r : YutResult.values()) RESULTS.add(CompletableFuture.completedFuture(r));
+    }
+
+    private final MovePolicy policy;
+    private final RandomGenerator rand;
+    private final Executor executor;        // null 이면 묻는 스레드에서 바로 계산
+    private Move planned;                   // chooseResult 에서 고른 수
+
+    public PolicyProvider(MovePolicy policy, RandomGenerator rand) {
+        this(policy, rand, null);
+    }
+
+    public PolicyProvider(MovePolicy policy, RandomGenerator rand, Executor executor) {
+        this.policy = policy;
+        this.rand = rand;
+        this.executor = executor;
+    }
+
+    @Override
+    public CompletableFuture<YutResult> throwYut(TurnEngine engine) {
+        return RESULTS.get(engine.getGame().getThrowModel().sample(rand).ordinal());
+    }
+
+    @Override
+    public CompletableFuture<YutResult> chooseResult(TurnEngine engine, List<YutResult> pending) {
+        if (executor == null) {
+            planned = policy.choose(engine.getGame(), pending, rand);
+            return RESULTS.get(planned.result().ordinal());
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            planned = policy.choose(engine.getGame(), pending, rand);
+            return planned.result();
+        }, executor);
+    }
+
+    @Override
+    public CompletableFuture<Piece> choosePiece(TurnEngine engine, YutResult result) {
+        Move move = planned;
+        planned = null;
+        if (move != null && move.result() == result) return CompletableFuture.completedFuture(move.piece());
+        // 결과가 한 가지뿐이라 엔진이 고른 경우: 남은 결과 전체를 보고 말만 고름
+        Game game = engine.getGame();
+        List<YutResult> pending = engine.getPending();
+        return compute(() -> policy.choose(game, pending, rand).piece());
+    }
+
+    private <T> CompletableFuture<T> compute(Supplier<T> search) {
+        return executor == null ? CompletableFuture.completedFuture(search.get())
+                : CompletableFuture.supplyAsync(search, executor);
+    }
+}
@@ -0,0 +1,21 @@
+package simulation;
+
+import model.Game;
+import model.Piece;
+import model.YutResult;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * 결과와 말을 무작위로 고르는 기준 전략.
+ */
+public final class RandomPolicy implements MovePolicy {
+
+    @Override
+    public Move choose(Game game, List<YutResult> pending, RandomGenerator rand) {
+        List<Piece> pieces = game.getCurrentPlayer().getUnfinishedPieces();
+        YutResult result = pending.get(rand.nextInt(pending.size()));
+        return new Move(result, pieces.get(rand.nextInt(pieces.size())));
+    }
+}
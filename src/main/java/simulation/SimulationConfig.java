@@ -0,0 +1,47 @@
+package simulation;
+
+import model.GameScale;
+import model.ThrowModel;
+
+import java.util.List;
+
+/**
+ * 대량 시뮬레이션 설정.
+ * @param policies  자리별 전략 (자리 수보다 적으면 순환해서 배정)
+ * @param maxTurns  이 턴 수를 넘기면 무승부로 끝냄 (무한 대기 방지)
+ * @param threads   0 이면 공용 ForkJoinPool (코어 수만큼)
+ * @param throwModel 윷 던지기 확률 모형
+ * @param scale     플레이어 수와 말 개수를 검사할 규모 ({@link GameScale#LARGE} 면 16명 × 32개까지)
+ */
+public record SimulationConfig(BoardKind board, int players, int pieces, long games,
+                               List<MovePolicy> policies, long seed, int maxTurns, int threads,
+                               ThrowModel throwModel, GameScale scale) {
+    public static final int DEFAULT_MAX_TURNS = 1_000;
+
+    public SimulationConfig {
+        if (scale == null) throw new IllegalArgumentException("게임 규모가 필요합니다.");
+        scale.check(players, pieces);
+        if (games < 1) throw new IllegalArgumentException("게임 수는 1 이상이어야 합니다: " + games);
+        if (policies.isEmpty()) throw new IllegalArgumentException("전략이 하나 이상 필요합니다.");
+        if (maxTurns < 1) throw new IllegalArgumentException("최대 턴 수는 1 이상이어야 합니다: " + maxTurns);
+        if (throwModel == null) throw new IllegalArgumentException("던지기 모형이 필요합니다.");
+        policies = List.copyOf(policies);
+    }
+
+    /** 기본 규모({@link GameScale#STANDARD}) 설정 */
+    public SimulationConfig(BoardKind board, int players, int pieces, long games,
+                            List<MovePolicy> policies, long seed, int maxTurns, int threads, ThrowModel throwModel) {
+        this(board, players, pieces, games, policies, seed, maxTurns, threads, throwModel, GameScale.STANDARD);
+    }
+
+    /** 기본 던지기 규칙({@link ThrowModel#STANDARD}), 기본 규모 설정 */
+    public SimulationConfig(BoardKind board, int players, int pieces, long games,
+                            List<MovePolicy> policies, long seed, int maxTurns, int threads) {
+        this(board, players, pieces, games, policies, seed, maxTurns, threads, ThrowModel.STANDARD);
+    }
+
+    /** seat 자리에 배정된 전략 */
+    public MovePolicy policyFor(int seat) {
+        return policies.get(seat % policies.size());
+    }
+}
@@ -0,0 +1,99 @@
+package simulation;
+
+/**
+ * 시뮬레이션 결과 집계: 자리별 승수, 무승부 수, 게임 길이(턴) 분포.
+ * 스레드마다 따로 모은 뒤 {@link #merge} 로 합칩니다.
+ */
+public final class SimulationStats {
+    private final long[] wins;
+    private final long[] lengths;   // [턴 수] → 게임 수
+    private long games;
+    private long draws;
+    private long totalTurns;
+    private long elapsedNanos;
+
+    public SimulationStats(int players, int maxTurns) {
+        wins = new long[players];
+        lengths = new long[maxTurns + 1];
+    }
+
+    /** @param winner 이긴 자리, 턴 제한에 걸렸으면 -1 */
+    void record(int winner, int turns) {
+        games++;
+        totalTurns += turns;
+        lengths[Math.min(turns, lengths.length - 1)]++;
+        if (winner < 0) draws++;
+        else wins[winner]++;
+    }
+
+    SimulationStats merge(SimulationStats other) {
+        games += other.games;
+        draws += other.draws;
+        totalTurns += other.totalTurns;
+        for (int i = 0; i < wins.length; i++) wins[i] += other.wins[i];
+        for (int i = 0; i < lengths.length; i++) lengths[i] += other.lengths[i];
+        return this;
+    }
+
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getDraws() {
+        return draws;
+    }
+
+    public long getWins(int seat) {
+        return wins[seat];
+    }
+
+    public int getPlayers() {
+        return wins.length;
+    }
+
+    public double winRate(int seat) {
+        return games == 0 ? 0 : (double) wins[seat] / games;
+    }
+
+    public double meanTurns() {
+        return games == 0 ? 0 : (double) totalTurns / games;
+    }
+
+    /** q (0~1) 분위의 게임 길이 (턴) */
+    public int percentileTurns(double q) {
+        long target = (long) Math.ceil(q * games);
+        long seen = 0;
+        for (int t = 0; t < lengths.length; t++) {
+            seen += lengths[t];
+            if (seen >= Math.max(1, target)) return t;
+        }
+        return lengths.length - 1;
+    }
+
+    /** 길이가 turns 턴인 게임 수 */
+    public long gamesWithTurns(int turns) {
+        return lengths[turns];
+    }
+
+    public int minTurns() {
+        for (int t = 0; t < lengths.length; t++) if (lengths[t] > 0) return t;
+        return 0;
+    }
+
+    public int maxTurns() {
+        for (int t = lengths.length - 1; t >= 0; t--) if (lengths[t] > 0) return t;
+        return 0;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double gamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games * 1e9 / elapsedNanos;
+    }
+}
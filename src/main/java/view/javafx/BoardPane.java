@@ -20,7 +20,10 @@ import javafx.scene.shape.Path;
 import javafx.util.Duration;
 
 import model.Board;
+import model.BoardLayout;
 import model.BoardNode;
+import model.MovePreview;
+import model.Occupancy;
 import model.PentagonBoard;
 import model.Piece;
 import model.Player;
@@ -30,15 +33,17 @@ import model.HexagonBoard;
 import java.net.URL;
 import java.util.*;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public class BoardPane extends Pane {
 
     private final Map<String, Image> pawnCache = new HashMap<>();
     private Map<Integer, Point2D> nodePositions = new HashMap<>();
-    private Map<String, List<int[]>> boardConnections = defineBoardConnections();
     private final Map<Player, Color> playerColor = new HashMap<>();
     private Consumer<Piece> pieceClickHandler;
+    private Function<Piece, MovePreview> previewProvider;   // 마우스를 올린 말의 이동 미리 보기 (null 이면 강조 안 함)
+    private Circle destinationMarker;
 
     private Board currentBoard;
     private List<Piece> currentPieces;
@@ -54,7 +59,6 @@ public class BoardPane extends Pane {
 
     public BoardPane() {
         nodePositions = new HashMap<>();
-        boardConnections = defineBoardConnections();
         widthProperty().addListener(o -> redraw());
         heightProperty().addListener(o -> redraw());
     }
@@ -63,6 +67,43 @@ public class BoardPane extends Pane {
         this.pieceClickHandler = handler;
     }
 
+    /** 말에 마우스를 올리면 provider 가 돌려준 이동의 도착 칸을 강조 (고를 수 없는 말이면 provider 가 null 반환) */
+    public void setMovePreviewProvider(Function<Piece, MovePreview> provider) {
+        this.previewProvider = provider;
+    }
+
+    private void installHandlers(ImageView iv, Piece piece) {
+        iv.setOnMouseClicked(e -> {
+            if (pieceClickHandler != null) pieceClickHandler.accept(piece);
+        });
+        iv.setOnMouseEntered(e -> {
+            MovePreview move = previewProvider == null ? null : previewProvider.apply(piece);
+            if (move != null && !move.isNoOp()) showDestination(move.to());
+        });
+        iv.setOnMouseExited(e -> clearDestination());
+    }
+
+    private void showDestination(BoardNode node) {
+        clearDestination();
+        Point2D pos = nodePositions.get(node.getId());
+        if (pos == null) return;
+        double w = getWidth(), h = getHeight();
+        double scale = Math.min(w, h) / 25.0;
+        double ox = (w - scale * 25) / 2 + 70, oy = (h - scale * 25) / 2 + 30;
+        destinationMarker = new Circle(ox + pos.getX() * scale, oy + pos.getY() * scale, scale * 0.8);
+        destinationMarker.setFill(Color.TRANSPARENT);
+        destinationMarker.setStroke(Color.GOLD);
+        destinationMarker.setStrokeWidth(4);
+        destinationMarker.setEffect(new Glow(0.8));
+        destinationMarker.setMouseTransparent(true);
+        getChildren().add(destinationMarker);
+    }
+
+    private void clearDestination() {
+        if (destinationMarker != null) getChildren().remove(destinationMarker);
+        destinationMarker = null;
+    }
+
     public void drawBoard(Board board, List<Piece> pieces, List<Player> players) {
         this.currentBoard = board;
         this.currentPieces = pieces;
@@ -74,13 +115,15 @@ public class BoardPane extends Pane {
             playerColor.put(players.get(i), palette[i % palette.length]);
         }
 
-        // 노드 위치 초기화
+        // 노드 위치 초기화 (기본 세 판은 맞춰 둔 좌표, 그 밖의 판은 생성한 배치)
         if (board instanceof SquareBoard) {
             nodePositions = defineSquarePositions();
         } else if (board instanceof PentagonBoard) {
             nodePositions = definePentagonPositions();
         } else if (board instanceof HexagonBoard) {
             nodePositions = defineHexagonPositions();
+        } else {
+            nodePositions = layoutPositions(board);
         }
 
         // 말 ImageView 생성 (한 번만)
@@ -90,9 +133,7 @@ public class BoardPane extends Pane {
                 iv.setPreserveRatio(true);
                 iv.setFitWidth(30);
                 iv.setFitHeight(30);
-                iv.setOnMouseClicked(e -> {
-                    if (pieceClickHandler != null) pieceClickHandler.accept(p);
-                });
+                installHandlers(iv, p);
                 // 초기 위치는 대기 영역에서 redraw로 설정
                 getChildren().add(iv);
                 return iv;
@@ -166,7 +207,7 @@ public class BoardPane extends Pane {
         double scale = Math.min(w, h) / 25.0;
         double ox = (w - scale * 25) / 2 + 70;
         double oy = (h - scale * 25) / 2 + 30;
-        String type = currentBoard.getClass().getSimpleName();
+        BoardLayout layout = currentBoard.getLayout();
 
         // ── 2) 대기 중인 말
         for (Player p : players) {
@@ -186,9 +227,7 @@ public class BoardPane extends Pane {
                     newIv.setPreserveRatio(true);
                     newIv.setFitWidth(30);
                     newIv.setFitHeight(30);
-                    newIv.setOnMouseClicked(e -> {
-                        if (pieceClickHandler != null) pieceClickHandler.accept(pc);
-                    });
+                    installHandlers(newIv, pc);
                     return newIv;
                 });
 
@@ -201,7 +240,7 @@ public class BoardPane extends Pane {
         }
 
         // ── 3) 보드 연결선
-        boardConnections.getOrDefault(type, Collections.emptyList())
+        layout.getRoutes()
             .forEach(route -> {
                 for (int i = 0; i < route.length - 1; i++) {
                     Point2D a = nodePositions.get(route[i]);
@@ -217,12 +256,11 @@ public class BoardPane extends Pane {
             });
 
         // ── 4) 노드
-        Set<Integer> specials = SPECIAL_NODES.getOrDefault(type, Set.of());
         for (BoardNode node : currentBoard.getAllNodes()) {
             Point2D pos = nodePositions.get(node.getId());
             if (pos == null) continue;
             double x = ox + pos.getX()*scale, y = oy + pos.getY()*scale;
-            if (specials.contains(node.getId())) {
+            if (layout.isMarked(node.getId())) {
                 Circle outer = new Circle(x, y, scale * 0.7);
                 outer.setFill(Color.WHITE);
                 outer.setStroke(Color.BLACK);
@@ -239,13 +277,13 @@ public class BoardPane extends Pane {
         }
 
         // ── 5) 보드 위의 말
-        Map<BoardNode, List<Piece>> grouped = currentPieces.stream()
-            .filter(pc -> !pc.isFinished() && pc.getPosition() != null)
-            .collect(Collectors.groupingBy(Piece::getPosition));
-
-        grouped.forEach((node, list) -> {
+        // 점유 색인으로 빈 칸은 건너뛰고, 노드가 들고 있는 말 목록을 그대로 사용
+        Occupancy occupancy = currentBoard.getOccupancy();
+        for (BoardNode node : currentBoard.getAllNodes()) {
+            if (occupancy.isEmpty(node.getId())) continue;
+            List<Piece> list = currentBoard.getPiecesAt(node);
             Point2D pos = nodePositions.get(node.getId());
-            if (pos == null) return;
+            if (pos == null) continue;
             double cx = ox + pos.getX()*scale;
             double cy = oy + pos.getY()*scale;
 
@@ -260,16 +298,14 @@ public class BoardPane extends Pane {
                     newIv.setPreserveRatio(true);
                     newIv.setFitWidth(30);
                     newIv.setFitHeight(30);
-                    newIv.setOnMouseClicked(e -> {
-                        if (pieceClickHandler != null) pieceClickHandler.accept(pc);
-                    });
+                    installHandlers(newIv, pc);
                     return newIv;
                 });
 
                 if (!getChildren().contains(iv)) getChildren().add(iv);
                 animateNode(iv, x, y);
             }
-        });
+        }
 
         // ── 6) 말이 위로 오도록
         pieceNodes.values().forEach(iv -> iv.toFront());
@@ -282,28 +318,30 @@ public class BoardPane extends Pane {
         tt.play();
     }
 
-    /** 
-     * 말(p)가 pathNodes 에 적힌 순서대로 움직이는 애니메이션.
+    /**
+     * 엔진이 계산한 이동(move)의 경로를 따라 업 전체를 움직이는 애니메이션.
      * 끝나면 onFinished.run() 호출.
      */
-    public void animateAlongPath(Piece piece, BoardNode srcNode, int steps, Runnable onFinished) {
-    	 // 1) 출발 노드 결정
-        BoardNode src = (srcNode == null)
-            ? currentBoard.getStart()
-            : srcNode;
-
-        // 2) 모델 경로 계산
-        List<BoardNode> pathNodes = currentBoard.calculatePath(src, steps);
+    public void animateAlongPath(MovePreview move, Runnable onFinished) {
+        clearDestination();
+        // 1) 출발 노드 (null 이면 대기장)
+        Piece piece = move.piece();
+        BoardNode srcNode = move.from();
+
+        // 2) 엔진이 정한 경로 (완주면 출발점까지, 빽도면 한 칸)
+        List<BoardNode> pathNodes = move.path();
         if (pathNodes.isEmpty()) {
             onFinished.run();
             return;
         }
 
-        // 3) 같은 칸(src)에 있는 내 말 전부 수집
-        List<Piece> stackPieces = currentPieces.stream()
-            .filter(p -> Objects.equals(p.getPosition(), src)
-                      && p.getOwner().equals(piece.getOwner()))
-            .toList();
+        // 3) 함께 움직이는 말: 대기장이면 그 말 하나, 아니면 같은 칸의 내 말 전부
+        List<Piece> stackPieces = srcNode == null
+            ? List.of(piece)
+            : currentPieces.stream()
+                .filter(p -> Objects.equals(p.getPosition(), srcNode)
+                          && p.getOwner().equals(piece.getOwner()))
+                .toList();
         if (stackPieces.isEmpty()) {
             onFinished.run();
             return;
@@ -328,17 +366,12 @@ public class BoardPane extends Pane {
         }
 
         // (B) 실제 이동 경로를 돌면서
-        BoardNode finishNode = currentBoard.getStart();
         for (BoardNode bn : pathNodes) {
         	Point2D p = nodePositions.get(bn.getId());
         	screenPoints.add(new Point2D(
         			ox + p.getX()*scale,
         			oy + p.getY()*scale
         			));
-        	// 만약 이 bn이 START라면(=완주 지점) 즉시 루프 종료
-        	if (bn.equals(finishNode)) {
-        		break;
-        	}
         }
 
         // 5) 각 말(ImageView)마다 PathTransition 생성
@@ -460,33 +493,13 @@ public class BoardPane extends Pane {
         });
     }
 
-    private static final Map<String, Set<Integer>> SPECIAL_NODES = Map.of(
-        "SquareBoard", Set.of(0, 5, 10, 15, 28),
-        "PentagonBoard", Set.of(0, 5, 10, 15, 20, 35),
-        "HexagonBoard", Set.of(0, 5, 10, 15, 20, 25, 42)
-    );
-
-    private Map<String, List<int[]>> defineBoardConnections() {
-        Map<String, List<int[]>> connections = new HashMap<>();
-        connections.put("SquareBoard", List.of(
-            new int[]{5, 20, 21, 28},new int[]{10, 22, 23, 28},new int[]{15, 25, 24, 28},
-            new int[]{0, 27, 26, 28},new int[]{0,1,2,3,4,5},new int[]{5,6,7,8,9,10},
-            new int[]{10,11,12,13,14,15},new int[]{15,16,17,18,19,0}
-        ));
-        connections.put("PentagonBoard", List.of(
-            new int[]{15,29,30,35},new int[]{5,25,26,35},new int[]{20,32,31,35},
-            new int[]{0,34,33,35},new int[]{10,27,28,35},new int[]{0,1,2,3,4,5},
-            new int[]{5,6,7,8,9,10},new int[]{10,11,12,13,14,15},
-            new int[]{15,16,17,18,19,20},new int[]{20,21,22,23,24,0}
-        ));
-        connections.put("HexagonBoard", List.of(
-            new int[]{5,30,31,42},new int[]{10,32,33,42},new int[]{15,34,35,42},
-            new int[]{20,36,37,42},new int[]{25,39,38,42},new int[]{0,41,40,42},
-            new int[]{0,1,2,3,4,5},new int[]{5,6,7,8,9,10},
-            new int[]{10,11,12,13,14,15},new int[]{15,16,17,18,19,20},
-            new int[]{20,21,22,23,24,25},new int[]{25,26,27,28,29,0}
-        ));
-        return connections;
+    private static Map<Integer, Point2D> layoutPositions(Board board) {
+        BoardLayout layout = board.getLayout();
+        Map<Integer, Point2D> map = new HashMap<>();
+        for (BoardNode node : board.getAllNodes()) {
+            map.put(node.getId(), new Point2D(layout.getX(node.getId()), layout.getY(node.getId())));
+        }
+        return map;
     }
 
     private Map<Integer, Point2D> defineSquarePositions() {
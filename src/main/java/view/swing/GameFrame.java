@@ -8,7 +8,7 @@ import java.awt.*;
 
 /**
  * GameFrame은 전체 윷놀이 Swing UI의 최상위 JFrame이다.
- * - 시작 시 플레이어 수/말 수/보드 타입을 설정하는 초기 화면 제공
+ * - 시작 시 플레이어 수/말 수/보드 타입/컴퓨터 수를 설정하는 초기 화면 제공
  * - 설정 완료 후 GamePanel과 ControlPanel로 전환
  */
 public class GameFrame extends JFrame {
@@ -17,6 +17,7 @@ public class GameFrame extends JFrame {
     private JComboBox<Integer> playerCountBox;
     private JComboBox<Integer> pieceCountBox;
     private JComboBox<String> boardTypeBox;
+    private JComboBox<Integer> computerCountBox;
     private JButton startButton;
 
     private GamePanel gamePanel;
@@ -66,9 +67,16 @@ public class GameFrame extends JFrame {
         gbc.gridy++;
         startPanel.add(new JLabel("보드 타입:"), gbc);
         gbc.gridx = 1;
-        boardTypeBox = new JComboBox<>(new String[]{"사각형", "오각형", "육각형"});
+        boardTypeBox = new JComboBox<>(new String[]{"사각형", "오각형", "육각형", "칠각형", "팔각형", "구각형", "십각형", "십일각형", "십이각형"});
         startPanel.add(boardTypeBox, gbc);
 
+        gbc.gridx = 0;
+        gbc.gridy++;
+        startPanel.add(new JLabel("컴퓨터 플레이어 수:"), gbc);
+        gbc.gridx = 1;
+        computerCountBox = new JComboBox<>(new Integer[]{0, 1, 2, 3});
+        startPanel.add(computerCountBox, gbc);
+
         gbc.gridx = 0;
         gbc.gridy++;
         gbc.gridwidth = 2;
@@ -81,17 +89,11 @@ public class GameFrame extends JFrame {
             String boardType    = (String)  boardTypeBox .getSelectedItem();
 
             // 1. Board, Player 리스트, Game 생성
-            Board board;
-            switch (boardType) {
-                case "사각형": board = new SquareBoard(); break;
-                case "오각형": board = new PentagonBoard(); break;
-                case "육각형": board = new HexagonBoard(); break;
-                default:       board = new SquareBoard();
-            }
+            Board board = PolygonBoard.regular(BoardGenerator.sidesOf(boardType));
 
             this.game = new Game(numPlayers, numPieces, board);
 
-            startGame();
+            startGame((Integer) computerCountBox.getSelectedItem());
         });
 
         // 3) 시작 패널 추가
@@ -101,7 +103,7 @@ public class GameFrame extends JFrame {
     /**
      * 설정 후 실제 게임 UI 로딩
      */
-    private void startGame() {
+    private void startGame(int computerCount) {
         getContentPane().removeAll();
 
         gamePanel = new GamePanel(game);
@@ -132,6 +134,9 @@ public class GameFrame extends JFrame {
         add(controlPanel, BorderLayout.SOUTH);
         revalidate();
         repaint();
+
+        // 뒤쪽 자리부터 컴퓨터에게 맡김
+        controller.setComputerPlayers(computerCount);
     }
 
     public void showStartPanel() {
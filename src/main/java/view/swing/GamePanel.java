@@ -49,7 +49,7 @@ public class GamePanel extends JPanel {
         } else if (game.getBoard() instanceof HexagonBoard) {
             this.nodePositions = defineHexagonPositions();
         } else {
-            this.nodePositions = new HashMap<>();
+            this.nodePositions = layoutPositions(game.getBoard());   // 생성한 판은 배치 좌표 그대로
         }
         List<String> pawnFiles = List.of(
                 "pawn_red.png",
@@ -107,15 +107,9 @@ public class GamePanel extends JPanel {
         int padding = 5;
 
         // Draw connection routes
-        Map<String, List<int[]>> allConnections = defineBoardConnections();
-        String boardType = game.getBoard().getClass().getSimpleName();
-        Set<Integer> specials = SPECIAL_NODES.getOrDefault(boardType, Collections.emptySet());
-
-        List<int[]> routes = allConnections.get(boardType);
-        if (routes != null) {
-            for (int[] route : routes) {
-                drawConnection(g2, route, nodePositions, 25, 80, 80);
-            }
+        BoardLayout layout = game.getBoard().getLayout();
+        for (int[] route : layout.getRoutes()) {
+            drawConnection(g2, route, nodePositions, 25, 80, 80);
         }
 
         // 1) waitingAreas 먼저 그리기
@@ -142,7 +136,7 @@ public class GamePanel extends JPanel {
             int diameter = radius * 4;
 
             // 노드 표시
-            if (specials.contains(id)) {
+            if (layout.isMarked(id)) {
                 // 바깥 원 (흰색·검은 테두리 굵게)
                 g2.setColor(Color.WHITE);
                 g2.fillOval(x, y, diameter, diameter);
@@ -186,7 +180,7 @@ public class GamePanel extends JPanel {
 //                g2.fillOval(x + 5 + offset, y + 5, 10, 10);
 //                offset += 12;
 //            }
-            for (Piece piece : node.getPieces()) {
+            for (Piece piece : game.getBoard().getPiecesAt(node)) {
                 Image pawnImg = pawnImages.get(piece.getOwner());
                 if (pawnImg != null) {
                     int w = 30, h = 30;
@@ -300,59 +294,13 @@ public class GamePanel extends JPanel {
         }
     }
 
-    private static final Map<String, Set<Integer>> SPECIAL_NODES = Map.of(
-            "SquareBoard", Set.of(0, 5, 10, 15, 28),
-            "PentagonBoard", Set.of(0, 5, 10, 15, 20, 35),
-            "HexagonBoard", Set.of(0, 5, 10, 15, 20, 25, 42)
-    );
-
-    private Map<String, List<int[]>> defineBoardConnections() {
-        Map<String, List<int[]>> connections = new HashMap<>();
-
-        // 사각형 보드에서 연결할 경로들
-        connections.put("SquareBoard", List.of(
-                new int[]{5, 20, 21, 28},    // 예: 대각선
-                new int[]{10, 22, 23, 28},
-                new int[]{15, 25, 24, 28},
-                new int[]{0, 27, 26, 28},
-                new int[]{0, 1, 2, 3, 4, 5},
-                new int[]{5, 6, 7, 8, 9, 10},
-                new int[]{10, 11, 12, 13, 14, 15},
-                new int[]{15, 16, 17, 18, 19, 0}
-        ));
-
-        // 오각형 보드에서 연결할 경로들
-        connections.put("PentagonBoard", List.of(
-                new int[]{15, 29, 30, 35},
-                new int[]{5, 25, 26, 35},
-                new int[]{20, 32, 31, 35},
-                new int[]{0, 34, 33, 35},
-                new int[]{10, 27, 28, 35},
-                new int[]{0, 1, 2, 3, 4, 5},
-                new int[]{5, 6, 7, 8, 9, 10},
-                new int[]{10, 11, 12, 13, 14, 15},
-                new int[]{15, 16, 17, 18, 19, 20},
-                new int[]{20, 21, 22, 23, 24, 0}
-        ));
-
-        // 육각형 보드 (예시)
-        connections.put("HexagonBoard", List.of(
-                new int[]{5, 30, 31, 42},
-                new int[]{10, 32, 33, 42},
-                new int[]{15, 34, 35, 42},
-                new int[]{20, 36, 37, 42},
-                new int[]{25, 39, 38, 42},
-                new int[]{0, 41, 40, 42},
-                new int[]{0, 1, 2, 3, 4, 5},
-                new int[]{5, 6, 7, 8, 9, 10},
-                new int[]{10, 11, 12, 13, 14, 15},
-                new int[]{15, 16, 17, 18, 19, 20},
-                new int[]{20, 21, 22, 23, 24, 25},
-                new int[]{25, 26, 27, 28, 29, 0}
-
-        ));
-
-        return connections;
+    private static Map<Integer, Point2D.Double> layoutPositions(Board board) {
+        BoardLayout layout = board.getLayout();
+        Map<Integer, Point2D.Double> map = new HashMap<>();
+        for (BoardNode node : board.getAllNodes()) {
+            map.put(node.getId(), new Point2D.Double(layout.getX(node.getId()), layout.getY(node.getId())));
+        }
+        return map;
     }
 
     private Map<Integer, Point2D.Double> defineSquarePositions() {
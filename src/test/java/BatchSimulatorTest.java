@@ -0,0 +1,44 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import simulation.*;
+
+@DisplayName("헤드리스 시뮬레이터 테스트")
+public class BatchSimulatorTest {
+
+    private static SimulationStats run(int threads) {
+        SimulationConfig config = new SimulationConfig(BoardKind.PENTAGON, 3, 3, 600,
+                List.of(new GreedyPolicy(), new RandomPolicy()), 42L, SimulationConfig.DEFAULT_MAX_TURNS, threads);
+        return new BatchSimulator(config).run();
+    }
+
+    @Test
+    @DisplayName("모든 판이 승자 또는 무승부로 집계되고 스레드 수와 무관하게 같은 결과")
+    void deterministicAcrossThreads() {
+        SimulationStats single = run(1);
+        SimulationStats parallel = run(4);
+
+        long decided = single.getDraws();
+        for (int seat = 0; seat < single.getPlayers(); seat++) {
+            decided += single.getWins(seat);
+            assertEquals(single.getWins(seat), parallel.getWins(seat), seat + "번 자리 승수");
+        }
+        assertEquals(600, single.getGames());
+        assertEquals(600, decided);
+        assertEquals(single.meanTurns(), parallel.meanTurns());
+        assertTrue(single.winRate(0) > single.winRate(1), "한 수 앞을 보는 전략이 무작위보다 많이 이겨야 합니다.");
+    }
+
+    @Test
+    @DisplayName("플레이어 수, 말 개수 범위 검사")
+    void rejectsOutOfRangeConfig() {
+        List<MovePolicy> policies = List.of(new RandomPolicy());
+        assertThrows(IllegalArgumentException.class,
+                () -> new SimulationConfig(BoardKind.SQUARE, 5, 4, 1, policies, 0, 100, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new SimulationConfig(BoardKind.SQUARE, 2, 6, 1, policies, 0, 100, 0));
+    }
+}
@@ -0,0 +1,69 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import model.*;
+
+@DisplayName("Board.movePiece 할당 테스트")
+public class BoardAllocationTest {
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /**
+     * 새 판에서 업기 → 잡기 → 빽도 → 완주까지 한 판의 이동을 모두 거친 뒤 판을 비우는 한 바퀴.
+     * 도, 도 (업) / 상대 개 / 업째로 도 (잡기) / 빽도 / 모 네 번 (완주)
+     */
+    private static void cycle(Board board, Piece a, Piece b, Piece enemy) {
+        board.reset();
+        board.movePiece(a, YutResult.DO.getStepCount());
+        board.movePiece(b, YutResult.DO.getStepCount());
+        board.movePiece(enemy, YutResult.GAE.getStepCount());
+        board.movePiece(a, YutResult.DO.getStepCount());
+        board.movePiece(a, YutResult.BACKDO.getStepCount());
+        for (int i = 0; i < 4; i++) board.movePiece(a, YutResult.MO.getStepCount());
+    }
+
+    @Test
+    @DisplayName("구독자가 없으면 업기, 잡기, 빽도, 완주 모두 0바이트 할당")
+    void steadyStateMovesDoNotAllocate() {
+        assumeAllocationCounting();
+        Board board = new SquareBoard();
+        Game game = new Game(2, 2, board);
+        Piece a = game.getPlayers().get(0).getPieces().get(0);
+        Piece b = game.getPlayers().get(0).getPieces().get(1);
+        Piece enemy = game.getPlayers().get(1).getPieces().get(0);
+
+        // 한 바퀴가 실제로 모든 경우를 거치는지 확인
+        board.reset();
+        board.movePiece(a, YutResult.DO.getStepCount());
+        board.movePiece(b, YutResult.DO.getStepCount());
+        assertSame(a.getPosition(), b.getPosition(), "업힘");
+        board.movePiece(enemy, YutResult.GAE.getStepCount());
+        assertTrue(board.movePiece(a, YutResult.DO.getStepCount()), "잡음");
+        assertNull(enemy.getPosition());
+        board.movePiece(a, YutResult.BACKDO.getStepCount());
+        assertEquals(1, b.getPosition().getId(), "업째로 빽도");
+        for (int i = 0; i < 4; i++) board.movePiece(a, YutResult.MO.getStepCount());
+        assertTrue(a.isFinished() && b.isFinished(), "업째로 완주");
+        assertEquals(2, game.getPlayers().get(0).getFinishedPieceCount());
+
+        // JIT 준비 (한 번, 충분히)
+        for (int i = 0; i < 50_000; i++) cycle(board, a, b, enemy);
+
+        long before = THREADS.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < 10_000; i++) cycle(board, a, b, enemy);
+        long allocated = THREADS.getCurrentThreadAllocatedBytes() - before;
+
+        assertTrue(a.isFinished() && b.isFinished());
+        assertEquals(0, allocated, "이동 90,000번 (초기화 10,000번) 동안 할당된 바이트");
+    }
+
+    private static void assumeAllocationCounting() {
+        org.junit.jupiter.api.Assumptions.assumeTrue(
+                THREADS.isThreadAllocatedMemorySupported() && THREADS.isThreadAllocatedMemoryEnabled(),
+                "스레드별 할당량 측정을 지원하지 않는 JVM");
+    }
+}
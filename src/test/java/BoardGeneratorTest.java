@@ -0,0 +1,79 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import model.*;
+
+@DisplayName("N각형 윷판 생성 테스트")
+public class BoardGeneratorTest {
+
+    @Test
+    @DisplayName("4~6각형은 기본 판 클래스이고 변 수마다 모양을 공유")
+    void classicBoardsAreGenerated() {
+        assertTrue(PolygonBoard.regular(4) instanceof SquareBoard);
+        assertTrue(PolygonBoard.regular(5) instanceof PentagonBoard);
+        assertTrue(PolygonBoard.regular(6) instanceof HexagonBoard);
+        assertSame(new HexagonBoard().getTopology(), BoardGenerator.topology(6));
+        assertSame(PolygonBoard.regular(9).getTopology(), PolygonBoard.regular(9).getTopology());
+
+        assertEquals(12, BoardGenerator.sidesOf("십이각형"));
+        assertEquals(7, BoardGenerator.sidesOf("7"));
+        assertThrows(IllegalArgumentException.class, () -> BoardGenerator.sidesOf("13"));
+        assertThrows(IllegalArgumentException.class, () -> PolygonBoard.regular(3));
+    }
+
+    @Test
+    @DisplayName("모든 N 에서 꼭지점 → 중앙 → 출발점 지름길과 배치가 맞음")
+    void everySizeHasSpokesAndLayout() {
+        for (int n = BoardGenerator.MIN_SIDES; n <= BoardGenerator.MAX_SIDES; n++) {
+            Board board = PolygonBoard.regular(n);
+            BoardTopology t = board.getTopology();
+            int outer = 5 * n, center = 7 * n;
+            assertEquals(7 * n + 1, board.getAllNodes().size());
+
+            // 꼭지점에서 3칸이면 중앙, 중앙에 멈췄다가 3칸이면 출발점
+            for (int corner = 5; corner <= 5 * (n - 2); corner += 5) {
+                assertEquals(center, last(board.calculatePath(t.node(corner), 3)), n + "각형 " + corner);
+            }
+            assertEquals(0, last(board.calculatePath(t.node(center), 3)), n + "각형 중앙");
+            // 마지막 꼭지점은 외곽으로
+            assertEquals(5 * (n - 1) + 1, last(board.calculatePath(t.node(5 * (n - 1)), 1)));
+            // 중앙을 지나가면 마지막 꼭지점 쪽 (사각형 판은 10 에서 들어오면 출발점 쪽)
+            int through = last(board.calculatePath(t.node(outer + 1), 4));
+            assertEquals(5 * (n - 1), through);
+
+            BoardLayout layout = board.getLayout();
+            int marked = 0;
+            for (BoardNode node : board.getAllNodes()) {
+                assertTrue(layout.getX(node.getId()) >= -1e-9 && layout.getX(node.getId()) <= BoardLayout.SIZE + 1e-9);
+                assertTrue(layout.getY(node.getId()) >= -1e-9 && layout.getY(node.getId()) <= BoardLayout.SIZE + 1e-9);
+                if (layout.isMarked(node.getId())) marked++;
+            }
+            assertEquals(n + 1, marked);
+            assertEquals(2 * n, layout.getRoutes().size());
+        }
+        Board square = new SquareBoard();
+        assertEquals(0, last(square.calculatePath(square.getTopology().node(23), 4)), "사각형 23 → 28 → 26 → 27 → 0");
+    }
+
+    @Test
+    @DisplayName("큰 판에서도 도만 던져 완주할 수 있음")
+    void largeBoardFinishes() {
+        Board board = PolygonBoard.regular(12);
+        Game game = new Game(1, 1, board);
+        Piece piece = game.getPlayers().get(0).getPieces().get(0);
+        int moves = 0;
+        while (!piece.isFinished() && moves < 200) {
+            game.applyYutResult(YutResult.DO, piece);
+            moves++;
+        }
+        assertTrue(piece.isFinished());
+        assertTrue(moves < 5 * 12, "지름길로 외곽 한 바퀴보다 빨리 완주");
+    }
+
+    private static int last(List<BoardNode> path) {
+        return path.get(path.size() - 1).getId();
+    }
+}
@@ -0,0 +1,70 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+import model.*;
+
+@DisplayName("공유 판 모양과 게임 재사용 테스트")
+public class BoardTopologyTest {
+
+    @Test
+    @DisplayName("같은 종류의 판은 모양과 경로표를 함께 쓰고 말 배치는 따로 가짐")
+    void topologyIsSharedOccupancyIsNot() {
+        Board a = new SquareBoard(), b = new SquareBoard();
+        assertSame(a.getTopology(), b.getTopology());
+        assertSame(a.getRoutingTable(), b.getRoutingTable());
+        assertNotSame(a.getTopology(), new PentagonBoard().getTopology());
+        for (BoardNode n : a.getAllNodes()) assertSame(n, a.getTopology().node(n.getId()));
+
+        Game ga = new Game(2, 2, a);
+        new Game(2, 2, b);
+        a.movePiece(ga.getPlayers().get(0).getPieces().get(0), YutResult.GAE.getStepCount());
+        BoardNode two = a.getTopology().node(2);
+        assertEquals(1, a.pieceCountAt(two));
+        assertEquals(0, b.pieceCountAt(two));
+    }
+
+    @Test
+    @DisplayName("reset 뒤에는 새로 만든 게임과 같은 상태이고 같은 씨앗이면 같은 판이 나옴")
+    void resetGameReplaysLikeFreshGame() {
+        Game reused = new Game(2, 4, new HexagonBoard());
+        long initial = reused.positionHash();
+        List<String> first = play(reused, 42);
+        List<String> other = play(reused, 7);
+        reused.reset();
+        assertEquals(initial, reused.positionHash());
+        for (Piece p : reused.getPieces()) {
+            assertNull(p.getPosition());
+            assertFalse(p.isFinished());
+        }
+        for (BoardNode n : reused.getBoard().getAllNodes()) assertEquals(0, reused.getBoard().pieceCountAt(n));
+
+        assertEquals(first, play(reused, 42));
+        assertEquals(first, play(new Game(2, 4, new HexagonBoard()), 42));
+        assertEquals(other, play(new Game(2, 4, new HexagonBoard()), 7));
+    }
+
+    // 첫 번째 말만 움직이는 간단한 진행, 매 이동 뒤 해시를 기록
+    private static List<String> play(Game game, long seed) {
+        game.reset();
+        SplittableRandom rand = new SplittableRandom(seed);
+        List<String> log = new ArrayList<>();
+        for (int turn = 0; turn < 200; turn++) {
+            for (YutResult r : game.rollAllYuts(rand)) {
+                for (Piece p : game.getCurrentPlayer().getPieces()) {
+                    if (p.isFinished()) continue;
+                    game.applyYutResult(r, p);
+                    break;
+                }
+                log.add(Long.toHexString(game.positionHash()));
+            }
+            if (game.getCurrentPlayer().allPiecesFinished()) break;
+            game.nextTurn();
+        }
+        return log;
+    }
+}
@@ -0,0 +1,46 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import ai.ExpectimaxPolicy;
+import model.*;
+import simulation.Move;
+
+@DisplayName("기대값 탐색 컴퓨터 플레이어 테스트")
+public class ExpectimaxPolicyTest {
+
+    @Test
+    @DisplayName("윷 결과 가중치는 64가지 경우의 수와 일치")
+    void throwWeightsMatchRealDistribution() {
+        int sum = 0;
+        double p = 0;
+        for (YutResult r : YutResult.values()) {
+            sum += r.getWeight();
+            p += r.probability();
+        }
+        assertEquals(YutResult.OUTCOMES, sum);
+        assertEquals(1.0, p, 1e-12);
+        assertEquals(24.0 / 64, YutResult.GAE.probability(), 1e-12);
+    }
+
+    @Test
+    @DisplayName("잡을 수 있으면 잡는 수를 시간 예산 안에 고름")
+    void prefersCaptureWithinBudget() {
+        Game game = new Game(2, 2, new SquareBoard());
+        Piece mine = game.getPlayers().get(0).getPieces().get(0);
+        Piece enemy = game.getPlayers().get(1).getPieces().get(0);
+        game.getBoard().movePiece(mine, YutResult.GAE.getStepCount());
+        game.getBoard().movePiece(enemy, YutResult.GEOL.getStepCount());
+
+        long start = System.nanoTime();
+        Move move = new ExpectimaxPolicy().choose(game, List.of(YutResult.DO), new Random(1));
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        assertSame(mine, move.piece());
+        assertEquals(YutResult.DO, move.result());
+        assertTrue(millis < 200, "한 수에 " + millis + "ms");
+    }
+}
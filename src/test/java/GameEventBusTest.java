@@ -0,0 +1,97 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import model.*;
+import model.event.*;
+
+@DisplayName("게임 이벤트 버스 테스트")
+public class GameEventBusTest {
+
+    @Test
+    @DisplayName("이동 → 잡기 → 완주 이벤트가 순서대로 전달")
+    void boardPublishesTypedEvents() {
+        Game game = new Game(2, 1, new SquareBoard());
+        List<GameEvent> events = new ArrayList<>();
+        game.getEventBus().subscribe(events::add);
+
+        Piece mine = game.getPlayers().get(0).getPieces().get(0);
+        Piece enemy = game.getPlayers().get(1).getPieces().get(0);
+        game.recordThrow(YutResult.GAE);
+        game.getBoard().movePiece(mine, YutResult.GAE.getStepCount());
+        game.getBoard().movePiece(enemy, YutResult.GAE.getStepCount());
+        game.getBoard().movePiece(enemy, YutResult.BACKDO.getStepCount());
+
+        assertInstanceOf(YutThrown.class, events.get(0));
+        assertInstanceOf(PieceMoved.class, events.get(1));
+        PieceCaptured captured = assertInstanceOf(PieceCaptured.class, events.get(2));
+        assertSame(mine, captured.captured());
+        assertSame(enemy, captured.by());
+        assertInstanceOf(PieceMoved.class, events.get(3));
+        BackdoApplied backdo = assertInstanceOf(BackdoApplied.class, events.get(4));
+        assertEquals(1, backdo.to().getId());
+        assertEquals(5, events.size());
+    }
+
+    @Test
+    @DisplayName("구독 해제 후에는 발행하지 않음")
+    void noListenerNoDelivery() {
+        GameEventBus bus = new GameEventBus(4);
+        List<GameEvent> events = new ArrayList<>();
+        GameEventListener listener = events::add;
+        bus.subscribe(listener);
+        bus.unsubscribe(listener);
+
+        assertFalse(bus.hasListeners());
+        bus.publish(new YutThrown(null, YutResult.DO));
+        assertTrue(events.isEmpty());
+    }
+
+    @Test
+    @DisplayName("전달 중 다시 발행한 이벤트도 순서를 지켜 전달")
+    void reentrantPublish() {
+        GameEventBus bus = new GameEventBus(2);
+        List<YutResult> seen = new ArrayList<>();
+        bus.subscribe(e -> {
+            YutResult r = ((YutThrown) e).result();
+            seen.add(r);
+            if (r == YutResult.YUT) bus.publish(new YutThrown(null, YutResult.DO));
+        });
+
+        bus.publish(new YutThrown(null, YutResult.YUT));
+        bus.publish(new YutThrown(null, YutResult.GAE));
+
+        assertEquals(List.of(YutResult.YUT, YutResult.DO, YutResult.GAE), seen);
+        assertEquals(0, bus.getDroppedCount());
+    }
+
+    @Test
+    @DisplayName("구독자가 예외를 던져도 판 이동은 끝나고 다른 구독자도 받음")
+    void failingListenerIsReported() {
+        Game game = new Game(2, 1, new SquareBoard());
+        List<GameEvent> events = new ArrayList<>();
+        List<Throwable> reported = new ArrayList<>();
+        game.getEventBus().subscribe(e -> { throw new IllegalStateException("구독자 오류"); });
+        game.getEventBus().subscribe(events::add);
+
+        Thread t = Thread.currentThread();
+        Thread.UncaughtExceptionHandler previous = t.getUncaughtExceptionHandler();
+        t.setUncaughtExceptionHandler((thread, ex) -> reported.add(ex));
+        try {
+            Piece mine = game.getPlayers().get(0).getPieces().get(0);
+            Piece enemy = game.getPlayers().get(1).getPieces().get(0);
+            game.getBoard().movePiece(mine, YutResult.GAE.getStepCount());
+            game.getBoard().movePiece(enemy, YutResult.GAE.getStepCount());
+
+            assertNull(mine.getPosition(), "잡기가 끝까지 반영됨");
+            assertEquals(3, events.size());
+            assertEquals(3, game.getEventBus().getFailedCount());
+            assertEquals(3, reported.size());
+        } finally {
+            t.setUncaughtExceptionHandler(previous);
+        }
+    }
+}
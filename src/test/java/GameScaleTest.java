@@ -0,0 +1,70 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+import model.*;
+import simulation.BatchSimulator;
+import simulation.BoardKind;
+import simulation.MovePolicy;
+import simulation.RandomPolicy;
+import simulation.SimulationConfig;
+import simulation.SimulationStats;
+
+@DisplayName("대형 모드 (16명 × 말 32개) 테스트")
+public class GameScaleTest {
+
+    @Test
+    @DisplayName("규모별 인원/말 개수 범위 검사")
+    void scaleLimits() {
+        assertThrows(IllegalArgumentException.class, () -> new Game(5, 4, new SquareBoard(), GameScale.STANDARD));
+        assertThrows(IllegalArgumentException.class, () -> new Game(16, 33, new SquareBoard(), GameScale.LARGE));
+        assertThrows(IllegalArgumentException.class, () -> new Game(17, 2, new SquareBoard()));
+        assertEquals(16, new Game(16, 32, new SquareBoard(), GameScale.LARGE).getPlayers().size());
+        assertSame(GameScale.LARGE, GameScale.parse("Large"));
+    }
+
+    @Test
+    @DisplayName("완주 말 수는 이동마다 세지 않고 누적하며 reset 하면 0")
+    void finishedCountersStayInSync() {
+        Game game = new Game(16, 32, new HexagonBoard(), GameScale.LARGE);
+        SplittableRandom rand = new SplittableRandom(3);
+        for (int move = 0; move < 20_000; move++) {
+            Player player = game.getCurrentPlayer();
+            List<Piece> left = player.getUnfinishedPieces();
+            game.applyYutResult(YutResult.throwYut(rand), left.get(rand.nextInt(left.size())));
+            if (player.allPiecesFinished()) break;
+            game.nextTurn();
+        }
+        long total = 0;
+        for (Player p : game.getPlayers()) {
+            long counted = p.getPieces().stream().filter(Piece::isFinished).count();
+            assertEquals(counted, p.getFinishedPieceCount(), p.getName());
+            assertEquals(32 - counted, p.getRemainingPieceCount());
+            total += counted;
+        }
+        assertTrue(total > 0);
+
+        game.reset();
+        for (Player p : game.getPlayers()) {
+            assertEquals(0, p.getFinishedPieceCount());
+            assertFalse(p.allPiecesFinished());
+        }
+    }
+
+    @Test
+    @DisplayName("대형 규모 시뮬레이션 설정")
+    void largeSimulation() {
+        List<MovePolicy> policies = List.of(new RandomPolicy());
+        assertThrows(IllegalArgumentException.class,
+                () -> new SimulationConfig(BoardKind.SQUARE, 16, 32, 1, policies, 0, 100, 0));
+        SimulationConfig config = new SimulationConfig(BoardKind.OCTAGON, 16, 8, 4, policies, 5, 5_000, 1,
+                ThrowModel.STANDARD, GameScale.LARGE);
+        SimulationStats stats = new BatchSimulator(config).run();
+        long wins = 0;
+        for (int seat = 0; seat < 16; seat++) wins += stats.getWins(seat);
+        assertEquals(4, wins + stats.getDraws());
+    }
+}
@@ -0,0 +1,162 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import model.Piece;
+import model.YutResult;
+import model.turn.DecisionProvider;
+import model.turn.TurnEngine;
+import server.GameServer;
+import server.GameSession;
+import simulation.BoardKind;
+import simulation.PolicyProvider;
+import simulation.RandomPolicy;
+
+@DisplayName("게임 서버 테스트")
+public class GameServerTest {
+
+    @Test
+    @DisplayName("만 판이 스레드를 잡지 않고 동시에 기다렸다가 모두 끝남")
+    void tenThousandConcurrentBotGames() throws Exception {
+        int games = 10_000;
+        CompletableFuture<Void> go = new CompletableFuture<>();
+        try (GameServer server = new GameServer(2)) {
+            CompletableFuture<?>[] finished = new CompletableFuture<?>[games];
+            for (int i = 0; i < games; i++) {
+                SplittableRandom rand = new SplittableRandom(i);
+                GameSession session = server.hostGame(BoardKind.SQUARE, 2, 2,
+                        seat -> new Gated(new PolicyProvider(new RandomPolicy(), rand.split()), go));
+                finished[i] = session.finished();
+            }
+            // 모두 첫 던지기에서 go 를 기다리는 중 (작업 스레드는 2개)
+            assertEquals(games, server.getRegistry().size());
+            while (server.getStats().getLiveGames() < games) Thread.onSpinWait();
+            assertEquals(games, server.getStats().getPeakGames());
+            assertEquals(0, server.getStats().getMoves());
+
+            go.complete(null);
+            CompletableFuture.allOf(finished).get(60, TimeUnit.SECONDS);
+            assertEquals(games, server.getStats().getFinished());
+            assertEquals(0, server.getStats().getLiveGames());
+            assertEquals(0, server.getRegistry().size());
+            assertTrue(server.getStats().getMoves() >= 2L * games);
+            assertTrue(server.getStats().latencyPercentileNanos(0.99) > 0);
+        }
+    }
+
+    @Test
+    @DisplayName("TCP 로 만든 게임에 다른 플레이어가 참가해 끝까지 둠")
+    void twoRemotePlayers() throws Exception {
+        try (GameServer server = new GameServer(1)) {
+            server.listen(0);
+            try (Client a = new Client(server.getPort()); Client b = new Client(server.getPort())) {
+                a.send("CREATE square 2 2");
+                String[] game = a.expect("GAME").split(" ");
+                assertEquals("0", game[3]);
+
+                b.send("LIST");
+                assertTrue(b.expect("OPEN").startsWith("OPEN " + game[1] + " square 2 2 1"));
+                b.expect("END");
+                b.send("JOIN " + game[1]);
+                assertEquals("GAME " + game[1] + " SEAT 1", b.expect("GAME"));
+
+                CompletableFuture<String> overA = CompletableFuture.supplyAsync(a::playToEnd);
+                CompletableFuture<String> overB = CompletableFuture.supplyAsync(b::playToEnd);
+                String over = overA.get(30, TimeUnit.SECONDS);
+                assertEquals(over, overB.get(30, TimeUnit.SECONDS));
+                assertTrue(over.equals("OVER 0") || over.equals("OVER 1"), over);
+            }
+            assertEquals(1, server.getStats().getFinished());
+        }
+    }
+
+    // 첫 던지기를 go 가 완료될 때까지 미루는 결정자
+    private static final class Gated implements DecisionProvider {
+        private final DecisionProvider inner;
+        private final CompletableFuture<Void> go;
+
+        Gated(DecisionProvider inner, CompletableFuture<Void> go) {
+            this.inner = inner;
+            this.go = go;
+        }
+
+        @Override
+        public CompletableFuture<YutResult> throwYut(TurnEngine engine) {
+            return go.isDone() ? inner.throwYut(engine) : go.thenCompose(v -> inner.throwYut(engine));
+        }
+
+        @Override
+        public CompletableFuture<YutResult> chooseResult(TurnEngine engine, List<YutResult> pending) {
+            return inner.chooseResult(engine, pending);
+        }
+
+        @Override
+        public CompletableFuture<Piece> choosePiece(TurnEngine engine, YutResult result) {
+            return inner.choosePiece(engine, result);
+        }
+    }
+
+    // 묻는 대로 첫 후보를 고르는 줄 단위 클라이언트
+    private static final class Client implements AutoCloseable {
+        private final Socket socket;
+        private final BufferedReader in;
+        private final PrintWriter out;
+
+        Client(int port) throws IOException {
+            socket = new Socket("127.0.0.1", port);
+            socket.setSoTimeout(30_000);
+            in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+            expect("HELLO");
+        }
+
+        void send(String line) {
+            out.println(line);
+        }
+
+        // prefix 로 시작하는 줄이 올 때까지 읽음 (알림은 건너뜀)
+        String expect(String prefix) {
+            try {
+                String line;
+                while ((line = in.readLine()) != null) {
+                    assertFalse(line.startsWith("ERROR"), line);
+                    if (line.startsWith(prefix)) return line;
+                }
+            } catch (IOException ex) {
+                throw new AssertionError(ex);
+            }
+            throw new AssertionError("연결이 끊김: " + prefix + " 를 기다리는 중");
+        }
+
+        String playToEnd() {
+            while (true) {
+                String line = expect("");
+                String[] words = line.split(" ");
+                if (words[0].equals("OVER")) return line;
+                if (!words[0].equals("ASK")) continue;
+                switch (words[1]) {
+                    case "THROW":  send("THROW"); break;
+                    case "RESULT": send("RESULT " + words[2].split(",")[0]); break;
+                    case "PIECE":  send("PIECE " + words[3].split(",")[0]); break;
+                    default:       fail(line);
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            socket.close();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import model.*;
+
+@DisplayName("GameState 전이 테스트")
+public class GameStateTest {
+
+    /** 같은 무작위 수순을 실제 Board 와 GameState 에 동시에 적용해 위치를 비교 */
+    private void replay(Supplier<Board> boardFactory, int numPlayers, int numPieces, long seed) {
+        Board board = boardFactory.get();
+        Game game = new Game(numPlayers, numPieces, board);
+        GameState state = GameState.initial(board.getRoutingTable(), numPlayers, numPieces);
+        List<Piece> pieces = game.getPieces();
+        Random rand = new Random(seed);
+
+        for (int move = 0; move < 300; move++) {
+            int player = move % numPlayers;
+            int idx = player * numPieces + rand.nextInt(numPieces);
+            if (pieces.get(idx).isFinished()) continue;
+            YutResult r = YutResult.throwYut(rand);
+
+            boolean captured = board.movePiece(pieces.get(idx), r.getStepCount());
+            state = GameState.apply(state, idx, r);
+
+            assertEquals(captured, state.hasBonusThrow(), "seed " + seed + " move " + move + ": 잡기 여부");
+            for (int i = 0; i < pieces.size(); i++) {
+                Piece p = pieces.get(i);
+                int expected = p.isFinished() ? GameState.FINISHED
+                        : p.getPosition() == null ? GameState.HOME : p.getPosition().getId();
+                assertEquals(expected, state.position(i), "seed " + seed + " move " + move + ": 말 " + i);
+            }
+            assertEquals(game.positionHash(), state.zobrist(), "seed " + seed + " move " + move + ": 해시");
+            assertEquals(GameState.of(game).zobrist(), state.zobrist(), "seed " + seed + " move " + move + ": 증분 해시");
+        }
+    }
+
+    @Test
+    @DisplayName("무작위 수순에서 Board.movePiece 와 같은 결과")
+    void matchesBoardMoves() {
+        for (long seed = 1; seed <= 20; seed++) {
+            replay(SquareBoard::new, 2, 4, seed);
+            replay(PentagonBoard::new, 3, 3, seed);
+            replay(HexagonBoard::new, 4, 5, seed);
+        }
+    }
+
+    @Test
+    @DisplayName("빽도를 기억하는 이력보다 많이 연달아 해도 제자리에 머물지 않음")
+    void backdoPastHistory() {
+        Board board = new SquareBoard();
+        Game game = new Game(1, 1, board);
+        Piece piece = game.getPieces().get(0);
+        GameState s = GameState.initial(board.getRoutingTable(), 1, 1);
+        for (int i = 0; i < 4; i++) {   // 2, 4, 6, 8 (꼭지점 5 에서 멈추지 않는 외곽 길)
+            board.movePiece(piece, YutResult.GAE.getStepCount());
+            s = GameState.apply(s, 0, YutResult.GAE);
+        }
+        for (int i = 0; i < GameState.HISTORY + 2; i++) {
+            board.movePiece(piece, YutResult.BACKDO.getStepCount());
+            s = GameState.apply(s, 0, YutResult.BACKDO);
+            assertEquals(piece.getPosition().getId(), s.position(0), "빽도 " + (i + 1) + "번째");
+        }
+        assertEquals(0, s.position(0));
+    }
+
+    @Test
+    @DisplayName("빽도: 출발점 앞뒤 왕복")
+    void backdoAroundStart() {
+        GameState s = GameState.initial(new SquareBoard().getRoutingTable(), 1, 1);
+        s = GameState.apply(s, 0, YutResult.DO);
+        assertEquals(1, s.position(0));
+        s = GameState.apply(s, 0, YutResult.BACKDO);
+        assertEquals(0, s.position(0));
+        s = GameState.apply(s, 0, YutResult.BACKDO);
+        assertEquals(1, s.position(0), "출발점에서 빽도하면 직전 위치로 돌아감");
+        s = GameState.apply(s, 0, YutResult.BACKDO);
+        s = GameState.apply(s, 0, YutResult.GAE);
+        assertTrue(s.isWin(0));
+    }
+
+    @Test
+    @DisplayName("같은 배치는 같은 해시")
+    void equalStatesHashEqually() {
+        RoutingTable routes = new PentagonBoard().getRoutingTable();
+        GameState a = GameState.apply(GameState.initial(routes, 2, 2), 0, YutResult.GAE);
+        GameState b = GameState.apply(GameState.initial(routes, 2, 2), 0, YutResult.GAE);
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertNotEquals(a, a.nextTurn());
+    }
+
+    @Test
+    @DisplayName("위치만 정한 상태: 들어온 길로 빽도하고 같은 칸 말은 업")
+    void arrangeFromPositions() {
+        RoutingTable routes = new SquareBoard().getRoutingTable();
+        GameState played = GameState.initial(routes, 2, 2);
+        played = GameState.apply(played, 0, YutResult.GEOL);
+        played = GameState.apply(played, 1, YutResult.GEOL);
+        played = GameState.apply(played, 2, YutResult.DO);
+
+        int[] positions = new int[4];
+        for (int i = 0; i < 4; i++) positions[i] = played.position(i);
+        GameState arranged = GameState.arrange(routes, 2, positions, 0);
+        assertEquals(played.zobrist(), arranged.zobrist());
+
+        GameState a = GameState.apply(played, 0, YutResult.BACKDO);
+        GameState b = GameState.apply(arranged, 0, YutResult.BACKDO);
+        for (int i = 0; i < 4; i++) assertEquals(a.position(i), b.position(i), "말 " + i);
+        assertEquals(b.position(0), b.position(1), "업힌 말이 함께 움직임");
+        assertEquals(a.hasBonusThrow(), b.hasBonusThrow());
+    }
+}
@@ -0,0 +1,49 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import model.*;
+
+@DisplayName("서로 다른 수 생성 테스트")
+public class LegalMoveTest {
+
+    @Test
+    @DisplayName("집에 있는 말은 한 수로 묶고, 집에서의 빽도는 제자리 수")
+    void collapsesHomePieces() {
+        Game game = new Game(2, 4, new SquareBoard());
+        List<LegalMove> moves = game.legalMoves(List.of(YutResult.DO, YutResult.DO, YutResult.BACKDO));
+
+        assertEquals(2, moves.size());
+        assertEquals(YutResult.DO, moves.get(0).result());
+        assertEquals(4, moves.get(0).equivalents().size());
+        assertFalse(moves.get(0).noOp());
+        assertEquals(YutResult.BACKDO, moves.get(1).result());
+        assertTrue(moves.get(1).noOp());
+
+        // 판이 바뀌는 수가 없으면 결과를 버릴 말로 아무 말이나
+        assertEquals(4, game.movablePieces(YutResult.BACKDO).size());
+    }
+
+    @Test
+    @DisplayName("업은 한 수로 묶고 함께 움직이는 말을 모두 돌려줌")
+    void collapsesStacks() {
+        Game game = new Game(2, 3, new PentagonBoard());
+        List<Piece> pieces = game.getCurrentPlayer().getPieces();
+        game.applyYutResult(YutResult.GAE, pieces.get(0));
+        game.applyYutResult(YutResult.GAE, pieces.get(1));
+
+        List<LegalMove> moves = game.legalMoves(YutResult.BACKDO);
+        assertEquals(2, moves.size());
+        assertEquals(Set.of(pieces.get(0), pieces.get(1)), Set.copyOf(moves.get(0).equivalents()));
+        assertFalse(moves.get(0).noOp());
+        assertTrue(moves.get(1).noOp());
+        assertEquals(Set.of(pieces.get(0), pieces.get(1)), Set.copyOf(game.movablePieces(YutResult.BACKDO)));
+
+        // 대표 말로 두면 업 전체가 움직임
+        game.applyYutResult(YutResult.DO, moves.get(0).piece());
+        assertSame(pieces.get(0).getPosition(), pieces.get(1).getPosition());
+    }
+}
@@ -0,0 +1,69 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import ai.MctsPolicy;
+import model.*;
+import simulation.Move;
+
+@DisplayName("몬테카를로 트리 탐색 컴퓨터 플레이어 테스트")
+public class MctsPolicyTest {
+
+    @Test
+    @DisplayName("여러 스레드로 시간 예산 안에 탐색하고 반복 속도를 보고")
+    void searchesWithinBudget() {
+        Game game = new Game(2, 2, new SquareBoard());
+        Piece mine = game.getPlayers().get(0).getPieces().get(0);
+        Piece enemy = game.getPlayers().get(1).getPieces().get(0);
+        game.getBoard().movePiece(mine, YutResult.GAE.getStepCount());
+        game.getBoard().movePiece(enemy, YutResult.GEOL.getStepCount());
+
+        MctsPolicy policy = new MctsPolicy(2, 100);
+        long start = System.nanoTime();
+        Move move = policy.choose(game, List.of(YutResult.DO), new Random(1));
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        assertSame(mine, move.piece(), "잡는 수를 골라야 합니다.");
+        assertTrue(millis < 200, "한 수에 " + millis + "ms");
+        MctsPolicy.SearchStats stats = policy.getLastStats();
+        assertTrue(stats.iterations() > 0);
+        assertTrue(stats.iterationsPerSecond() > 0);
+    }
+
+    @Test
+    @DisplayName("같은 차례의 다음 결과를 고를 때 이전 탐색 트리를 이어 씀")
+    void reusesSubtreeWithinTurn() {
+        Game game = new Game(2, 3, new PentagonBoard());
+        MctsPolicy policy = new MctsPolicy(1, 50);
+        Random rand = new Random(7);
+
+        Move first = policy.choose(game, List.of(YutResult.GAE, YutResult.DO), rand);
+        assertFalse(game.applyYutResult(first.result(), first.piece()));
+        List<YutResult> rest = first.result() == YutResult.GAE ? List.of(YutResult.DO) : List.of(YutResult.GAE);
+        policy.choose(game, rest, rand);
+
+        assertTrue(policy.getLastStats().reusedVisits() > 0);
+    }
+
+    @Test
+    @DisplayName("잡고 보너스를 던진 뒤에도 트리를 이어 쓰고, 다른 게임의 탐색이 끼어도 지워지지 않음")
+    void reusesSubtreeAfterCapture() {
+        Game game = new Game(2, 2, new SquareBoard());
+        Piece mine = game.getPlayers().get(0).getPieces().get(0);
+        Piece enemy = game.getPlayers().get(1).getPieces().get(0);
+        game.getBoard().movePiece(mine, YutResult.GAE.getStepCount());
+        game.getBoard().movePiece(enemy, YutResult.GEOL.getStepCount());
+        MctsPolicy policy = new MctsPolicy(1, 100);
+        Random rand = new Random(3);
+
+        Move capture = policy.choose(game, List.of(YutResult.DO), rand);
+        assertTrue(game.applyYutResult(capture.result(), capture.piece()), "잡기로 보너스를 얻어야 합니다.");
+        policy.choose(new Game(2, 2, new SquareBoard()), List.of(YutResult.GAE), rand);
+        policy.choose(game, List.of(YutResult.GAE), rand);
+
+        assertTrue(policy.getLastStats().reusedVisits() > 0);
+    }
+}
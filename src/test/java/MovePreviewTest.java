@@ -0,0 +1,74 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import model.*;
+
+@DisplayName("이동 미리 보기 테스트")
+public class MovePreviewTest {
+
+    @Test
+    @DisplayName("미리 봐도 판은 그대로이고 실제 이동은 같은 객체를 돌려줌")
+    void previewIsSideEffectFreeAndReused() {
+        Board board = new SquareBoard();
+        Game game = new Game(2, 2, board);
+        Piece mine = game.getPlayers().get(0).getPieces().get(0);
+        Piece enemy = game.getPlayers().get(1).getPieces().get(0);
+        board.move(enemy, YutResult.GAE);
+
+        long before = board.getZobrist();
+        MovePreview preview = board.previewMove(mine, YutResult.GAE);
+        assertEquals(before, board.getZobrist());
+        assertNull(mine.getPosition());
+        assertNull(preview.from());
+        assertEquals(2, preview.to().getId());
+        assertTrue(preview.captures());
+        assertSame(preview, board.previewMove(mine, YutResult.GAE), "다음 이동 전까지는 다시 계산하지 않아야 합니다.");
+
+        MovePreview done = board.move(mine, YutResult.GAE);
+        assertSame(preview, done);
+        assertEquals(preview.to(), mine.getPosition());
+        assertNull(enemy.getPosition());
+    }
+
+    @Test
+    @DisplayName("완주 경로는 출발점에서 끝나고 빽도는 직전 칸을 가리킴")
+    void finishAndBackdoMatchEngine() {
+        Board board = new SquareBoard();
+        Game game = new Game(2, 2, board);
+        Piece piece = game.getPlayers().get(0).getPieces().get(0);
+        for (int i = 0; i < 6; i++) board.move(piece, YutResult.GEOL);
+        assertEquals(18, piece.getPosition().getId());
+
+        MovePreview finish = board.previewMove(piece, YutResult.GEOL);
+        assertTrue(finish.finishes());
+        assertEquals(board.getStart(), finish.to());
+        assertEquals(List.of(19, 0), finish.path().stream().map(BoardNode::getId).toList());
+
+        MovePreview back = board.previewMove(piece, YutResult.BACKDO);
+        assertEquals(17, back.to().getId());
+        assertSame(back, board.move(piece, YutResult.BACKDO));
+        assertEquals(back.to(), piece.getPosition());
+
+        // 판이 바뀌었으므로 새로 계산
+        assertNotSame(finish, board.previewMove(piece, YutResult.GEOL));
+        assertTrue(board.move(piece, YutResult.YUT).finishes());
+        assertTrue(piece.isFinished());
+    }
+
+    @Test
+    @DisplayName("집에 있는 말의 빽도는 판을 바꾸지 않는 수")
+    void homeBackdoIsNoOp() {
+        Board board = new SquareBoard();
+        Game game = new Game(2, 2, board);
+        Piece piece = game.getPlayers().get(0).getPieces().get(0);
+
+        MovePreview preview = board.previewMove(piece, YutResult.BACKDO);
+        assertTrue(preview.isNoOp());
+        assertTrue(preview.path().isEmpty());
+        board.move(piece, YutResult.BACKDO);
+        assertNull(piece.getPosition());
+    }
+}
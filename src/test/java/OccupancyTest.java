@@ -0,0 +1,36 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import model.*;
+
+@DisplayName("노드 점유 색인 테스트")
+public class OccupancyTest {
+
+    @Test
+    @DisplayName("업기와 잡기에 따라 비트마스크 갱신")
+    void masksFollowStackAndCapture() {
+        Board board = new SquareBoard();
+        Game game = new Game(2, 3, board);
+        Player me = game.getPlayers().get(0);
+        Player enemy = game.getPlayers().get(1);
+        Occupancy occ = board.getOccupancy();
+
+        board.movePiece(me.getPieces().get(0), YutResult.GAE.getStepCount());
+        board.movePiece(me.getPieces().get(2), YutResult.GAE.getStepCount());
+        assertEquals(me.getId(), occ.owner(2));
+        assertEquals(0b101, occ.mask(2, me.getId()));
+        assertEquals(2, occ.count(2));
+
+        board.movePiece(enemy.getPieces().get(1), YutResult.GAE.getStepCount());
+        assertFalse(occ.hasEnemy(2, enemy.getId()), "상대 말만 남아야 합니다.");
+        assertEquals(enemy.getId(), occ.owner(2));
+        assertEquals(0b010, occ.mask(2, enemy.getId()));
+        assertEquals(0, occ.mask(2, me.getId()));
+        assertNull(me.getPieces().get(0).getPosition());
+
+        board.movePiece(enemy.getPieces().get(1), YutResult.DO.getStepCount());
+        assertTrue(occ.isEmpty(2));
+        assertEquals(1, occ.count(3));
+    }
+}
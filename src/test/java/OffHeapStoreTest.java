@@ -0,0 +1,74 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import ai.OffHeapStore;
+
+@DisplayName("힙 밖 저장소 테스트")
+public class OffHeapStoreTest {
+
+    @Test
+    @DisplayName("저장한 값을 다시 찾고, 없는 키는 MISS / NaN")
+    void putAndGet() {
+        OffHeapStore store = new OffHeapStore(1 << 20);
+        assertTrue(store.put(42, 7));
+        assertTrue(store.put(0, 9));
+        assertTrue(store.putDouble(43, 0.0));
+        assertTrue(store.put(42, 8));
+
+        assertEquals(8, store.get(42));
+        assertEquals(9, store.get(0));
+        assertEquals(0.0, store.getDouble(43));
+        assertEquals(OffHeapStore.MISS, store.get(44));
+        assertTrue(Double.isNaN(store.getDouble(45)));
+
+        OffHeapStore.Stats stats = store.stats();
+        assertEquals(3, stats.occupied());
+        assertEquals(5, stats.lookups());
+        assertEquals(3, stats.hits());
+        assertThrows(IllegalArgumentException.class, () -> store.put(1, OffHeapStore.MISS));
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 써도 모든 값이 남음")
+    void concurrentWriters() throws InterruptedException {
+        OffHeapStore store = new OffHeapStore(1 << 22);
+        int perThread = 20_000;
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int base = t * perThread;
+            Thread th = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    long key = (base + i) * 0x9E3779B97F4A7C15L;
+                    store.put(key, base + i + 1);
+                    store.put(~key, base + i + 1);   // 다른 스레드의 키와 같은 칸을 두고 다투도록 섞음
+                }
+            });
+            threads.add(th);
+            th.start();
+        }
+        for (Thread th : threads) th.join();
+
+        for (int i = 0; i < 4 * perThread; i++) {
+            assertEquals(i + 1, store.get(i * 0x9E3779B97F4A7C15L), "키 " + i);
+        }
+        assertEquals(8L * perThread, store.stats().occupied());
+        assertEquals(0, store.stats().rejected());
+    }
+
+    @Test
+    @DisplayName("빈 칸이 없으면 저장을 포기하고 셈")
+    void rejectsWhenFull() {
+        OffHeapStore store = new OffHeapStore(0);   // 최소 1024칸
+        int stored = 0;
+        for (long k = 1; k <= 2000; k++) {
+            if (store.put(k, k)) stored++;
+        }
+        assertEquals(store.capacity(), store.stats().occupied());
+        assertEquals(stored, store.stats().occupied());
+        assertEquals(2000 - stored, store.stats().rejected());
+    }
+}
@@ -0,0 +1,63 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import model.*;
+
+@DisplayName("업(PieceGroup) 테스트")
+public class PieceGroupTest {
+
+    @Test
+    @DisplayName("같은 칸에 오면 업 하나로 합쳐지고, 잡히면 업째로 집에 감")
+    void stackMovesAndIsCapturedAsOne() {
+        Board board = new SquareBoard();
+        Game game = new Game(2, 3, board);
+        Piece a = game.getPlayers().get(0).getPieces().get(0);
+        Piece b = game.getPlayers().get(0).getPieces().get(1);
+        Piece enemy = game.getPlayers().get(1).getPieces().get(0);
+
+        board.movePiece(a, YutResult.DO.getStepCount());
+        board.movePiece(b, YutResult.DO.getStepCount());
+        assertSame(a.getGroup(), b.getGroup());
+        assertEquals(1, board.getGroupsAt(a.getPosition()).size());
+
+        board.movePiece(b, YutResult.GAE.getStepCount());
+        assertEquals(3, a.getPosition().getId(), "업힌 말도 함께 이동");
+        board.movePiece(a, YutResult.BACKDO.getStepCount());
+        assertEquals(2, b.getPosition().getId(), "빽도도 업째로");
+
+        board.movePiece(enemy, YutResult.GAE.getStepCount());
+        assertNull(a.getGroup());
+        assertNull(b.getPosition());
+        assertEquals(1, board.pieceCountAt(board.getStart().getNext().getNext()));
+
+        board.movePiece(a, YutResult.DO.getStepCount());
+        assertEquals(1, a.getGroup().size(), "다시 나올 때는 혼자");
+        assertNull(b.getPosition());
+    }
+
+    @Test
+    @DisplayName("빽도를 계속하면 걸어온 길을 그대로 되짚어 출발점까지 돌아감")
+    void longBackdoChainRetracesPath() {
+        Board board = new HexagonBoard();
+        Game game = new Game(1, 1, board);
+        Piece p = game.getPlayers().get(0).getPieces().get(0);
+        List<BoardNode> walked = new ArrayList<>();
+        walked.add(board.getStart());
+
+        for (int i = 0; i < 4; i++) {
+            BoardNode from = p.getPosition() == null ? board.getStart() : p.getPosition();
+            walked.addAll(board.calculatePath(from, YutResult.GEOL.getStepCount()));
+            board.movePiece(p, YutResult.GEOL.getStepCount());
+        }
+        assertSame(walked.get(walked.size() - 1), p.getPosition());
+
+        for (int i = walked.size() - 2; i >= 0; i--) {
+            board.movePiece(p, YutResult.BACKDO.getStepCount());
+            assertSame(walked.get(i), p.getPosition(), (walked.size() - 1 - i) + "번째 빽도");
+        }
+    }
+}
@@ -0,0 +1,74 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import model.*;
+
+@DisplayName("경로표(RoutingTable) 테스트")
+public class RoutingTableTest {
+
+    private static int[] ids(List<BoardNode> path) {
+        return path.stream().mapToInt(BoardNode::getId).toArray();
+    }
+
+    @Test
+    @DisplayName("사각형: 교차점 숏컷과 23→28 예외 경로")
+    void squareRoutes() {
+        Board board = new SquareBoard();
+        RoutingTable table = board.getRoutingTable();
+
+        assertArrayEquals(new int[]{20, 21, 28}, ids(table.path(5, 3)), "5에서 걸이면 대각선으로 28");
+        assertArrayEquals(new int[]{26, 27}, ids(table.path(28, 2)), "28에 멈춘 뒤에는 26 방향");
+        assertArrayEquals(new int[]{28, 24}, ids(table.path(21, 2)), "21에서 28을 지나치면 24 방향");
+        assertArrayEquals(new int[]{28, 26, 27}, ids(table.path(23, 3)), "23에서 28을 지나치면 26 방향");
+        assertEquals(27, table.destination(23, 3));
+    }
+
+    @Test
+    @DisplayName("출발점 통과 여부는 마지막 칸을 제외하고 판단")
+    void passesStart() {
+        RoutingTable table = new SquareBoard().getRoutingTable();
+
+        assertFalse(table.passesStart(27, 1), "27에서 도면 0에 멈출 뿐 완주가 아님");
+        assertTrue(table.passesStart(27, 2), "27에서 개면 0을 지나 완주");
+        assertTrue(table.passesStart(19, 3), "19에서 걸이면 0을 지나 완주");
+        assertFalse(table.passesStart(0, 5), "0에서 모는 출발점을 지나지 않음");
+    }
+
+    @Test
+    @DisplayName("오각형/육각형 중앙 교차점 경로")
+    void centerRoutes() {
+        RoutingTable pent = new PentagonBoard().getRoutingTable();
+        assertArrayEquals(new int[]{33, 34, 0}, ids(pent.path(35, 3)));
+        assertArrayEquals(new int[]{35, 31, 32, 20}, ids(pent.path(30, 4)));
+
+        RoutingTable hex = new HexagonBoard().getRoutingTable();
+        assertArrayEquals(new int[]{40, 41, 0}, ids(hex.path(42, 3)));
+        assertArrayEquals(new int[]{42, 38, 39, 25}, ids(hex.path(31, 4)));
+    }
+
+    @Test
+    @DisplayName("표에 없는 걸음 수(6 이상)도 출발점을 지나치면 완주")
+    void longStepsPastStartFinish() {
+        Board board = new SquareBoard();
+        Game game = new Game(2, 2, board);
+        Piece p = game.getPlayers().get(0).getPieces().get(0);
+        for (int steps : new int[]{3, 3, 3, 3, 4}) board.movePiece(p, steps);
+        assertEquals(16, p.getPosition().getId());
+
+        board.movePiece(p, 7);
+        assertTrue(p.isFinished(), "16에서 7칸이면 0을 지나 완주");
+        assertNull(p.getPosition());
+    }
+
+    @Test
+    @DisplayName("calculatePath 는 매번 같은 경로 객체를 돌려줌")
+    void calculatePathIsCached() {
+        Board board = new HexagonBoard();
+        BoardNode start = board.getStart();
+        assertSame(board.calculatePath(start, 5), board.calculatePath(start, 5));
+        assertEquals(5, board.getRoutingTable().destination(start.getId(), 5));
+    }
+}
@@ -0,0 +1,139 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import ai.Tablebase;
+import ai.TurnOutcomes;
+import model.*;
+
+@DisplayName("종반 승률표 테스트")
+public class TablebaseTest {
+    private static final int F = GameState.FINISHED, H = GameState.HOME;
+
+    // 외곽 6칸 고리 판: 위치가 1,225개뿐이라 바퀴를 끝까지 돌려 볼 수 있음
+    private static final RoutingTable RING = new PolygonBoard(3, 2).getRoutingTable();
+
+    @Test
+    @DisplayName("승률표가 아닌 파일은 열지 않음")
+    void rejectsForeignFile(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("square.ytb");
+        Files.write(file, new byte[128]);
+        RoutingTable routes = new SquareBoard().getRoutingTable();
+        assertThrows(IOException.class, () -> Tablebase.open(file, routes));
+        assertThrows(IOException.class, () -> Tablebase.open(dir.resolve("none.ytb"), routes));
+    }
+
+    @Test
+    @DisplayName("보드별 기본 파일 위치")
+    void defaultPath() {
+        assertEquals(Path.of("tablebase", "hexagon.ytb"), Tablebase.defaultPath("hexagon"));
+    }
+
+    @Test
+    @DisplayName("한 바퀴 뒤에 끊긴 생성은 같은 파일에서 다음 바퀴부터 이어 감")
+    void resumesFromLastSweep(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("ring.ytb");
+        assertThrows(Interrupted.class, () -> Tablebase.generate(file, RING, 1, (sweeps, delta) -> {
+            throw new Interrupted();
+        }));
+        assertThrows(IOException.class, () -> Tablebase.open(file, RING), "다 만들지 않은 표는 열지 않음");
+
+        List<Integer> seen = new ArrayList<>();
+        Tablebase tb = Tablebase.generate(file, RING, 1, (sweeps, delta) -> seen.add(sweeps));
+        assertEquals(2, seen.get(0), "끊기기 전 바퀴는 다시 돌지 않음");
+        assertEquals(seen.get(seen.size() - 1), tb.getSweeps());
+
+        // 다 만든 표는 바로 돌려주고 열 수 있음
+        seen.clear();
+        Tablebase again = Tablebase.generate(file, RING, 1, (sweeps, delta) -> seen.add(sweeps));
+        assertTrue(seen.isEmpty());
+        assertEquals(tb.getSweeps(), again.getSweeps());
+        assertEquals(tb.getSweeps(), Tablebase.open(file, RING).getSweeps());
+    }
+
+    @Test
+    @DisplayName("크기가 다른 옛 파일 위에 새로 만든 표도 열 수 있음")
+    void regenerateOverLargerFile(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("ring.ytb");
+        Files.write(file, new byte[1 << 20]);
+        Tablebase tb = Tablebase.generate(file, RING, 1, null);
+        assertEquals(tb.getSweeps(), Tablebase.open(file, RING).getSweeps());
+    }
+
+    @Test
+    @DisplayName("출발점 위의 마지막 말: 앞으로 가는 결과는 모두 완주, 빽도만 상대에게 차례를 넘김")
+    void probeMatchesHandCalculation(@TempDir Path dir) throws IOException {
+        Tablebase tb = Tablebase.generate(dir.resolve("ring.ytb"), RING, 1, null);
+        int start = RING.getStartId();
+        GameState s = GameState.arrange(RING, 2, new int[]{ start, F, H, H }, 0);
+
+        assertEquals(1, tb.probe(s, List.of(YutResult.DO)));
+        double backdo = tb.probe(s, List.of(YutResult.BACKDO));
+        GameState after = GameState.apply(s, 0, YutResult.BACKDO).nextTurn();
+        assertEquals(1 - tb.probe(after), backdo, 1e-6, "빽도 뒤에는 상대 차례의 반대");
+
+        // 윷/모 보너스가 붙어도 앞으로 가는 결과가 하나라도 있으면 이김
+        double pb = YutResult.BACKDO.probability();
+        assertEquals(1 - pb + pb * backdo, tb.probe(s), 1e-5);
+    }
+
+    @Test
+    @DisplayName("남은 결과가 있어도 이미 끝난 위치는 이기거나 짐")
+    void probeWithPendingChecksWins(@TempDir Path dir) throws IOException {
+        Tablebase tb = Tablebase.generate(dir.resolve("ring.ytb"), RING, 1, null);
+        List<YutResult> pending = List.of(YutResult.GAE, YutResult.DO);
+        assertEquals(0, tb.probe(GameState.arrange(RING, 2, new int[]{ H, H, F, F }, 0), pending));
+        assertEquals(1, tb.probe(GameState.arrange(RING, 2, new int[]{ F, F, H, H }, 0), pending));
+        assertEquals(1, tb.probe(GameState.arrange(RING, 2, new int[]{ H, H, F, F }, 1), pending));
+    }
+
+    @Test
+    @DisplayName("윷을 던져 두고 한 번 더 던질 차례면 그 던지기의 결과까지 더한 승률")
+    void probeAddsOwedThrow(@TempDir Path dir) throws IOException {
+        Tablebase tb = Tablebase.generate(dir.resolve("ring.ytb"), RING, 1, null);
+        GameState s = GameState.arrange(RING, 2, new int[]{ H, F, RING.getStartId(), F }, 0);
+        List<YutResult> pending = List.of(YutResult.YUT);
+
+        // 표와 같은 3번까지의 보너스 던지기로 다음 던지기를 펼쳐 [윷] 에 더함
+        TurnOutcomes rolls = TurnOutcomes.upTo(3);
+        double expected = 0;
+        for (int i = 0; i < rolls.size(); i++) {
+            List<YutResult> all = new ArrayList<>(pending);
+            all.addAll(rolls.results(i));
+            expected += rolls.probability(i) * tb.probe(s, all);
+        }
+        double owed = tb.probe(s, pending, true);
+        assertEquals(expected, owed, 1e-9);
+        assertNotEquals(tb.probe(s, pending), owed, 1e-3, "남은 던지기를 빼먹으면 승률이 달라짐");
+        assertEquals(tb.probe(s, pending), tb.probe(s, pending, false));
+    }
+
+    @Test
+    @DisplayName("여러 스레드로 만든 표도 한 스레드로 만든 표와 같은 값")
+    void parallelMatchesSequential(@TempDir Path dir) throws IOException {
+        Tablebase one = Tablebase.generate(dir.resolve("one.ytb"), RING, 1, null);
+        Tablebase two = Tablebase.generate(dir.resolve("two.ytb"), RING, 2, null);
+        int[] codes = new int[RING.size() + 2];
+        for (int i = 0; i < RING.size(); i++) codes[i] = i;
+        codes[RING.size()] = H;
+        codes[RING.size() + 1] = F;
+        for (int a : codes) {
+            for (int b : codes) {
+                GameState s = GameState.arrange(RING, 2, new int[]{ a, F, b, F }, 0);
+                if (s.isWin(0) || s.isWin(1)) continue;
+                assertEquals(one.probe(s), two.probe(s), 1e-4, a + " vs " + b);
+            }
+        }
+    }
+
+    private static final class Interrupted extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+    }
+}
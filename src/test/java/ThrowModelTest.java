@@ -0,0 +1,59 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+import model.*;
+
+@DisplayName("윷 던지기 확률 모형 테스트")
+public class ThrowModelTest {
+
+    private static double[] frequencies(ThrowModel model, long seed, int throwsCount) {
+        SplittableRandom rand = new SplittableRandom(seed);
+        double[] freq = new double[YutResult.values().length];
+        for (int i = 0; i < throwsCount; i++) freq[model.sample(rand).ordinal()]++;
+        for (int i = 0; i < freq.length; i++) freq[i] /= throwsCount;
+        return freq;
+    }
+
+    @Test
+    @DisplayName("별칭표 추출 빈도가 확률 벡터를 따름")
+    void samplingMatchesProbabilities() {
+        ThrowModel biased = ThrowModel.sticks(0.6, true);
+        for (ThrowModel model : new ThrowModel[] { ThrowModel.STANDARD, biased, ThrowModel.of("no-backdo", 0, 17, 24, 16, 4, 3) }) {
+            double[] freq = frequencies(model, 7, 400_000);
+            for (YutResult r : YutResult.values()) {
+                assertEquals(model.probability(r), freq[r.ordinal()], 0.004, model.getName() + " " + r);
+            }
+        }
+        for (YutResult r : YutResult.values()) {
+            assertEquals(r.probability(), ThrowModel.STANDARD.probability(r), 1e-12);
+        }
+        assertEquals(0.4 * 0.4 * 0.4 * 0.4, biased.probability(YutResult.MO), 1e-12);
+        assertEquals(0.0, frequencies(ThrowModel.of("no-backdo", 0, 17, 24, 16, 4, 3), 3, 10_000)[0]);
+    }
+
+    @Test
+    @DisplayName("같은 씨앗이면 같은 결과 순서")
+    void reproducibleStreams() {
+        SplittableRandom a = new SplittableRandom(99), b = new SplittableRandom(99);
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(ThrowModel.STANDARD.sample(a), ThrowModel.STANDARD.sample(b));
+        }
+    }
+
+    @Test
+    @DisplayName("이름으로 모형을 고르고 잘못된 벡터는 거부")
+    void parseAndValidate() {
+        assertSame(ThrowModel.STANDARD, ThrowModel.parse("standard"));
+        assertEquals(1.0 / 16, ThrowModel.parse("sticks:0.5:marked").probability(YutResult.BACKDO), 1e-12);
+        assertEquals(0.0, ThrowModel.parse("sticks:0.5").probability(YutResult.BACKDO));
+        assertEquals(0.5, ThrowModel.parse("1,1,0,0,0,0").probability(YutResult.DO), 1e-12);
+
+        assertThrows(IllegalArgumentException.class, () -> ThrowModel.parse("1,2,3"));
+        assertThrows(IllegalArgumentException.class, () -> ThrowModel.parse("sticks:1.5"));
+        assertThrows(IllegalArgumentException.class, () -> ThrowModel.of("bad", -1, 1, 1, 1, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> ThrowModel.of("zero", 0, 0, 0, 0, 0, 0));
+    }
+}
@@ -0,0 +1,58 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+import model.*;
+
+@DisplayName("비트 묶음 던지기 테스트")
+public class ThrowStreamTest {
+
+    @Test
+    @DisplayName("6비트 64가지가 기본 규칙의 경우의 수와 정확히 같고 열 칸이 서로 섞이지 않음")
+    void decodeMatchesStandardWeights() {
+        int[] counts = new int[YutResult.values().length];
+        for (int v = 0; v < 64; v++) {
+            long word = 0;
+            for (int i = 0; i < ThrowStream.THROWS_PER_WORD; i++) word |= (long) v << (6 * i);
+            long decoded = ThrowStream.decode(word);
+            int ordinal = (int) decoded & 0x3F;
+            for (int i = 1; i < ThrowStream.THROWS_PER_WORD; i++) {
+                assertEquals(ordinal, (int) (decoded >>> (6 * i)) & 0x3F, "칸 " + i + ", 비트 " + v);
+            }
+            counts[ordinal]++;
+        }
+        for (YutResult r : YutResult.values()) assertEquals(r.getWeight(), counts[r.ordinal()], r.toString());
+
+        // 칸마다 다른 값이어도 각 칸은 자기 6비트로만 정해짐
+        SplittableRandom rand = new SplittableRandom(5);
+        for (int n = 0; n < 1_000; n++) {
+            long word = rand.nextLong();
+            long decoded = ThrowStream.decode(word);
+            for (int i = 0; i < ThrowStream.THROWS_PER_WORD; i++) {
+                long single = ThrowStream.decode(word >>> (6 * i) & 0x3F);
+                assertEquals(single & 0x3F, decoded >>> (6 * i) & 0x3F);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("한꺼번에 채워도 하나씩 꺼낸 것과 같은 순서, 한 차례는 윷/모가 아닌 결과로 끝남")
+    void bulkAndTurnsAgreeWithSingleThrows() {
+        ThrowStream single = new ThrowStream(new SplittableRandom(11));
+        ThrowStream bulk = new ThrowStream(new SplittableRandom(11));
+        byte[] out = new byte[37];
+        bulk.fill(out, 0, 3);
+        bulk.fill(out, 3, 34);
+        for (byte b : out) assertEquals(single.nextOrdinal(), b);
+
+        byte[] turn = new byte[64];
+        for (int t = 0; t < 1_000; t++) {
+            int n = single.nextTurn(turn, 0);
+            assertTrue(n >= 1);
+            for (int i = 0; i < n - 1; i++) assertTrue(YutResult.values()[turn[i]].grantsExtraThrow());
+            assertFalse(YutResult.values()[turn[n - 1]].grantsExtraThrow());
+        }
+    }
+}
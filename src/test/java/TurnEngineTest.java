@@ -0,0 +1,160 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import model.*;
+import model.turn.DecisionProvider;
+import model.turn.ScriptedProvider;
+import model.turn.TurnEngine;
+import model.turn.TurnPhase;
+import simulation.GreedyPolicy;
+import simulation.PolicyProvider;
+import simulation.RandomPolicy;
+
+@DisplayName("턴 엔진 테스트")
+public class TurnEngineTest {
+
+    @Test
+    @DisplayName("정해 둔 던지기: 잡으면 한 번 더 던지고 최대 턴에서 무승부")
+    void scriptedTurnsWithCapture() {
+        Game game = new Game(2, 1, new SquareBoard());
+        ScriptedProvider first = new ScriptedProvider(YutResult.DO);
+        ScriptedProvider second = new ScriptedProvider(YutResult.DO, YutResult.GAE);
+        TurnEngine engine = new TurnEngine(game, List.of(first, second));
+        engine.setMaxTurns(2);
+        List<TurnPhase> phases = new ArrayList<>();
+        engine.addObserver((e, phase) -> {
+            phases.add(phase);
+            return null;
+        });
+
+        CompletableFuture<Player> outcome = engine.play();
+        assertTrue(outcome.isDone(), "바로 답하는 결정자끼리는 play 안에서 끝남");
+        assertNull(outcome.join());
+        assertEquals(2, engine.getTurn());
+        assertEquals(0, second.remaining());
+
+        Piece caught = game.getPlayers().get(0).getPieces().get(0);
+        Piece catcher = game.getPlayers().get(1).getPieces().get(0);
+        assertNull(caught.getPosition(), "잡힌 말은 집으로");
+        assertEquals(3, catcher.getPosition().getId());
+        assertEquals(List.of(
+                TurnPhase.THROWING, TurnPhase.THROWN, TurnPhase.CHOOSING_RESULT, TurnPhase.CHOOSING_PIECE,
+                TurnPhase.MOVING, TurnPhase.TURN_ENDED,
+                TurnPhase.THROWING, TurnPhase.THROWN, TurnPhase.CHOOSING_RESULT, TurnPhase.CHOOSING_PIECE,
+                TurnPhase.MOVING,
+                TurnPhase.THROWING, TurnPhase.THROWN, TurnPhase.CHOOSING_RESULT, TurnPhase.CHOOSING_PIECE,
+                TurnPhase.MOVING, TurnPhase.TURN_ENDED, TurnPhase.GAME_OVER), phases);
+    }
+
+    @Test
+    @DisplayName("컴퓨터끼리는 화면 없이 끝까지 진행하고 승자는 모든 말을 완주")
+    void botsPlayToTheEnd() {
+        Game game = new Game(3, 4, new HexagonBoard());
+        SplittableRandom rand = new SplittableRandom(11);
+        List<DecisionProvider> bots = List.of(
+                new PolicyProvider(new GreedyPolicy(), rand),
+                new PolicyProvider(new RandomPolicy(), rand),
+                new PolicyProvider(new RandomPolicy(), rand));
+        CompletableFuture<Player> outcome = new TurnEngine(game, bots).play();
+
+        assertTrue(outcome.isDone());
+        Player winner = outcome.join();
+        assertNotNull(winner);
+        assertTrue(winner.allPiecesFinished());
+        assertSame(winner, game.getCurrentPlayer());
+    }
+
+    @Test
+    @DisplayName("나중에 답하는 결정자와 기다리게 하는 관찰자")
+    void asynchronousDecisions() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Game game = new Game(2, 2, new SquareBoard());
+            PolicyProvider bot = new PolicyProvider(new GreedyPolicy(), new SplittableRandom(5), pool);
+            TurnEngine engine = new TurnEngine(game, List.of(bot, bot));
+            int[] moves = new int[1];
+            engine.addObserver((e, phase) -> {
+                if (phase != TurnPhase.MOVING) return null;
+                moves[0]++;
+                return CompletableFuture.runAsync(() -> { }, pool);     // 애니메이션 대신
+            });
+
+            Player winner = engine.play().get(10, TimeUnit.SECONDS);
+            assertTrue(winner.allPiecesFinished());
+            assertTrue(moves[0] > 0);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("결과 선택을 취소하면 던진 결과를 버리지 않고 다시 물음")
+    void cancelledResultIsAskedAgain() {
+        Game game = new Game(2, 1, new SquareBoard());
+        List<List<YutResult>> asked = new ArrayList<>();
+        DecisionProvider dismissing = new DecisionProvider() {
+            private final ScriptedProvider script = new ScriptedProvider(YutResult.YUT, YutResult.DO);
+
+            @Override
+            public CompletableFuture<YutResult> throwYut(TurnEngine engine) {
+                return script.throwYut(engine);
+            }
+
+            @Override
+            public CompletableFuture<YutResult> chooseResult(TurnEngine engine, List<YutResult> pending) {
+                asked.add(List.copyOf(pending));
+                return CompletableFuture.completedFuture(asked.size() == 1 ? null : pending.get(0));
+            }
+
+            @Override
+            public CompletableFuture<Piece> choosePiece(TurnEngine engine, YutResult result) {
+                return script.choosePiece(engine, result);
+            }
+        };
+        TurnEngine engine = new TurnEngine(game, List.of(dismissing, new ScriptedProvider()));
+        engine.setMaxTurns(1);
+        engine.play().join();
+
+        assertEquals(List.of(YutResult.YUT, YutResult.DO), asked.get(0));
+        assertEquals(asked.get(0), asked.get(1), "취소한 뒤에도 같은 결과를 다시 물음");
+        assertEquals(5, game.getPlayers().get(0).getPieces().get(0).getPosition().getId(), "윷으로 움직이고 남은 도는 한 결과라 묻지 않고 씀");
+    }
+
+    @Test
+    @DisplayName("남의 말을 고르면 게임이 그 예외로 끝남")
+    void rejectsForeignPiece() {
+        Game game = new Game(2, 1, new SquareBoard());
+        Piece foreign = game.getPlayers().get(1).getPieces().get(0);
+        DecisionProvider cheater = new DecisionProvider() {
+            @Override
+            public CompletableFuture<YutResult> throwYut(TurnEngine engine) {
+                return CompletableFuture.completedFuture(YutResult.GAE);
+            }
+
+            @Override
+            public CompletableFuture<YutResult> chooseResult(TurnEngine engine, List<YutResult> pending) {
+                return CompletableFuture.completedFuture(pending.get(0));
+            }
+
+            @Override
+            public CompletableFuture<Piece> choosePiece(TurnEngine engine, YutResult result) {
+                return CompletableFuture.completedFuture(foreign);
+            }
+        };
+        CompletableFuture<Player> outcome = new TurnEngine(game, List.of(cheater, new ScriptedProvider())).play();
+
+        ExecutionException ex = assertThrows(ExecutionException.class, outcome::get);
+        assertTrue(ex.getCause() instanceof IllegalArgumentException);
+        assertNull(foreign.getPosition());
+    }
+}
@@ -0,0 +1,53 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import ai.TurnOutcomes;
+import model.*;
+
+@DisplayName("한 차례 결과 분포 테스트")
+public class TurnOutcomesTest {
+
+    private static double probabilityOf(TurnOutcomes outcomes, List<YutResult> results) {
+        for (int i = 0; i < outcomes.size(); i++) {
+            if (outcomes.results(i).equals(results)) return outcomes.probability(i);
+        }
+        return 0;
+    }
+
+    @Test
+    @DisplayName("확률 합은 1 이고 순서만 다른 던지기는 한 묶음")
+    void exactMultisetProbabilities() {
+        double extra = YutResult.YUT.probability() + YutResult.MO.probability();
+        for (int depth = 0; depth <= TurnOutcomes.MAX_EXTRA_THROWS; depth++) {
+            TurnOutcomes outcomes = TurnOutcomes.upTo(depth);
+            double sum = 0;
+            for (int i = 0; i < outcomes.size(); i++) {
+                sum += outcomes.probability(i);
+                if (i > 0) assertTrue(outcomes.probability(i) <= outcomes.probability(i - 1));
+            }
+            assertEquals(1.0, sum, 1e-12);
+            assertEquals(Math.pow(extra, depth + 1), outcomes.truncated(), 1e-15);
+            assertSame(outcomes, TurnOutcomes.upTo(depth));
+        }
+
+        TurnOutcomes one = TurnOutcomes.upTo(1);
+        double yut = YutResult.YUT.probability(), mo = YutResult.MO.probability(), gae = YutResult.GAE.probability();
+        assertEquals(yut * gae, probabilityOf(one, List.of(YutResult.GAE, YutResult.YUT)), 1e-15);
+        assertEquals(2 * yut * mo, probabilityOf(one, List.of(YutResult.YUT, YutResult.MO)), 1e-15);
+        assertEquals(0.0, probabilityOf(one, List.of(YutResult.YUT, YutResult.YUT, YutResult.DO)));
+        assertEquals(6, TurnOutcomes.upTo(0).size());
+    }
+
+    @Test
+    @DisplayName("다른 확률 모형과 범위 밖 깊이")
+    void customModelAndDepthCheck() {
+        TurnOutcomes noExtra = TurnOutcomes.of(ThrowModel.of("no-extra", 1, 1, 1, 1, 0, 0), 3);
+        assertEquals(4, noExtra.size());
+        assertEquals(0.0, noExtra.truncated());
+        assertSame(TurnOutcomes.upTo(2), TurnOutcomes.of(ThrowModel.STANDARD, 2));
+        assertThrows(IllegalArgumentException.class, () -> TurnOutcomes.upTo(TurnOutcomes.MAX_EXTRA_THROWS + 1));
+    }
+}
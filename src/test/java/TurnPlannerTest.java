@@ -0,0 +1,55 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import ai.TurnPlanner;
+import model.*;
+
+@DisplayName("한 차례 결과 순서 계획 테스트")
+public class TurnPlannerTest {
+
+    @Test
+    @DisplayName("잡을 수 있는 결과를 먼저 쓰고, 계획은 잡는 수에서 끝남")
+    void capturesFirst() {
+        Game game = new Game(2, 2, new SquareBoard());
+        Piece enemy = game.getPlayers().get(1).getPieces().get(0);
+        game.getBoard().movePiece(enemy, YutResult.GAE.getStepCount());
+
+        TurnPlanner.Plan plan = new TurnPlanner().plan(game, List.of(YutResult.DO, YutResult.GAE));
+        assertEquals(1, plan.steps().size());
+        assertEquals(YutResult.GAE, plan.steps().get(0).result());
+    }
+
+    @Test
+    @DisplayName("결과 네 개, 말 다섯 개도 짧은 시간 안에 계획")
+    void plansFourResultsQuickly() {
+        RoutingTable routes = new PentagonBoard().getRoutingTable();
+        GameState s = GameState.initial(routes, 2, 5);
+        Random rand = new Random(7);
+        for (int move = 0; move < 12; move++) {
+            s = GameState.apply(s, rand.nextInt(10), YutResult.values()[1 + rand.nextInt(4)]);
+        }
+        List<YutResult> pending = List.of(YutResult.MO, YutResult.YUT, YutResult.GAE, YutResult.DO);
+        TurnPlanner planner = new TurnPlanner();
+        for (int i = 0; i < 50; i++) planner.plan(s, pending);   // JIT 준비
+
+        // 한 번씩 잰 시간의 중앙값 (GC 한 번에 흔들리지 않도록)
+        long[] nanos = new long[21];
+        TurnPlanner.Plan plan = null;
+        for (int i = 0; i < nanos.length; i++) {
+            long start = System.nanoTime();
+            plan = planner.plan(s, pending);
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        double millis = nanos[nanos.length / 2] / 1e6;
+
+        assertFalse(plan.steps().isEmpty());
+        assertTrue(plan.steps().size() <= pending.size());
+        assertTrue(millis < 50, "계획에 " + millis + "ms");
+    }
+}
@@ -0,0 +1,76 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import ai.Tablebase;
+import ai.WinEstimator;
+import model.*;
+
+@DisplayName("승률 추정기 테스트")
+public class WinEstimatorTest {
+
+    @Test
+    @DisplayName("첫 추정값을 곧바로 알리고 표본을 늘려 가며 다듬음")
+    void refinesProgressively() throws InterruptedException {
+        GameState s = GameState.initial(new SquareBoard().getRoutingTable(), 3, 2);
+        BlockingQueue<WinEstimator.Estimate> updates = new ArrayBlockingQueue<>(64);
+        try (WinEstimator estimator = new WinEstimator(null)) {
+            estimator.estimate(s, List.of(YutResult.MO, YutResult.GAE), updates::offer);
+
+            WinEstimator.Estimate first = updates.poll(2, TimeUnit.SECONDS);
+            WinEstimator.Estimate second = updates.poll(2, TimeUnit.SECONDS);
+            assertNotNull(first);
+            assertNotNull(second);
+            assertFalse(first.exact());
+            assertTrue(second.samples() > first.samples());
+
+            double sum = 0;
+            for (double p : second.winRates()) sum += p;
+            assertEquals(1.0, sum, 1e-9);
+        }
+    }
+
+    @Test
+    @DisplayName("새 위치를 맡기면 이전 계산은 멈춤")
+    void restartCancelsPrevious() throws InterruptedException {
+        RoutingTable routes = new PentagonBoard().getRoutingTable();
+        AtomicInteger oldUpdates = new AtomicInteger();
+        BlockingQueue<WinEstimator.Estimate> updates = new ArrayBlockingQueue<>(64);
+        try (WinEstimator estimator = new WinEstimator(null)) {
+            estimator.estimate(GameState.initial(routes, 2, 4), List.of(), e -> oldUpdates.incrementAndGet());
+            estimator.estimate(GameState.initial(routes, 2, 2), List.of(), updates::offer);
+
+            assertNotNull(updates.poll(2, TimeUnit.SECONDS));
+            int seen = oldUpdates.get();
+            assertNotNull(updates.poll(2, TimeUnit.SECONDS));
+            assertEquals(seen, oldUpdates.get());
+        }
+    }
+
+    @Test
+    @DisplayName("던질 차례가 남은 위치는 승률표에서도 그 던지기까지 더해 계산")
+    void owedThrowReachesTablebase(@TempDir Path dir) throws IOException, InterruptedException {
+        RoutingTable ring = new PolygonBoard(3, 2).getRoutingTable();
+        Tablebase tb = Tablebase.generate(dir.resolve("ring.ytb"), ring, 1, null);
+        int h = GameState.HOME, f = GameState.FINISHED;
+        GameState s = GameState.arrange(ring, 2, new int[]{ h, f, ring.getStartId(), f }, 0);
+        List<YutResult> pending = List.of(YutResult.YUT);
+        BlockingQueue<WinEstimator.Estimate> updates = new ArrayBlockingQueue<>(64);
+        try (WinEstimator estimator = new WinEstimator(tb)) {
+            estimator.estimate(s, pending, true, updates::offer);
+            WinEstimator.Estimate e = updates.poll(2, TimeUnit.SECONDS);
+            assertNotNull(e);
+            assertTrue(e.exact());
+            assertEquals(tb.probe(s, pending, true), e.winRates()[0], 1e-9);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import ai.TranspositionTable;
+import model.*;
+
+@DisplayName("위치 해시와 치환표 테스트")
+public class ZobristTest {
+
+    @Test
+    @DisplayName("수순이 달라도 같은 배치면 같은 해시, 차례와 남은 결과는 구분")
+    void transpositionsShareHash() {
+        RoutingTable routes = new SquareBoard().getRoutingTable();
+        GameState start = GameState.initial(routes, 2, 2);
+        GameState a = GameState.apply(GameState.apply(start, 0, YutResult.DO), 1, YutResult.GAE);
+        GameState b = GameState.apply(GameState.apply(start, 1, YutResult.GAE), 0, YutResult.DO);
+
+        assertEquals(a.zobrist(), b.zobrist());
+        assertEquals(0, start.zobrist() ^ Zobrist.sideToMove(0), "시작 배치는 0");
+        assertNotEquals(a.zobrist(), a.nextTurn().zobrist());
+        assertEquals(Zobrist.pending(List.of(YutResult.DO, YutResult.YUT)),
+                Zobrist.pending(List.of(YutResult.YUT, YutResult.DO)));
+        assertNotEquals(Zobrist.pending(List.of(YutResult.DO)), Zobrist.pending(List.of(YutResult.DO, YutResult.DO)));
+    }
+
+    @Test
+    @DisplayName("치환표: 저장한 값을 다시 찾고, 묶음이 차면 지난 탐색의 얕은 칸부터 덮어씀")
+    void tableStoresAndReplaces() {
+        TranspositionTable table = new TranspositionTable(4);   // 묶음 두 개
+        table.store(0L, 1.5, 3, TranspositionTable.EXACT, 7);
+        long hit = table.probe(0L);
+        assertNotEquals(TranspositionTable.MISS, hit);
+        assertEquals(1.5, TranspositionTable.score(hit));
+        assertEquals(3, TranspositionTable.depth(hit));
+        assertEquals(7, TranspositionTable.move(hit));
+        assertEquals(TranspositionTable.MISS, table.probe(2L));
+
+        // 키 0, 2, 4 는 같은 묶음: 깊이 1 칸(2)이 새 항목(4)에 밀려남
+        table.store(2L, -1, 1, TranspositionTable.LOWER, TranspositionTable.NO_MOVE);
+        table.newSearch();
+        table.store(4L, 0, 2, TranspositionTable.UPPER, TranspositionTable.NO_MOVE);
+        assertNotEquals(TranspositionTable.MISS, table.probe(0L));
+        assertEquals(TranspositionTable.MISS, table.probe(2L));
+        assertEquals(TranspositionTable.UPPER, TranspositionTable.bound(table.probe(4L)));
+    }
+}